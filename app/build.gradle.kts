@@ -39,8 +39,19 @@ android {
     buildFeatures {
         viewBinding = true
         compose = true
+        buildConfig = true
+    }
+    testOptions {
+        unitTests.all { test ->
+            // Suítes de desempenho (RoomPerformanceTest): tamanhos e limites via -Pperf.*
+            val perfProperties = project.properties.filterKeys { it.startsWith("perf.") }
+            perfProperties.forEach { (key, value) -> test.systemProperty(key, value.toString()) }
+            // Heap maior só quando a suíte é configurada (ex.: perf.room.sizes com 1M de linhas)
+            if (perfProperties.isNotEmpty()) {
+                test.maxHeapSize = "2g"
+            }
+        }
     }
-
 
 }
 
@@ -69,8 +80,12 @@ dependencies {
     // Room Database
     implementation(libs.androidx.room.runtime)
     implementation(libs.androidx.room.ktx)
+    implementation(libs.androidx.sqlite.framework)
     kapt("androidx.room:room-compiler:2.6.1")
 
+    // Armazenamento criptografado das credenciais
+    implementation(libs.androidx.security.crypto)
+
     // Retrofit2 for API calls
     implementation(libs.retrofit)
     implementation(libs.retrofit.gson)
@@ -86,6 +101,10 @@ dependencies {
 
     // Testing
     testImplementation(libs.junit)
+    testImplementation(libs.okhttp.mockwebserver)
+    testImplementation(libs.robolectric)
+    testImplementation(libs.androidx.test.core)
+    testImplementation(libs.androidx.arch.core.testing)
     androidTestImplementation(libs.androidx.junit)
     androidTestImplementation(libs.androidx.espresso.core)
 }
@@ -1,12 +1,66 @@
 package br.com.tecpontes.appfinanceiro
 
+import android.app.Activity
 import android.app.Application
+import android.os.Bundle
+import br.com.tecpontes.appfinanceiro.data.local.DatabasePrewarmer
+import br.com.tecpontes.appfinanceiro.data.repository.TransactionWindowCache
+import br.com.tecpontes.appfinanceiro.network.NetworkWarmer
+import br.com.tecpontes.appfinanceiro.utils.TokenManager
 import dagger.hilt.android.HiltAndroidApp
+import javax.inject.Inject
 
 @HiltAndroidApp
 class AppFinanceiroApplication : Application() {
 
+    @Inject
+    lateinit var databasePrewarmer: DatabasePrewarmer
+
+    @Inject
+    lateinit var transactionWindowCache: TransactionWindowCache
+
+    @Inject
+    lateinit var networkWarmer: NetworkWarmer
+
+    // Criado aqui para que as credenciais sejam lidas em background antes da primeira Activity
+    @Inject
+    lateinit var tokenManager: TokenManager
+
     override fun onCreate() {
         super.onCreate()
+
+        // Abre o banco em background enquanto a primeira Activity é criada
+        databasePrewarmer.prewarm()
+
+        // Constrói OkHttp/Retrofit em background; as telas não dependem disso para o primeiro frame
+        networkWarmer.warmUp()
+
+        // Ao voltar para o primeiro plano, reabre conexões com a API antes das primeiras chamadas
+        registerActivityLifecycleCallbacks(object : ActivityLifecycleCallbacks {
+            private var startedActivities = 0
+
+            override fun onActivityStarted(activity: Activity) {
+                if (startedActivities++ == 0) {
+                    networkWarmer.warmConnections()
+                }
+            }
+
+            override fun onActivityStopped(activity: Activity) {
+                startedActivities--
+            }
+
+            override fun onActivityCreated(activity: Activity, savedInstanceState: Bundle?) {}
+            override fun onActivityResumed(activity: Activity) {}
+            override fun onActivityPaused(activity: Activity) {}
+            override fun onActivitySaveInstanceState(activity: Activity, outState: Bundle) {}
+            override fun onActivityDestroyed(activity: Activity) {}
+        })
+    }
+
+    override fun onTrimMemory(level: Int) {
+        super.onTrimMemory(level)
+
+        // Libera as janelas de transações em cache sob pressão de memória
+        transactionWindowCache.trimMemory(level)
     }
 }
@@ -1,2 +0,0 @@
-// This file has been replaced by MainActivity.kt
-// Please use the Kotlin version for any modifications
@@ -4,9 +4,14 @@ import android.util.Log;
 import androidx.room.Database;
 import androidx.room.RoomDatabase;
 import androidx.room.TypeConverters;
+import androidx.room.migration.Migration;
+import androidx.sqlite.db.SupportSQLiteDatabase;
 import br.com.tecpontes.appfinanceiro.data.local.dao.AccountDao;
+import br.com.tecpontes.appfinanceiro.data.local.dao.SyncTelemetryDao;
 import br.com.tecpontes.appfinanceiro.data.local.dao.TransactionDao;
 import br.com.tecpontes.appfinanceiro.data.local.entity.Account;
+import br.com.tecpontes.appfinanceiro.data.local.entity.SyncState;
+import br.com.tecpontes.appfinanceiro.data.local.entity.SyncTelemetry;
 import br.com.tecpontes.appfinanceiro.data.local.entity.Transaction;
 
 /**
@@ -15,9 +20,11 @@ import br.com.tecpontes.appfinanceiro.data.local.entity.Transaction;
 @Database(
     entities = {
         Account.class,
-        Transaction.class
+        Transaction.class,
+        SyncTelemetry.class,
+        SyncState.class
     },
-    version = 1,
+    version = 4,
     exportSchema = false
 )
 public abstract class AppDatabase extends RoomDatabase {
@@ -27,6 +34,51 @@ public abstract class AppDatabase extends RoomDatabase {
 
     public abstract AccountDao accountDao();
     public abstract TransactionDao transactionDao();
+    public abstract SyncTelemetryDao syncTelemetryDao();
+
+    /**
+     * Migração 1 -> 2: colunas de tombstone e índices com filtro de exclusão
+     */
+    public static final Migration MIGRATION_1_2 = new Migration(1, 2) {
+        @Override
+        public void migrate(SupportSQLiteDatabase db) {
+            Log.d(TAG, "Migrando database 1 -> 2 (tombstones)");
+            db.execSQL("ALTER TABLE `transactions` ADD COLUMN `deleted` INTEGER NOT NULL DEFAULT 0");
+            db.execSQL("ALTER TABLE `transactions` ADD COLUMN `deletedAt` INTEGER NOT NULL DEFAULT 0");
+            db.execSQL("DROP INDEX IF EXISTS `index_transactions_accountId_date`");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_transactions_accountId_deleted_date` ON `transactions` (`accountId`, `deleted`, `date`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_transactions_deleted_date` ON `transactions` (`deleted`, `date`)");
+        }
+    };
+
+    /**
+     * Migração 2 -> 3: tabela de telemetria de sincronização
+     */
+    public static final Migration MIGRATION_2_3 = new Migration(2, 3) {
+        @Override
+        public void migrate(SupportSQLiteDatabase db) {
+            Log.d(TAG, "Migrando database 2 -> 3 (telemetria de sync)");
+            db.execSQL("CREATE TABLE IF NOT EXISTS `sync_telemetry` ("
+                    + "`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, `timestamp` INTEGER NOT NULL, "
+                    + "`endpoint` TEXT NOT NULL, `bytes` INTEGER NOT NULL, `rowCount` INTEGER NOT NULL, "
+                    + "`networkMs` INTEGER NOT NULL, `parseMs` INTEGER NOT NULL, `writeMs` INTEGER NOT NULL, "
+                    + "`totalMs` INTEGER NOT NULL, `outcome` TEXT NOT NULL)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_sync_telemetry_timestamp` ON `sync_telemetry` (`timestamp`)");
+        }
+    };
+
+    /**
+     * Migração 3 -> 4: cursor do delta sync por conta (antes derivado de MAX(lastSync));
+     * sem linhas, o primeiro sync de cada conta baixa tudo novamente
+     */
+    public static final Migration MIGRATION_3_4 = new Migration(3, 4) {
+        @Override
+        public void migrate(SupportSQLiteDatabase db) {
+            Log.d(TAG, "Migrando database 3 -> 4 (cursor de sync)");
+            db.execSQL("CREATE TABLE IF NOT EXISTS `sync_state` ("
+                    + "`accountId` TEXT NOT NULL, `changesCursor` INTEGER NOT NULL, PRIMARY KEY(`accountId`))");
+        }
+    };
 
     /**
      * Classe utilitária para conversões de tipo
@@ -0,0 +1,100 @@
+package br.com.tecpontes.appfinanceiro.data.local;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import br.com.tecpontes.appfinanceiro.model.DashboardDto;
+import dagger.hilt.android.qualifiers.ApplicationContext;
+import java.util.Collections;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Guarda o último DashboardDto recebido da API em um snapshot compacto (apenas os totais),
+ * para o dashboard ser exibido imediatamente enquanto revalida em background.
+ * As transações recentes do DTO são persistidas no Room pelo DashboardRepository.
+ */
+@Singleton
+public class DashboardSnapshotStore {
+
+    private static final String TAG = "DashboardSnapshotStore";
+
+    private static final String PREF_NAME = "dashboard_snapshot";
+    private static final String KEY_SAVED_AT = "saved_at";
+    private static final String KEY_TOTAL_BALANCE = "total_balance";
+    private static final String KEY_MONTHLY_INCOME = "monthly_income";
+    private static final String KEY_MONTHLY_EXPENSES = "monthly_expenses";
+    private static final String KEY_ACCOUNTS_COUNT = "accounts_count";
+    private static final String KEY_CURRENCY = "currency";
+
+    private final SharedPreferences preferences;
+
+    @Inject
+    public DashboardSnapshotStore(@ApplicationContext Context context) {
+        // getSharedPreferences já inicia a leitura do arquivo em background
+        this.preferences = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+    }
+
+    /**
+     * Salva o snapshot do dashboard
+     */
+    public void save(@NonNull DashboardDto dashboard, long savedAt) {
+        preferences.edit()
+                .putLong(KEY_SAVED_AT, savedAt)
+                .putLong(KEY_TOTAL_BALANCE, Double.doubleToRawLongBits(dashboard.getTotalBalance()))
+                .putLong(KEY_MONTHLY_INCOME, Double.doubleToRawLongBits(dashboard.getMonthlyIncome()))
+                .putLong(KEY_MONTHLY_EXPENSES, Double.doubleToRawLongBits(dashboard.getMonthlyExpenses()))
+                .putInt(KEY_ACCOUNTS_COUNT, dashboard.getAccountsCount())
+                .putString(KEY_CURRENCY, dashboard.getCurrency())
+                .apply();
+        Log.d(TAG, "Snapshot do dashboard salvo");
+    }
+
+    /**
+     * Carrega o último snapshot salvo
+     */
+    @Nullable
+    public Snapshot load() {
+        long savedAt = preferences.getLong(KEY_SAVED_AT, 0);
+        if (savedAt == 0) {
+            return null;
+        }
+
+        DashboardDto dashboard = new DashboardDto(
+                Double.longBitsToDouble(preferences.getLong(KEY_TOTAL_BALANCE, 0)),
+                Double.longBitsToDouble(preferences.getLong(KEY_MONTHLY_INCOME, 0)),
+                Double.longBitsToDouble(preferences.getLong(KEY_MONTHLY_EXPENSES, 0)),
+                preferences.getInt(KEY_ACCOUNTS_COUNT, 0),
+                Collections.emptyList(),
+                preferences.getString(KEY_CURRENCY, null)
+        );
+        return new Snapshot(dashboard, savedAt);
+    }
+
+    /**
+     * Snapshot do dashboard com o horário em que foi obtido da API
+     */
+    public static class Snapshot {
+
+        @NonNull
+        private final DashboardDto dashboard;
+
+        private final long savedAt;
+
+        public Snapshot(@NonNull DashboardDto dashboard, long savedAt) {
+            this.dashboard = dashboard;
+            this.savedAt = savedAt;
+        }
+
+        @NonNull
+        public DashboardDto getDashboard() {
+            return dashboard;
+        }
+
+        public long getSavedAt() {
+            return savedAt;
+        }
+    }
+}
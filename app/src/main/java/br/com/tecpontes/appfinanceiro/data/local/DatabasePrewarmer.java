@@ -0,0 +1,80 @@
+package br.com.tecpontes.appfinanceiro.data.local;
+
+import android.database.Cursor;
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import br.com.tecpontes.appfinanceiro.data.local.dao.AccountDao;
+import br.com.tecpontes.appfinanceiro.data.local.dao.TransactionDao;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Abre o AppDatabase e aquece as queries mais usadas em background durante o startup,
+ * tirando a validação do schema e a abertura da conexão do caminho do primeiro frame
+ */
+@Singleton
+public class DatabasePrewarmer {
+
+    private static final String TAG = "DatabasePrewarmer";
+
+    // SQL dos próprios DAOs, usados pelo dashboard e pela lista de transações
+    private static final String[] HOT_QUERIES = {
+        AccountDao.ALL_ACCOUNTS_QUERY,
+        AccountDao.TOTAL_BALANCE_QUERY,
+        TransactionDao.RECENT_LIST_ITEMS_QUERY,
+        TransactionDao.ALL_LIST_ITEMS_QUERY
+    };
+
+    // Linhas percorridas por consulta (a primeira janela do cursor já passa pelo índice inteiro)
+    private static final int MAX_ROWS = 50;
+
+    private final AppDatabase database;
+    private final ExecutorService executorService;
+    private final AtomicBoolean started = new AtomicBoolean(false);
+
+    @Inject
+    public DatabasePrewarmer(AppDatabase database) {
+        this.database = database;
+        this.executorService = Executors.newSingleThreadExecutor();
+    }
+
+    /**
+     * Dispara o aquecimento em background (executa apenas uma vez por processo)
+     */
+    public void prewarm() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+
+        executorService.execute(() -> {
+            long start = SystemClock.elapsedRealtime();
+            try {
+                // Abre a conexão (valida schema, executa migrações e callbacks)
+                SupportSQLiteDatabase db = database.getOpenHelper().getWritableDatabase();
+                long openedAt = SystemClock.elapsedRealtime();
+
+                // Compila e percorre as queries quentes para popular o cache de páginas
+                for (String sql : HOT_QUERIES) {
+                    try (Cursor cursor = db.query(sql)) {
+                        int rows = 0;
+                        while (rows < MAX_ROWS && cursor.moveToNext()) {
+                            rows++;
+                        }
+                    }
+                }
+
+                long end = SystemClock.elapsedRealtime();
+                Log.d(TAG, "Database pré-aquecido - abertura: " + (openedAt - start) + "ms, queries: "
+                        + (end - openedAt) + "ms, total: " + (end - start) + "ms");
+            } catch (Exception e) {
+                Log.e(TAG, "Erro ao pré-aquecer database", e);
+            } finally {
+                executorService.shutdown();
+            }
+        });
+    }
+}
@@ -0,0 +1,191 @@
+package br.com.tecpontes.appfinanceiro.data.local;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Registra as consultas SQL lentas (acima de SLOW_QUERY_MS) ou executadas na main thread,
+ * medidas pelo TimingOpenHelperFactory, em um ring buffer em memória, e monta o relatório
+ * das piores por SQL para a tela de debug
+ */
+@Singleton
+public class SlowQueryLog {
+
+    private static final String TAG = "SlowQueryLog";
+
+    // Acima disso a consulta é considerada lenta (~3 frames)
+    public static final long SLOW_QUERY_MS = 50;
+
+    static final int CAPACITY = 256;
+
+    // Listas de IN com tamanhos diferentes viram a mesma consulta
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+
+    private final QueryEvent[] events = new QueryEvent[CAPACITY];
+    private int next = 0;
+    private int count = 0;
+
+    private final AtomicLong executions = new AtomicLong();
+
+    @Inject
+    public SlowQueryLog() {
+    }
+
+    /**
+     * Indica se a execução deve ser registrada (evita montar o formato dos argumentos à toa)
+     */
+    public static boolean shouldRecord(long durationNanos, boolean mainThread) {
+        return mainThread || durationNanos >= SLOW_QUERY_MS * 1_000_000L;
+    }
+
+    /**
+     * Conta uma execução medida (registrada ou não)
+     */
+    public void countExecution() {
+        executions.incrementAndGet();
+    }
+
+    /**
+     * Registra uma consulta lenta ou na main thread
+     */
+    public void record(@NonNull String sql, @NonNull String argShape, int rows, long durationNanos,
+                       boolean mainThread) {
+        QueryEvent event = new QueryEvent(normalize(sql), argShape, rows, durationNanos / 1_000_000L,
+                mainThread, Thread.currentThread().getName(), System.currentTimeMillis());
+        synchronized (this) {
+            events[next] = event;
+            next = (next + 1) % CAPACITY;
+            if (count < CAPACITY) {
+                count++;
+            }
+        }
+
+        Log.w(TAG, (mainThread ? "Consulta na main thread" : "Consulta lenta") + " (" + event.durationMs + "ms, "
+                + rows + " linhas, args " + argShape + ", thread " + event.threadName + "): " + event.sql);
+    }
+
+    /**
+     * Indica se o log detalhado está ativo (adb shell setprop log.tag.SlowQueryLog VERBOSE);
+     * consultado ao criar o banco, para o QueryCallback só ser instalado quando necessário
+     */
+    public static boolean isQueryLoggingEnabled() {
+        return Log.isLoggable(TAG, Log.VERBOSE);
+    }
+
+    /**
+     * Consulta executada pelo Room (RoomDatabase.QueryCallback), apenas para log detalhado
+     */
+    public void onQuery(@NonNull String sql, @NonNull List<?> bindArgs) {
+        Log.v(TAG, sql + " " + bindArgs);
+    }
+
+    public long getExecutionCount() {
+        return executions.get();
+    }
+
+    /**
+     * Piores consultas (pela maior duração) entre os eventos atuais, agrupadas por SQL
+     */
+    @NonNull
+    public List<QuerySummary> getTopQueries(int limit) {
+        Map<String, QuerySummary> bySql = new HashMap<>();
+        synchronized (this) {
+            int start = (next - count + CAPACITY) % CAPACITY;
+            for (int i = 0; i < count; i++) {
+                QueryEvent event = events[(start + i) % CAPACITY];
+                QuerySummary summary = bySql.get(event.sql);
+                if (summary == null) {
+                    summary = new QuerySummary(event.sql);
+                    bySql.put(event.sql, summary);
+                }
+                summary.add(event);
+            }
+        }
+
+        List<QuerySummary> summaries = new ArrayList<>(bySql.values());
+        Collections.sort(summaries, (a, b) -> Long.compare(b.maxMs, a.maxMs));
+        return summaries.size() > limit ? summaries.subList(0, limit) : summaries;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(events, null);
+        next = 0;
+        count = 0;
+        executions.set(0);
+    }
+
+    @NonNull
+    static String normalize(@NonNull String sql) {
+        return IN_LIST.matcher(sql.trim()).replaceAll("(?…)");
+    }
+
+    /**
+     * Uma execução registrada
+     */
+    public static final class QueryEvent {
+
+        public final String sql;
+        public final String argShape;
+        public final int rows;
+        public final long durationMs;
+        public final boolean mainThread;
+        public final String threadName;
+        public final long timestamp;
+
+        QueryEvent(String sql, String argShape, int rows, long durationMs, boolean mainThread,
+                   String threadName, long timestamp) {
+            this.sql = sql;
+            this.argShape = argShape;
+            this.rows = rows;
+            this.durationMs = durationMs;
+            this.mainThread = mainThread;
+            this.threadName = threadName;
+            this.timestamp = timestamp;
+        }
+    }
+
+    /**
+     * Eventos de um mesmo SQL
+     */
+    public static final class QuerySummary {
+
+        public final String sql;
+        public int occurrences;
+        public int mainThreadOccurrences;
+        public long maxMs;
+        public long totalMs;
+        public int maxRows;
+        public String argShape = "";
+
+        QuerySummary(String sql) {
+            this.sql = sql;
+        }
+
+        void add(QueryEvent event) {
+            occurrences++;
+            if (event.mainThread) {
+                mainThreadOccurrences++;
+            }
+            totalMs += event.durationMs;
+            maxRows = Math.max(maxRows, event.rows);
+            if (event.durationMs >= maxMs) {
+                maxMs = event.durationMs;
+                argShape = event.argShape;
+            }
+        }
+
+        public long getAverageMs() {
+            return occurrences > 0 ? totalMs / occurrences : 0;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package br.com.tecpontes.appfinanceiro.data.local;
+
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import br.com.tecpontes.appfinanceiro.data.local.dao.SyncTelemetryDao;
+import br.com.tecpontes.appfinanceiro.data.local.entity.SyncTelemetry;
+import br.com.tecpontes.appfinanceiro.network.CallTimingInterceptor;
+import br.com.tecpontes.appfinanceiro.network.CircuitOpenException;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import retrofit2.Response;
+
+/**
+ * Log persistido de telemetria das sincronizações, importações e criações dos repositories.
+ *
+ * Cada operação abre um Run, que separa o tempo de rede (até o fim do download do corpo),
+ * de decodificação do JSON e de gravação no Room
+ * e grava uma linha na tabela sync_telemetry ao terminar (limitada às MAX_ROWS mais recentes).
+ * As estatísticas agregadas e a exportação CSV são usadas pelo suporte (tela de debug).
+ */
+@Singleton
+public class SyncTelemetryLog {
+
+    private static final String TAG = "SyncTelemetryLog";
+
+    // Linhas mantidas na tabela (as mais antigas são descartadas a cada inserção)
+    private static final int MAX_ROWS = 1000;
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_NETWORK_ERROR = "network_error";
+    public static final String OUTCOME_CIRCUIT_OPEN = "circuit_open";
+    public static final String OUTCOME_DB_ERROR = "db_error";
+    public static final String OUTCOME_CANCELLED = "cancelled";
+    public static final String OUTCOME_ERROR = "error";
+
+    private static final String CSV_HEADER =
+            "id,timestamp,endpoint,bytes,rows,networkMs,parseMs,writeMs,totalMs,outcome\n";
+
+    private final SyncTelemetryDao telemetryDao;
+    private final ExecutorService executorService;
+
+    @Inject
+    public SyncTelemetryLog(SyncTelemetryDao telemetryDao) {
+        this.telemetryDao = telemetryDao;
+        this.executorService = Executors.newSingleThreadExecutor();
+    }
+
+    /**
+     * Inicia a medição de uma operação do endpoint (método do ApiService)
+     */
+    @NonNull
+    public Run start(@NonNull String endpoint) {
+        return new Run(this, endpoint);
+    }
+
+    /**
+     * Resultado de uma resposta HTTP sem sucesso
+     */
+    @NonNull
+    public static String httpError(int code) {
+        return "http_" + code;
+    }
+
+    /**
+     * Resultado de uma falha do Retrofit (onFailure)
+     */
+    @NonNull
+    public static String failure(@NonNull Throwable t) {
+        return t instanceof CircuitOpenException ? OUTCOME_CIRCUIT_OPEN : OUTCOME_NETWORK_ERROR;
+    }
+
+    private void record(@NonNull SyncTelemetry telemetry) {
+        executorService.execute(() -> {
+            try {
+                telemetryDao.insertBounded(telemetry, MAX_ROWS);
+            } catch (Exception e) {
+                Log.e(TAG, "Erro ao gravar telemetria", e);
+            }
+        });
+        Log.d(TAG, telemetry.getEndpoint() + ": " + telemetry.getOutcome()
+                + " total=" + telemetry.getTotalMs() + "ms rede=" + telemetry.getNetworkMs()
+                + "ms json=" + telemetry.getParseMs() + "ms gravação=" + telemetry.getWriteMs()
+                + "ms linhas=" + telemetry.getRowCount());
+    }
+
+    /**
+     * Estatísticas por endpoint das operações iniciadas desde since (ms desde a época)
+     */
+    public void loadStats(long since, @NonNull StatsCallback callback) {
+        executorService.execute(() -> {
+            try {
+                callback.onSuccess(telemetryDao.getEndpointStats(since), telemetryDao.getSlowest(since, 5));
+            } catch (Exception e) {
+                Log.e(TAG, "Erro ao carregar telemetria", e);
+                callback.onError("Erro ao carregar telemetria: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Exporta todas as linhas em CSV para o arquivo informado
+     */
+    public void exportCsv(@NonNull File file, @NonNull ExportCallback callback) {
+        executorService.execute(() -> {
+            try {
+                List<SyncTelemetry> rows = telemetryDao.getAll();
+                StringBuilder csv = new StringBuilder(CSV_HEADER.length() + rows.size() * 80);
+                csv.append(CSV_HEADER);
+                for (SyncTelemetry row : rows) {
+                    csv.append(row.getId()).append(',')
+                            .append(row.getTimestamp()).append(',')
+                            .append(row.getEndpoint()).append(',')
+                            .append(row.getBytes()).append(',')
+                            .append(row.getRowCount()).append(',')
+                            .append(row.getNetworkMs()).append(',')
+                            .append(row.getParseMs()).append(',')
+                            .append(row.getWriteMs()).append(',')
+                            .append(row.getTotalMs()).append(',')
+                            .append(row.getOutcome()).append('\n');
+                }
+
+                try (Writer writer = new FileWriter(file)) {
+                    writer.write(csv.toString());
+                }
+                Log.d(TAG, "Telemetria exportada: " + rows.size() + " linhas em " + file);
+                callback.onSuccess(file, csv.toString());
+            } catch (IOException | RuntimeException e) {
+                Log.e(TAG, "Erro ao exportar telemetria", e);
+                callback.onError("Erro ao exportar: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Remove todas as linhas
+     */
+    public void clear() {
+        executorService.execute(() -> {
+            try {
+                telemetryDao.deleteAll();
+            } catch (Exception e) {
+                Log.e(TAG, "Erro ao limpar telemetria", e);
+            }
+        });
+    }
+
+    /**
+     * Tamanho do corpo da resposta pelo Content-Length recebido da rede; -1 se desconhecido
+     * (ex.: resposta chunked)
+     */
+    private static long responseBytes(@NonNull okhttp3.Response raw) {
+        okhttp3.Response networkResponse = raw.networkResponse();
+        String contentLength = networkResponse != null ? networkResponse.header("Content-Length") : null;
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength);
+            } catch (NumberFormatException e) {
+                // Usa o tamanho do corpo abaixo
+            }
+        }
+        return raw.body() != null ? raw.body().contentLength() : -1;
+    }
+
+    /**
+     * Medição de uma operação. Os métodos são chamados na ordem da operação (callback do Retrofit,
+     * depois executor do repository); finish grava apenas a primeira vez.
+     */
+    public static final class Run {
+
+        private final SyncTelemetryLog log;
+        private final String endpoint;
+        private final long timestamp = System.currentTimeMillis();
+        private final long startedAt = SystemClock.elapsedRealtime();
+        private final AtomicBoolean finished = new AtomicBoolean(false);
+
+        private long bytes = -1;
+        private long networkMs;
+        private long parseMs;
+        private long writeStartedAt;
+        private long writeMs;
+        private int rows;
+
+        Run(@NonNull SyncTelemetryLog log, @NonNull String endpoint) {
+            this.log = log;
+            this.endpoint = endpoint;
+        }
+
+        /**
+         * Define o tamanho do payload (ex.: arquivo enviado); caso contrário usa o da resposta
+         */
+        @NonNull
+        public Run bytes(long bytes) {
+            this.bytes = bytes;
+            return this;
+        }
+
+        /**
+         * Registra os tempos de rede e de decodificação medidos na thread do OkHttp
+         * (CallTimingInterceptor); chamar no início do onResponse
+         */
+        public void onResponse(@NonNull Response<?> response) {
+            okhttp3.Response raw = response.raw();
+            CallTimingInterceptor.Timings timings = CallTimingInterceptor.Timings.of(raw.request());
+            long bodyEndAt = timings != null ? timings.getBodyEndAtMillis() : -1;
+            // Sem o interceptor (ou corpo não lido) a rede vai só até os headers
+            long networkEndAt = bodyEndAt > 0 ? bodyEndAt : raw.receivedResponseAtMillis();
+            networkMs = Math.max(0, networkEndAt - raw.sentRequestAtMillis());
+            parseMs = timings != null ? Math.max(0, timings.getDecodeMs()) : 0;
+            if (bytes < 0) {
+                bytes = responseBytes(raw);
+            }
+        }
+
+        public void writeStarted() {
+            writeStartedAt = SystemClock.elapsedRealtime();
+        }
+
+        public void written(int rows) {
+            this.rows = rows;
+            writeMs = SystemClock.elapsedRealtime() - writeStartedAt;
+        }
+
+        public void success() {
+            finish(OUTCOME_SUCCESS);
+        }
+
+        public void finish(@NonNull String outcome) {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            if (writeStartedAt > 0 && writeMs == 0) {
+                // Gravação interrompida (erro ou cancelamento)
+                writeMs = SystemClock.elapsedRealtime() - writeStartedAt;
+            }
+            log.record(new SyncTelemetry(timestamp, endpoint, bytes, rows, networkMs, parseMs, writeMs,
+                    SystemClock.elapsedRealtime() - startedAt, outcome));
+        }
+    }
+
+    /**
+     * Interfaces para callbacks
+     */
+    public interface StatsCallback {
+        void onSuccess(List<SyncTelemetryDao.EndpointStats> stats, List<SyncTelemetry> slowest);
+        void onError(String error);
+    }
+
+    public interface ExportCallback {
+        void onSuccess(File file, String csv);
+        void onError(String error);
+    }
+}
@@ -0,0 +1,642 @@
+package br.com.tecpontes.appfinanceiro.data.local;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.CursorWrapper;
+import android.database.SQLException;
+import android.database.sqlite.SQLiteTransactionListener;
+import android.os.CancellationSignal;
+import android.os.Looper;
+import android.util.Pair;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.sqlite.db.SupportSQLiteOpenHelper;
+import androidx.sqlite.db.SupportSQLiteProgram;
+import androidx.sqlite.db.SupportSQLiteQuery;
+import androidx.sqlite.db.SupportSQLiteStatement;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * SupportSQLiteOpenHelper.Factory que envolve o banco do Room e mede cada consulta
+ * (do query até o fechamento do cursor, incluindo a leitura das linhas) e cada statement
+ * executado, repassando ao SlowQueryLog as lentas e as feitas na main thread
+ */
+public class TimingOpenHelperFactory implements SupportSQLiteOpenHelper.Factory {
+
+    private final SupportSQLiteOpenHelper.Factory delegate;
+    private final SlowQueryLog slowQueryLog;
+
+    public TimingOpenHelperFactory(@NonNull SupportSQLiteOpenHelper.Factory delegate,
+                                   @NonNull SlowQueryLog slowQueryLog) {
+        this.delegate = delegate;
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @NonNull
+    @Override
+    public SupportSQLiteOpenHelper create(@NonNull SupportSQLiteOpenHelper.Configuration configuration) {
+        return new TimingOpenHelper(delegate.create(configuration), slowQueryLog);
+    }
+
+    private static boolean isMainThread() {
+        return Looper.getMainLooper().isCurrentThread();
+    }
+
+    /**
+     * Tipos dos argumentos (ex.: "TEXT, INTEGER×3"), sem os valores
+     */
+    static final class ArgShape implements SupportSQLiteProgram {
+
+        private char[] types = new char[8];
+        private int count = 0;
+
+        static String of(@Nullable Object[] args) {
+            ArgShape shape = new ArgShape();
+            if (args != null) {
+                for (int i = 0; i < args.length; i++) {
+                    Object arg = args[i];
+                    char type;
+                    if (arg == null) {
+                        type = 'N';
+                    } else if (arg instanceof byte[]) {
+                        type = 'B';
+                    } else if (arg instanceof Float || arg instanceof Double) {
+                        type = 'R';
+                    } else if (arg instanceof Number || arg instanceof Boolean) {
+                        type = 'I';
+                    } else {
+                        type = 'T';
+                    }
+                    shape.set(i + 1, type);
+                }
+            }
+            return shape.toString();
+        }
+
+        static String of(@NonNull SupportSQLiteQuery query) {
+            ArgShape shape = new ArgShape();
+            query.bindTo(shape);
+            return shape.toString();
+        }
+
+        void set(int index, char type) {
+            if (index > types.length) {
+                types = Arrays.copyOf(types, Math.max(index, types.length * 2));
+            }
+            types[index - 1] = type;
+            count = Math.max(count, index);
+        }
+
+        @Override
+        public void bindNull(int index) {
+            set(index, 'N');
+        }
+
+        @Override
+        public void bindLong(int index, long value) {
+            set(index, 'I');
+        }
+
+        @Override
+        public void bindDouble(int index, double value) {
+            set(index, 'R');
+        }
+
+        @Override
+        public void bindString(int index, @NonNull String value) {
+            set(index, 'T');
+        }
+
+        @Override
+        public void bindBlob(int index, @NonNull byte[] value) {
+            set(index, 'B');
+        }
+
+        @Override
+        public void clearBindings() {
+            count = 0;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            if (count == 0) {
+                return "()";
+            }
+            StringBuilder sb = new StringBuilder();
+            int i = 0;
+            while (i < count) {
+                int run = 1;
+                while (i + run < count && types[i + run] == types[i]) {
+                    run++;
+                }
+                if (sb.length() > 0) {
+                    sb.append(", ");
+                }
+                sb.append(typeName(types[i]));
+                if (run > 1) {
+                    sb.append('×').append(run);
+                }
+                i += run;
+            }
+            return sb.toString();
+        }
+
+        private static String typeName(char type) {
+            switch (type) {
+                case 'I': return "INTEGER";
+                case 'R': return "REAL";
+                case 'T': return "TEXT";
+                case 'B': return "BLOB";
+                case 'N': return "NULL";
+                default: return "?";
+            }
+        }
+    }
+
+    private static final class TimingOpenHelper implements SupportSQLiteOpenHelper {
+
+        private final SupportSQLiteOpenHelper delegate;
+        private final SlowQueryLog slowQueryLog;
+        private volatile TimingDatabase database;
+
+        TimingOpenHelper(SupportSQLiteOpenHelper delegate, SlowQueryLog slowQueryLog) {
+            this.delegate = delegate;
+            this.slowQueryLog = slowQueryLog;
+        }
+
+        @Nullable
+        @Override
+        public String getDatabaseName() {
+            return delegate.getDatabaseName();
+        }
+
+        @Override
+        public void setWriteAheadLoggingEnabled(boolean enabled) {
+            delegate.setWriteAheadLoggingEnabled(enabled);
+        }
+
+        @NonNull
+        @Override
+        public SupportSQLiteDatabase getWritableDatabase() {
+            return wrap(delegate.getWritableDatabase());
+        }
+
+        @NonNull
+        @Override
+        public SupportSQLiteDatabase getReadableDatabase() {
+            return wrap(delegate.getReadableDatabase());
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+
+        private SupportSQLiteDatabase wrap(SupportSQLiteDatabase db) {
+            TimingDatabase current = database;
+            if (current == null || current.delegate != db) {
+                current = new TimingDatabase(db, slowQueryLog);
+                database = current;
+            }
+            return current;
+        }
+    }
+
+    private static final class TimingDatabase implements SupportSQLiteDatabase {
+
+        final SupportSQLiteDatabase delegate;
+        private final SlowQueryLog slowQueryLog;
+
+        TimingDatabase(SupportSQLiteDatabase delegate, SlowQueryLog slowQueryLog) {
+            this.delegate = delegate;
+            this.slowQueryLog = slowQueryLog;
+        }
+
+        // Consultas: medidas até o fechamento do cursor
+
+        @NonNull
+        @Override
+        public Cursor query(@NonNull String query) {
+            long start = System.nanoTime();
+            return new TimingCursor(delegate.query(query), slowQueryLog, query, null, null, start);
+        }
+
+        @NonNull
+        @Override
+        public Cursor query(@NonNull String query, @NonNull Object[] bindArgs) {
+            long start = System.nanoTime();
+            return new TimingCursor(delegate.query(query, bindArgs), slowQueryLog, query, bindArgs, null, start);
+        }
+
+        @NonNull
+        @Override
+        public Cursor query(@NonNull SupportSQLiteQuery query) {
+            long start = System.nanoTime();
+            return new TimingCursor(delegate.query(query), slowQueryLog, query.getSql(), null, query, start);
+        }
+
+        @NonNull
+        @Override
+        public Cursor query(@NonNull SupportSQLiteQuery query, @Nullable CancellationSignal cancellationSignal) {
+            long start = System.nanoTime();
+            return new TimingCursor(delegate.query(query, cancellationSignal), slowQueryLog, query.getSql(),
+                    null, query, start);
+        }
+
+        // Statements: medidos por execução
+
+        @NonNull
+        @Override
+        public SupportSQLiteStatement compileStatement(@NonNull String sql) {
+            return new TimingStatement(delegate.compileStatement(sql), slowQueryLog, sql);
+        }
+
+        @Override
+        public void execSQL(@NonNull String sql) throws SQLException {
+            long start = System.nanoTime();
+            delegate.execSQL(sql);
+            recordExecution(slowQueryLog, sql, null, 0, start);
+        }
+
+        @Override
+        public void execSQL(@NonNull String sql, @NonNull Object[] bindArgs) throws SQLException {
+            long start = System.nanoTime();
+            delegate.execSQL(sql, bindArgs);
+            recordExecution(slowQueryLog, sql, bindArgs, 0, start);
+        }
+
+        // Demais operações: repassadas sem medição
+
+        @Override
+        public void beginTransaction() {
+            delegate.beginTransaction();
+        }
+
+        @Override
+        public void beginTransactionNonExclusive() {
+            delegate.beginTransactionNonExclusive();
+        }
+
+        @Override
+        public void beginTransactionWithListener(@NonNull SQLiteTransactionListener transactionListener) {
+            delegate.beginTransactionWithListener(transactionListener);
+        }
+
+        @Override
+        public void beginTransactionWithListenerNonExclusive(@NonNull SQLiteTransactionListener transactionListener) {
+            delegate.beginTransactionWithListenerNonExclusive(transactionListener);
+        }
+
+        @Override
+        public void endTransaction() {
+            delegate.endTransaction();
+        }
+
+        @Override
+        public void setTransactionSuccessful() {
+            delegate.setTransactionSuccessful();
+        }
+
+        @Override
+        public boolean inTransaction() {
+            return delegate.inTransaction();
+        }
+
+        @Override
+        public boolean isDbLockedByCurrentThread() {
+            return delegate.isDbLockedByCurrentThread();
+        }
+
+        @Override
+        public boolean yieldIfContendedSafely() {
+            return delegate.yieldIfContendedSafely();
+        }
+
+        @Override
+        public boolean yieldIfContendedSafely(long sleepAfterYieldDelayMillis) {
+            return delegate.yieldIfContendedSafely(sleepAfterYieldDelayMillis);
+        }
+
+        @Override
+        public boolean isExecPerConnectionSQLSupported() {
+            return delegate.isExecPerConnectionSQLSupported();
+        }
+
+        @Override
+        public void execPerConnectionSQL(@NonNull String sql, @Nullable Object[] bindArgs) {
+            delegate.execPerConnectionSQL(sql, bindArgs);
+        }
+
+        @Override
+        public int getVersion() {
+            return delegate.getVersion();
+        }
+
+        @Override
+        public void setVersion(int version) {
+            delegate.setVersion(version);
+        }
+
+        @Override
+        public long getMaximumSize() {
+            return delegate.getMaximumSize();
+        }
+
+        @Override
+        public long setMaximumSize(long numBytes) {
+            return delegate.setMaximumSize(numBytes);
+        }
+
+        @Override
+        public long getPageSize() {
+            return delegate.getPageSize();
+        }
+
+        @Override
+        public void setPageSize(long numBytes) {
+            delegate.setPageSize(numBytes);
+        }
+
+        @Override
+        public long insert(@NonNull String table, int conflictAlgorithm, @NonNull ContentValues values)
+                throws SQLException {
+            return delegate.insert(table, conflictAlgorithm, values);
+        }
+
+        @Override
+        public int delete(@NonNull String table, @Nullable String whereClause, @Nullable Object[] whereArgs) {
+            return delegate.delete(table, whereClause, whereArgs);
+        }
+
+        @Override
+        public int update(@NonNull String table, int conflictAlgorithm, @NonNull ContentValues values,
+                          @Nullable String whereClause, @Nullable Object[] whereArgs) {
+            return delegate.update(table, conflictAlgorithm, values, whereClause, whereArgs);
+        }
+
+        @Override
+        public boolean isReadOnly() {
+            return delegate.isReadOnly();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        @Override
+        public boolean needUpgrade(int newVersion) {
+            return delegate.needUpgrade(newVersion);
+        }
+
+        @Nullable
+        @Override
+        public String getPath() {
+            return delegate.getPath();
+        }
+
+        @Override
+        public void setLocale(@NonNull Locale locale) {
+            delegate.setLocale(locale);
+        }
+
+        @Override
+        public void setMaxSqlCacheSize(int cacheSize) {
+            delegate.setMaxSqlCacheSize(cacheSize);
+        }
+
+        @Override
+        public void setForeignKeyConstraintsEnabled(boolean enabled) {
+            delegate.setForeignKeyConstraintsEnabled(enabled);
+        }
+
+        @Override
+        public boolean enableWriteAheadLogging() {
+            return delegate.enableWriteAheadLogging();
+        }
+
+        @Override
+        public void disableWriteAheadLogging() {
+            delegate.disableWriteAheadLogging();
+        }
+
+        @Override
+        public boolean isWriteAheadLoggingEnabled() {
+            return delegate.isWriteAheadLoggingEnabled();
+        }
+
+        @Nullable
+        @Override
+        public List<Pair<String, String>> getAttachedDbs() {
+            return delegate.getAttachedDbs();
+        }
+
+        @Override
+        public boolean isDatabaseIntegrityOk() {
+            return delegate.isDatabaseIntegrityOk();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
+    private static void recordExecution(SlowQueryLog slowQueryLog, String sql, @Nullable Object[] args,
+                                        int rows, long start) {
+        long duration = System.nanoTime() - start;
+        slowQueryLog.countExecution();
+        boolean mainThread = isMainThread();
+        if (SlowQueryLog.shouldRecord(duration, mainThread)) {
+            slowQueryLog.record(sql, ArgShape.of(args), rows, duration, mainThread);
+        }
+    }
+
+    /**
+     * Cursor que registra a consulta ao ser fechado, com as linhas lidas até então
+     */
+    private static final class TimingCursor extends CursorWrapper {
+
+        private final SlowQueryLog slowQueryLog;
+        private final String sql;
+        @Nullable private final Object[] bindArgs;
+        @Nullable private final SupportSQLiteQuery query;
+        private final long start;
+        private final boolean mainThread;
+        private int maxPosition = -1;
+        private boolean recorded = false;
+
+        TimingCursor(Cursor cursor, SlowQueryLog slowQueryLog, String sql, @Nullable Object[] bindArgs,
+                     @Nullable SupportSQLiteQuery query, long start) {
+            super(cursor);
+            this.slowQueryLog = slowQueryLog;
+            this.sql = sql;
+            this.bindArgs = bindArgs;
+            this.query = query;
+            this.start = start;
+            // A consulta é aberta na thread que chamou o DAO
+            this.mainThread = isMainThread();
+        }
+
+        @Override
+        public boolean moveToFirst() {
+            return track(super.moveToFirst());
+        }
+
+        @Override
+        public boolean moveToNext() {
+            return track(super.moveToNext());
+        }
+
+        @Override
+        public boolean moveToPosition(int position) {
+            return track(super.moveToPosition(position));
+        }
+
+        @Override
+        public boolean moveToLast() {
+            return track(super.moveToLast());
+        }
+
+        private boolean track(boolean moved) {
+            if (moved) {
+                maxPosition = Math.max(maxPosition, getPosition());
+            }
+            return moved;
+        }
+
+        @Override
+        public void close() {
+            super.close();
+            if (recorded) {
+                return;
+            }
+            recorded = true;
+
+            long duration = System.nanoTime() - start;
+            slowQueryLog.countExecution();
+            if (SlowQueryLog.shouldRecord(duration, mainThread)) {
+                // O Room só devolve a RoomSQLiteQuery ao pool depois de fechar o cursor
+                String shape = query != null ? ArgShape.of(query) : ArgShape.of(bindArgs);
+                slowQueryLog.record(sql, shape, maxPosition + 1, duration, mainThread);
+            }
+        }
+    }
+
+    /**
+     * Statement compilado (inserts, updates e deletes do Room) medido a cada execução;
+     * os tipos dos argumentos são acompanhados nos binds
+     */
+    private static final class TimingStatement implements SupportSQLiteStatement {
+
+        private final SupportSQLiteStatement delegate;
+        private final SlowQueryLog slowQueryLog;
+        private final String sql;
+        private final ArgShape shape = new ArgShape();
+
+        TimingStatement(SupportSQLiteStatement delegate, SlowQueryLog slowQueryLog, String sql) {
+            this.delegate = delegate;
+            this.slowQueryLog = slowQueryLog;
+            this.sql = sql;
+        }
+
+        private void recordStatement(long start, int rows) {
+            long duration = System.nanoTime() - start;
+            slowQueryLog.countExecution();
+            boolean mainThread = isMainThread();
+            if (SlowQueryLog.shouldRecord(duration, mainThread)) {
+                slowQueryLog.record(sql, shape.toString(), rows, duration, mainThread);
+            }
+        }
+
+        @Override
+        public void execute() {
+            long start = System.nanoTime();
+            delegate.execute();
+            recordStatement(start, 0);
+        }
+
+        @Override
+        public int executeUpdateDelete() {
+            long start = System.nanoTime();
+            int rows = delegate.executeUpdateDelete();
+            recordStatement(start, rows);
+            return rows;
+        }
+
+        @Override
+        public long executeInsert() {
+            long start = System.nanoTime();
+            long rowId = delegate.executeInsert();
+            recordStatement(start, rowId != -1 ? 1 : 0);
+            return rowId;
+        }
+
+        @Override
+        public long simpleQueryForLong() {
+            long start = System.nanoTime();
+            long value = delegate.simpleQueryForLong();
+            recordStatement(start, 1);
+            return value;
+        }
+
+        @Nullable
+        @Override
+        public String simpleQueryForString() {
+            long start = System.nanoTime();
+            String value = delegate.simpleQueryForString();
+            recordStatement(start, 1);
+            return value;
+        }
+
+        @Override
+        public void bindNull(int index) {
+            shape.bindNull(index);
+            delegate.bindNull(index);
+        }
+
+        @Override
+        public void bindLong(int index, long value) {
+            shape.bindLong(index, value);
+            delegate.bindLong(index, value);
+        }
+
+        @Override
+        public void bindDouble(int index, double value) {
+            shape.bindDouble(index, value);
+            delegate.bindDouble(index, value);
+        }
+
+        @Override
+        public void bindString(int index, @NonNull String value) {
+            shape.bindString(index, value);
+            delegate.bindString(index, value);
+        }
+
+        @Override
+        public void bindBlob(int index, @NonNull byte[] value) {
+            shape.bindBlob(index, value);
+            delegate.bindBlob(index, value);
+        }
+
+        @Override
+        public void clearBindings() {
+            shape.clearBindings();
+            delegate.clearBindings();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
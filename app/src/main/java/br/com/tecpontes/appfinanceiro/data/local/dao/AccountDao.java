@@ -15,7 +15,11 @@ import java.util.List;
 @Dao
 public interface AccountDao {
 
-    @Query("SELECT * FROM accounts ORDER BY name")
+    // Consultas do dashboard (também aquecidas pelo DatabasePrewarmer)
+    String ALL_ACCOUNTS_QUERY = "SELECT * FROM accounts ORDER BY name";
+    String TOTAL_BALANCE_QUERY = "SELECT SUM(balance) FROM accounts";
+
+    @Query(ALL_ACCOUNTS_QUERY)
     LiveData<List<Account>> getAllAccounts();
 
     @Query("SELECT * FROM accounts WHERE id = :accountId")
@@ -24,9 +28,12 @@ public interface AccountDao {
     @Query("SELECT * FROM accounts ORDER BY balance DESC")
     LiveData<List<Account>> getAccountsByBalance();
 
-    @Query("SELECT SUM(balance) FROM accounts")
+    @Query(TOTAL_BALANCE_QUERY)
     LiveData<Double> getTotalBalance();
 
+    @Query("SELECT id FROM accounts")
+    List<String> getAllAccountIds();
+
     @Query("SELECT COUNT(*) FROM accounts")
     LiveData<Integer> getAccountsCount();
 
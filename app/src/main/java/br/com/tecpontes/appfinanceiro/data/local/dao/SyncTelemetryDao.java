@@ -0,0 +1,69 @@
+package br.com.tecpontes.appfinanceiro.data.local.dao;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.Query;
+import br.com.tecpontes.appfinanceiro.data.local.entity.SyncTelemetry;
+import java.util.List;
+
+/**
+ * DAO para o log de telemetria de sincronização
+ */
+@Dao
+public interface SyncTelemetryDao {
+
+    @Insert
+    long insert(SyncTelemetry telemetry);
+
+    /**
+     * Insere e descarta as linhas mais antigas, mantendo no máximo maxRows
+     */
+    @androidx.room.Transaction
+    default void insertBounded(SyncTelemetry telemetry, int maxRows) {
+        long id = insert(telemetry);
+        deleteUpTo(id - maxRows);
+    }
+
+    @Query("DELETE FROM sync_telemetry WHERE id <= :id")
+    int deleteUpTo(long id);
+
+    @Query("DELETE FROM sync_telemetry")
+    void deleteAll();
+
+    @Query("SELECT * FROM sync_telemetry ORDER BY id")
+    List<SyncTelemetry> getAll();
+
+    @Query("SELECT * FROM sync_telemetry ORDER BY id DESC LIMIT :limit")
+    List<SyncTelemetry> getRecent(int limit);
+
+    @Query("SELECT * FROM sync_telemetry WHERE timestamp >= :since ORDER BY totalMs DESC LIMIT :limit")
+    List<SyncTelemetry> getSlowest(long since, int limit);
+
+    @Query("SELECT endpoint, COUNT(*) AS runs, "
+            + "SUM(CASE WHEN outcome IN ('success', 'cancelled') THEN 0 ELSE 1 END) AS failures, "
+            + "SUM(CASE WHEN outcome = 'cancelled' THEN 1 ELSE 0 END) AS cancelled, "
+            + "SUM(rowCount) AS totalRows, "
+            + "SUM(CASE WHEN bytes > 0 THEN bytes ELSE 0 END) AS totalBytes, "
+            + "AVG(networkMs) AS avgNetworkMs, AVG(parseMs) AS avgParseMs, AVG(writeMs) AS avgWriteMs, "
+            + "AVG(totalMs) AS avgTotalMs, MAX(totalMs) AS maxTotalMs "
+            + "FROM sync_telemetry WHERE timestamp >= :since GROUP BY endpoint ORDER BY endpoint")
+    List<EndpointStats> getEndpointStats(long since);
+
+    /**
+     * Classe auxiliar para as estatísticas por endpoint
+     */
+    class EndpointStats {
+        public String endpoint;
+        public int runs;
+        // Erros de rede, HTTP e banco; cancelamentos ficam em cancelled
+        public int failures;
+        public int cancelled;
+        public long totalRows;
+        public long totalBytes;
+        public double avgNetworkMs;
+        public double avgParseMs;
+        public double avgWriteMs;
+        public double avgTotalMs;
+        public long maxTotalMs;
+    }
+}
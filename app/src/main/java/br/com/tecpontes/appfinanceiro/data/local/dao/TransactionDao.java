@@ -6,51 +6,93 @@ import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
 import androidx.room.Update;
+import br.com.tecpontes.appfinanceiro.data.local.entity.SyncState;
 import br.com.tecpontes.appfinanceiro.data.local.entity.Transaction;
+import br.com.tecpontes.appfinanceiro.data.local.model.TransactionListItem;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
 
 /**
  * DAO para operações com transações
+ *
+ * Transações removidas ficam como tombstones (deleted = 1) até a exclusão ser sincronizada;
+ * todas as consultas de leitura filtram deleted = 0 usando os índices (deleted, date)
+ * e (accountId, deleted, date).
+ *
+ * O cursor do delta sync fica na tabela sync_state (por conta), não em lastSync.
  */
 @Dao
 public interface TransactionDao {
 
-    @Query("SELECT * FROM transactions ORDER BY date DESC")
+    // Consultas de linhas de lista do dashboard e da tela de transações
+    // (também aquecidas pelo DatabasePrewarmer)
+    String ALL_LIST_ITEMS_QUERY = "SELECT id, category, amount, date, type, note FROM transactions WHERE deleted = 0 ORDER BY date DESC";
+    String RECENT_LIST_ITEMS_QUERY = ALL_LIST_ITEMS_QUERY + " LIMIT 5";
+
+    @Query("SELECT * FROM transactions WHERE deleted = 0 ORDER BY date DESC")
     LiveData<List<Transaction>> getAllTransactions();
 
-    @Query("SELECT * FROM transactions WHERE accountId = :accountId ORDER BY date DESC")
+    @Query("SELECT * FROM transactions WHERE accountId = :accountId AND deleted = 0 ORDER BY date DESC")
     LiveData<List<Transaction>> getTransactionsByAccount(String accountId);
 
-    @Query("SELECT * FROM transactions WHERE id = :transactionId")
+    @Query("SELECT * FROM transactions WHERE id = :transactionId AND deleted = 0")
     LiveData<Transaction> getTransactionById(String transactionId);
 
-    @Query("SELECT * FROM transactions WHERE accountId = :accountId AND date BETWEEN :startDate AND :endDate ORDER BY date DESC")
+    @Query("SELECT * FROM transactions WHERE id = :transactionId AND deleted = 0")
+    Transaction getTransactionByIdSync(String transactionId);
+
+    @Query("SELECT * FROM transactions WHERE accountId = :accountId AND deleted = 0 AND date BETWEEN :startDate AND :endDate ORDER BY date DESC")
     LiveData<List<Transaction>> getTransactionsByAccountAndDateRange(String accountId, long startDate, long endDate);
 
-    @Query("SELECT * FROM transactions WHERE type = :type ORDER BY date DESC")
+    @Query("SELECT * FROM transactions WHERE type = :type AND deleted = 0 ORDER BY date DESC")
     LiveData<List<Transaction>> getTransactionsByType(String type);
 
-    @Query("SELECT * FROM transactions WHERE category = :category ORDER BY date DESC")
+    @Query("SELECT * FROM transactions WHERE category = :category AND deleted = 0 ORDER BY date DESC")
     LiveData<List<Transaction>> getTransactionsByCategory(String category);
 
-    @Query("SELECT SUM(amount) FROM transactions WHERE type = 'income' AND accountId = :accountId AND date BETWEEN :startDate AND :endDate")
+    @Query("SELECT SUM(amount) FROM transactions WHERE type = 'income' AND accountId = :accountId AND deleted = 0 AND date BETWEEN :startDate AND :endDate")
     LiveData<Double> getTotalIncome(String accountId, long startDate, long endDate);
 
-    @Query("SELECT SUM(amount) FROM transactions WHERE type = 'expense' AND accountId = :accountId AND date BETWEEN :startDate AND :endDate")
+    @Query("SELECT SUM(amount) FROM transactions WHERE type = 'expense' AND accountId = :accountId AND deleted = 0 AND date BETWEEN :startDate AND :endDate")
     LiveData<Double> getTotalExpenses(String accountId, long startDate, long endDate);
 
-    @Query("SELECT COUNT(*) FROM transactions")
+    @Query("SELECT COUNT(*) FROM transactions WHERE deleted = 0")
     LiveData<Integer> getTransactionsCount();
 
-    @Query("SELECT COUNT(*) FROM transactions WHERE accountId = :accountId")
+    @Query("SELECT COUNT(*) FROM transactions WHERE accountId = :accountId AND deleted = 0")
     LiveData<Integer> getTransactionsCountByAccount(String accountId);
 
+    // Queries de linhas de lista (projeção sem colunas de controle)
+    @Query(ALL_LIST_ITEMS_QUERY)
+    LiveData<List<TransactionListItem>> getAllTransactionListItems();
+
+    @Query("SELECT id, category, amount, date, type, note FROM transactions WHERE accountId = :accountId AND deleted = 0 ORDER BY date DESC")
+    LiveData<List<TransactionListItem>> getTransactionListItemsByAccount(String accountId);
+
+    @Query("SELECT id, category, amount, date, type, note FROM transactions WHERE accountId = :accountId AND deleted = 0 AND date BETWEEN :startDate AND :endDate ORDER BY date DESC")
+    LiveData<List<TransactionListItem>> getTransactionListItemsByAccountAndDateRange(String accountId, long startDate, long endDate);
+
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     void insert(Transaction transaction);
 
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     void insertAll(List<Transaction> transactions);
 
+    /**
+     * Insere em lotes dentro de uma única transação do banco, verificando o cancelamento
+     * entre os lotes. Se cancelado, lança CancellationException e nada é gravado.
+     */
+    @androidx.room.Transaction
+    default void insertAllInBatches(List<Transaction> transactions, int batchSize, BooleanSupplier cancelled) {
+        for (int start = 0; start < transactions.size(); start += batchSize) {
+            if (cancelled.getAsBoolean()) {
+                throw new CancellationException("Gravação cancelada após " + start + " transações");
+            }
+            insertAll(transactions.subList(start, Math.min(start + batchSize, transactions.size())));
+        }
+    }
+
     @Update
     void update(Transaction transaction);
 
@@ -69,11 +111,49 @@ public interface TransactionDao {
     @Query("UPDATE transactions SET lastSync = :timestamp WHERE id = :transactionId")
     void updateSyncTimestamp(String transactionId, long timestamp);
 
+    // Cursor do delta sync
+    @Query("SELECT changesCursor FROM sync_state WHERE accountId = :accountId")
+    Long getChangesCursor(String accountId);
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void upsertSyncState(SyncState syncState);
+
+    /**
+     * Grava uma resposta de getTransactionChanges e avança o cursor da conta na mesma
+     * transação do banco: se a gravação for cancelada ou falhar, o cursor não se move.
+     *
+     * @param cursor maior updatedAt da resposta, ou null para manter o cursor atual
+     */
+    @androidx.room.Transaction
+    default void applyChanges(String accountId, List<Transaction> transactions, Long cursor,
+                              int batchSize, BooleanSupplier cancelled) {
+        insertAllInBatches(transactions, batchSize, cancelled);
+        if (cursor != null) {
+            upsertSyncState(new SyncState(accountId, cursor));
+        }
+    }
+
+    // Tombstones
+    @Query("UPDATE transactions SET deleted = 1, deletedAt = :deletedAt, lastSync = 0 WHERE id = :transactionId")
+    void markDeleted(String transactionId, long deletedAt);
+
+    @Query("SELECT id FROM transactions WHERE accountId = :accountId AND deleted = 1 AND lastSync < deletedAt")
+    List<String> getPendingTombstoneIds(String accountId);
+
+    @Query("SELECT id FROM transactions WHERE id IN (:transactionIds) AND deleted = 1")
+    List<String> getDeletedIds(List<String> transactionIds);
+
+    @Query("DELETE FROM transactions WHERE deleted = 1 AND lastSync >= deletedAt AND deletedAt < :before")
+    int compactTombstones(long before);
+
     // Queries para dashboard
-    @Query("SELECT * FROM transactions ORDER BY date DESC LIMIT 5")
+    @Query("SELECT * FROM transactions WHERE deleted = 0 ORDER BY date DESC LIMIT 5")
     LiveData<List<Transaction>> getRecentTransactions();
 
-    @Query("SELECT category, SUM(amount) as total, type FROM transactions WHERE accountId = :accountId AND date BETWEEN :startDate AND :endDate GROUP BY category, type ORDER BY total DESC")
+    @Query(RECENT_LIST_ITEMS_QUERY)
+    LiveData<List<TransactionListItem>> getRecentTransactionListItems();
+
+    @Query("SELECT category, SUM(amount) as total, type FROM transactions WHERE accountId = :accountId AND deleted = 0 AND date BETWEEN :startDate AND :endDate GROUP BY category, type ORDER BY total DESC")
     LiveData<List<CategorySummary>> getCategorySummary(String accountId, long startDate, long endDate);
 
     /**
@@ -0,0 +1,45 @@
+package br.com.tecpontes.appfinanceiro.data.local.entity;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.PrimaryKey;
+
+/**
+ * Entidade Room com o cursor do delta sync de transações de cada conta.
+ *
+ * O cursor é o maior updatedAt (relógio do servidor) recebido em getTransactionChanges
+ * e só avança com as respostas desse endpoint; gravações locais (criação, importação,
+ * dashboard) não o alteram.
+ */
+@Entity(tableName = "sync_state")
+public class SyncState {
+
+    @PrimaryKey
+    @NonNull
+    private String accountId;
+
+    // Maior updatedAt já aplicado (ms do servidor)
+    private long changesCursor;
+
+    public SyncState(@NonNull String accountId, long changesCursor) {
+        this.accountId = accountId;
+        this.changesCursor = changesCursor;
+    }
+
+    @NonNull
+    public String getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(@NonNull String accountId) {
+        this.accountId = accountId;
+    }
+
+    public long getChangesCursor() {
+        return changesCursor;
+    }
+
+    public void setChangesCursor(long changesCursor) {
+        this.changesCursor = changesCursor;
+    }
+}
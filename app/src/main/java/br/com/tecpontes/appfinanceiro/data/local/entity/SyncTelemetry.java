@@ -0,0 +1,144 @@
+package br.com.tecpontes.appfinanceiro.data.local.entity;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+/**
+ * Entidade Room para o log de telemetria de sincronização: uma linha por execução
+ * de sync, importação ou criação nos repositories (tabela limitada pelo SyncTelemetryLog)
+ */
+@Entity(
+    tableName = "sync_telemetry",
+    indices = {
+        @Index(value = "timestamp")
+    }
+)
+public class SyncTelemetry {
+
+    @PrimaryKey(autoGenerate = true)
+    private long id;
+
+    // Início da operação (ms desde a época)
+    private long timestamp;
+
+    // Método do ApiService (ex.: "getTransactionChanges")
+    @NonNull
+    private String endpoint;
+
+    // Corpo da resposta (ou arquivo enviado, na importação); -1 se desconhecido
+    private long bytes;
+
+    // Linhas gravadas no Room
+    private int rowCount;
+
+    // Envio da requisição até o fim do download do corpo
+    private long networkMs;
+
+    // Decodificação do JSON pelo converter, na thread do OkHttp (sem a espera pela rede)
+    private long parseMs;
+
+    // Conversão e gravação no Room
+    private long writeMs;
+
+    private long totalMs;
+
+    @NonNull
+    private String outcome; // "success", "http_<código>", "network_error", "db_error" ou "cancelled"
+
+    public SyncTelemetry(long timestamp, @NonNull String endpoint, long bytes, int rowCount,
+                         long networkMs, long parseMs, long writeMs, long totalMs, @NonNull String outcome) {
+        this.timestamp = timestamp;
+        this.endpoint = endpoint;
+        this.bytes = bytes;
+        this.rowCount = rowCount;
+        this.networkMs = networkMs;
+        this.parseMs = parseMs;
+        this.writeMs = writeMs;
+        this.totalMs = totalMs;
+        this.outcome = outcome;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    @NonNull
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(@NonNull String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public void setRowCount(int rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    public long getNetworkMs() {
+        return networkMs;
+    }
+
+    public void setNetworkMs(long networkMs) {
+        this.networkMs = networkMs;
+    }
+
+    public long getParseMs() {
+        return parseMs;
+    }
+
+    public void setParseMs(long parseMs) {
+        this.parseMs = parseMs;
+    }
+
+    public long getWriteMs() {
+        return writeMs;
+    }
+
+    public void setWriteMs(long writeMs) {
+        this.writeMs = writeMs;
+    }
+
+    public long getTotalMs() {
+        return totalMs;
+    }
+
+    public void setTotalMs(long totalMs) {
+        this.totalMs = totalMs;
+    }
+
+    @NonNull
+    public String getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(@NonNull String outcome) {
+        this.outcome = outcome;
+    }
+}
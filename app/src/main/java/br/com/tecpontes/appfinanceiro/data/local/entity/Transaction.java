@@ -2,6 +2,7 @@ package br.com.tecpontes.appfinanceiro.data.local.entity;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.ForeignKey;
 import androidx.room.Index;
@@ -20,7 +21,8 @@ import androidx.room.PrimaryKey;
     ),
     indices = {
         @Index(value = "accountId"),
-        @Index(value = {"accountId", "date"}),
+        @Index(value = {"accountId", "deleted", "date"}),
+        @Index(value = {"deleted", "date"}),
         @Index(value = "category")
     }
 )
@@ -49,6 +51,13 @@ public class Transaction {
     // Campo para controle de sincronização
     private long lastSync;
 
+    // Tombstone: transação removida, mantida até a exclusão ser sincronizada
+    @ColumnInfo(defaultValue = "0")
+    private boolean deleted;
+
+    @ColumnInfo(defaultValue = "0")
+    private long deletedAt;
+
     public Transaction(@NonNull String id, @NonNull String accountId, double amount,
                       long date, @NonNull String category, @Nullable String note,
                       @NonNull String type) {
@@ -131,6 +140,22 @@ public class Transaction {
         this.lastSync = lastSync;
     }
 
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
+
+    public long getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(long deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
     @Override
     public String toString() {
         return "Transaction{" +
@@ -142,6 +167,8 @@ public class Transaction {
                 ", note='" + note + '\'' +
                 ", type='" + type + '\'' +
                 ", lastSync=" + lastSync +
+                ", deleted=" + deleted +
+                ", deletedAt=" + deletedAt +
                 '}';
     }
 }
@@ -0,0 +1,96 @@
+package br.com.tecpontes.appfinanceiro.data.local.model;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * Projeção leve de transação para linhas de lista.
+ * Carrega apenas as colunas exibidas; a entidade completa é carregada sob demanda na edição.
+ */
+public class TransactionListItem {
+
+    @NonNull
+    private final String id;
+
+    @NonNull
+    private final String category;
+
+    private final double amount;
+
+    private final long date;
+
+    @NonNull
+    private final String type; // "income" ou "expense"
+
+    @Nullable
+    private final String note;
+
+    public TransactionListItem(@NonNull String id, @NonNull String category, double amount,
+                               long date, @NonNull String type, @Nullable String note) {
+        this.id = id;
+        this.category = category;
+        this.amount = amount;
+        this.date = date;
+        this.type = type;
+        this.note = note;
+    }
+
+    @NonNull
+    public String getId() {
+        return id;
+    }
+
+    @NonNull
+    public String getCategory() {
+        return category;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
+    public long getDate() {
+        return date;
+    }
+
+    @NonNull
+    public String getType() {
+        return type;
+    }
+
+    @Nullable
+    public String getNote() {
+        return note;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TransactionListItem)) return false;
+        TransactionListItem that = (TransactionListItem) o;
+        return Double.compare(that.amount, amount) == 0 &&
+                date == that.date &&
+                id.equals(that.id) &&
+                category.equals(that.category) &&
+                type.equals(that.type) &&
+                Objects.equals(note, that.note);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, category, amount, date, type, note);
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionListItem{" +
+                "id='" + id + '\'' +
+                ", category='" + category + '\'' +
+                ", amount=" + amount +
+                ", date=" + date +
+                ", type='" + type + '\'' +
+                ", note='" + note + '\'' +
+                '}';
+    }
+}
@@ -3,10 +3,13 @@ package br.com.tecpontes.appfinanceiro.data.repository;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.lifecycle.LiveData;
+import br.com.tecpontes.appfinanceiro.data.local.SyncTelemetryLog;
 import br.com.tecpontes.appfinanceiro.data.local.dao.AccountDao;
 import br.com.tecpontes.appfinanceiro.data.local.entity.Account;
 import br.com.tecpontes.appfinanceiro.model.AccountDto;
 import br.com.tecpontes.appfinanceiro.network.ApiService;
+import dagger.Lazy;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -24,14 +27,16 @@ public class AccountRepository {
 
     private static final String TAG = "AccountRepository";
 
-    private final ApiService apiService;
+    private final Lazy<ApiService> apiService;
     private final AccountDao accountDao;
+    private final SyncTelemetryLog telemetryLog;
     private final ExecutorService executorService;
 
     @Inject
-    public AccountRepository(ApiService apiService, AccountDao accountDao) {
+    public AccountRepository(Lazy<ApiService> apiService, AccountDao accountDao, SyncTelemetryLog telemetryLog) {
         this.apiService = apiService;
         this.accountDao = accountDao;
+        this.telemetryLog = telemetryLog;
         this.executorService = Executors.newSingleThreadExecutor();
     }
 
@@ -58,52 +63,89 @@ public class AccountRepository {
 
     /**
      * Sincroniza contas da API para o banco local
+     *
+     * @return handle para cancelar a sincronização (ex.: ao sair da tela)
      */
-    public void syncAccounts(@NonNull SyncCallback callback) {
+    public RequestHandle syncAccounts(@NonNull SyncCallback callback) {
         Log.d(TAG, "Sincronizando contas da API");
+        RequestHandle handle = new RequestHandle("syncAccounts");
+        SyncTelemetryLog.Run run = telemetryLog.start("getAccounts");
 
-        Call<List<AccountDto>> call = apiService.getAccounts();
+        executorService.execute(() -> {
+            if (handle.isCancelled()) {
+                run.finish(SyncTelemetryLog.OUTCOME_CANCELLED);
+                return;
+            }
 
-        call.enqueue(new Callback<List<AccountDto>>() {
-            @Override
-            public void onResponse(@NonNull Call<List<AccountDto>> call,
-                                 @NonNull Response<List<AccountDto>> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    List<AccountDto> accountDtos = response.body();
+            Call<List<AccountDto>> call = apiService.get().getAccounts();
+            handle.attach(call);
 
-                    // Converte DTOs para entidades e salva no banco
-                    executorService.execute(() -> {
-                        try {
-                            for (AccountDto dto : accountDtos) {
-                                Account account = new Account(
-                                    dto.getId(),
-                                    dto.getName(),
-                                    dto.getBalance(),
-                                    dto.getCurrency(),
-                                    dto.getDescription()
-                                );
-                                accountDao.insert(account);
+            call.enqueue(new Callback<List<AccountDto>>() {
+                @Override
+                public void onResponse(@NonNull Call<List<AccountDto>> call,
+                                     @NonNull Response<List<AccountDto>> response) {
+                    run.onResponse(response);
+                    if (handle.isCancelled()) {
+                        run.finish(SyncTelemetryLog.OUTCOME_CANCELLED);
+                        return;
+                    }
+
+                    if (response.isSuccessful() && response.body() != null) {
+                        List<AccountDto> accountDtos = response.body();
+
+                        // Converte DTOs para entidades e salva no banco
+                        executorService.execute(() -> {
+                            if (handle.isCancelled()) {
+                                Log.d(TAG, "Sincronização de contas cancelada antes da gravação");
+                                run.finish(SyncTelemetryLog.OUTCOME_CANCELLED);
+                                return;
                             }
 
-                            Log.d(TAG, "Contas sincronizadas com sucesso: " + accountDtos.size());
-                            callback.onSuccess(accountDtos.size());
-                        } catch (Exception e) {
-                            Log.e(TAG, "Erro ao salvar contas no banco", e);
-                            callback.onError("Erro ao salvar contas: " + e.getMessage());
-                        }
-                    });
-                } else {
-                    Log.d(TAG, "Erro na resposta da API: " + response.message());
-                    callback.onError("Erro na API: " + response.message());
+                            run.writeStarted();
+                            try {
+                                List<Account> accounts = new ArrayList<>(accountDtos.size());
+                                for (AccountDto dto : accountDtos) {
+                                    accounts.add(new Account(
+                                        dto.getId(),
+                                        dto.getName(),
+                                        dto.getBalance(),
+                                        dto.getCurrency(),
+                                        dto.getDescription()
+                                    ));
+                                }
+                                accountDao.insertAll(accounts);
+                                run.written(accounts.size());
+                                run.success();
+
+                                Log.d(TAG, "Contas sincronizadas com sucesso: " + accountDtos.size());
+                                callback.onSuccess(accountDtos.size());
+                            } catch (Exception e) {
+                                Log.e(TAG, "Erro ao salvar contas no banco", e);
+                                run.finish(SyncTelemetryLog.OUTCOME_DB_ERROR);
+                                callback.onError("Erro ao salvar contas: " + e.getMessage());
+                            }
+                        });
+                    } else {
+                        Log.d(TAG, "Erro na resposta da API: " + response.message());
+                        run.finish(SyncTelemetryLog.httpError(response.code()));
+                        callback.onError("Erro na API: " + response.message());
+                    }
                 }
-            }
 
-            @Override
-            public void onFailure(@NonNull Call<List<AccountDto>> call, @NonNull Throwable t) {
-                Log.e(TAG, "Falha na requisição de contas", t);
-                callback.onError("Erro de conexão: " + t.getMessage());
-            }
+                @Override
+                public void onFailure(@NonNull Call<List<AccountDto>> call, @NonNull Throwable t) {
+                    if (handle.isCancelled()) {
+                        Log.d(TAG, "Sincronização de contas cancelada");
+                        run.finish(SyncTelemetryLog.OUTCOME_CANCELLED);
+                        return;
+                    }
+                    Log.e(TAG, "Falha na requisição de contas", t);
+                    run.finish(SyncTelemetryLog.failure(t));
+                    callback.onError("Erro de conexão: " + t.getMessage());
+                }
+            });
         });
+        return handle;
     }
 
     /**
@@ -112,45 +154,55 @@ public class AccountRepository {
     public void createAccount(@NonNull AccountDto accountDto, @NonNull CreateCallback callback) {
         Log.d(TAG, "Criando nova conta: " + accountDto.getName());
 
-        Call<AccountDto> call = apiService.createAccount(accountDto);
-
-        call.enqueue(new Callback<AccountDto>() {
-            @Override
-            public void onResponse(@NonNull Call<AccountDto> call,
-                                 @NonNull Response<AccountDto> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    AccountDto createdAccount = response.body();
-
-                    // Salva no banco local
-                    executorService.execute(() -> {
-                        try {
-                            Account account = new Account(
-                                createdAccount.getId(),
-                                createdAccount.getName(),
-                                createdAccount.getBalance(),
-                                createdAccount.getCurrency(),
-                                createdAccount.getDescription()
-                            );
-                            accountDao.insert(account);
-
-                            Log.d(TAG, "Conta criada com sucesso: " + createdAccount.getId());
-                            callback.onSuccess(createdAccount);
-                        } catch (Exception e) {
-                            Log.e(TAG, "Erro ao salvar conta no banco", e);
-                            callback.onError("Erro ao salvar conta: " + e.getMessage());
-                        }
-                    });
-                } else {
-                    Log.d(TAG, "Erro ao criar conta: " + response.message());
-                    callback.onError("Erro ao criar conta: " + response.message());
+        SyncTelemetryLog.Run run = telemetryLog.start("createAccount");
+        executorService.execute(() -> {
+            Call<AccountDto> call = apiService.get().createAccount(accountDto);
+
+            call.enqueue(new Callback<AccountDto>() {
+                @Override
+                public void onResponse(@NonNull Call<AccountDto> call,
+                                     @NonNull Response<AccountDto> response) {
+                    run.onResponse(response);
+                    if (response.isSuccessful() && response.body() != null) {
+                        AccountDto createdAccount = response.body();
+
+                        // Salva no banco local
+                        executorService.execute(() -> {
+                            run.writeStarted();
+                            try {
+                                Account account = new Account(
+                                    createdAccount.getId(),
+                                    createdAccount.getName(),
+                                    createdAccount.getBalance(),
+                                    createdAccount.getCurrency(),
+                                    createdAccount.getDescription()
+                                );
+                                accountDao.insert(account);
+                                run.written(1);
+                                run.success();
+
+                                Log.d(TAG, "Conta criada com sucesso: " + createdAccount.getId());
+                                callback.onSuccess(createdAccount);
+                            } catch (Exception e) {
+                                Log.e(TAG, "Erro ao salvar conta no banco", e);
+                                run.finish(SyncTelemetryLog.OUTCOME_DB_ERROR);
+                                callback.onError("Erro ao salvar conta: " + e.getMessage());
+                            }
+                        });
+                    } else {
+                        Log.d(TAG, "Erro ao criar conta: " + response.message());
+                        run.finish(SyncTelemetryLog.httpError(response.code()));
+                        callback.onError("Erro ao criar conta: " + response.message());
+                    }
                 }
-            }
 
-            @Override
-            public void onFailure(@NonNull Call<AccountDto> call, @NonNull Throwable t) {
-                Log.e(TAG, "Falha na criação de conta", t);
-                callback.onError("Erro de conexão: " + t.getMessage());
-            }
+                @Override
+                public void onFailure(@NonNull Call<AccountDto> call, @NonNull Throwable t) {
+                    Log.e(TAG, "Falha na criação de conta", t);
+                    run.finish(SyncTelemetryLog.failure(t));
+                    callback.onError("Erro de conexão: " + t.getMessage());
+                }
+            });
         });
     }
 
@@ -8,6 +8,9 @@ import br.com.tecpontes.appfinanceiro.model.AuthRequest;
 import br.com.tecpontes.appfinanceiro.model.AuthResponse;
 import br.com.tecpontes.appfinanceiro.network.ApiService;
 import br.com.tecpontes.appfinanceiro.utils.TokenManager;
+import dagger.Lazy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import retrofit2.Call;
@@ -22,13 +25,15 @@ public class AuthRepository {
 
     private static final String TAG = "AuthRepository";
 
-    private final ApiService apiService;
+    private final Lazy<ApiService> apiService;
     private final TokenManager tokenManager;
+    private final ExecutorService executorService;
 
     @Inject
-    public AuthRepository(ApiService apiService, TokenManager tokenManager) {
+    public AuthRepository(Lazy<ApiService> apiService, TokenManager tokenManager) {
         this.apiService = apiService;
         this.tokenManager = tokenManager;
+        this.executorService = Executors.newSingleThreadExecutor();
     }
 
     /**
@@ -39,34 +44,37 @@ public class AuthRepository {
         Log.d(TAG, "Tentando fazer login para: " + email);
 
         AuthRequest request = new AuthRequest(email, password);
-        Call<AuthResponse> call = apiService.login(request);
-
-        call.enqueue(new Callback<AuthResponse>() {
-            @Override
-            public void onResponse(@NonNull Call<AuthResponse> call,
-                                 @NonNull Response<AuthResponse> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    AuthResponse authResponse = response.body();
-
-                    // Salva token e dados do usuário
-                    tokenManager.saveToken(authResponse.getToken());
-                    if (authResponse.getUser() != null) {
-                        tokenManager.saveUserEmail(authResponse.getUser().getEmail());
+        executorService.execute(() -> {
+            Call<AuthResponse> call = apiService.get().login(request);
+
+            call.enqueue(new Callback<AuthResponse>() {
+                @Override
+                public void onResponse(@NonNull Call<AuthResponse> call,
+                                     @NonNull Response<AuthResponse> response) {
+                    if (response.isSuccessful() && response.body() != null) {
+                        AuthResponse authResponse = response.body();
+
+                        // Salva token e dados do usuário
+                        tokenManager.saveToken(authResponse.getToken());
+                        tokenManager.saveRefreshToken(authResponse.getRefreshToken());
+                        if (authResponse.getUser() != null) {
+                            tokenManager.saveUserEmail(authResponse.getUser().getEmail());
+                        }
+
+                        Log.d(TAG, "Login realizado com sucesso");
+                        callback.onSuccess(authResponse);
+                    } else {
+                        Log.d(TAG, "Erro no login: " + response.message());
+                        callback.onError("Credenciais inválidas");
                     }
-
-                    Log.d(TAG, "Login realizado com sucesso");
-                    callback.onSuccess(authResponse);
-                } else {
-                    Log.d(TAG, "Erro no login: " + response.message());
-                    callback.onError("Credenciais inválidas");
                 }
-            }
 
-            @Override
-            public void onFailure(@NonNull Call<AuthResponse> call, @NonNull Throwable t) {
-                Log.e(TAG, "Falha na requisição de login", t);
-                callback.onError("Erro de conexão: " + t.getMessage());
-            }
+                @Override
+                public void onFailure(@NonNull Call<AuthResponse> call, @NonNull Throwable t) {
+                    Log.e(TAG, "Falha na requisição de login", t);
+                    callback.onError("Erro de conexão: " + t.getMessage());
+                }
+            });
         });
     }
 
@@ -78,34 +86,37 @@ public class AuthRepository {
         Log.d(TAG, "Tentando registrar usuário: " + email);
 
         AuthRequest request = new AuthRequest(email, password);
-        Call<AuthResponse> call = apiService.register(request);
-
-        call.enqueue(new Callback<AuthResponse>() {
-            @Override
-            public void onResponse(@NonNull Call<AuthResponse> call,
-                                 @NonNull Response<AuthResponse> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    AuthResponse authResponse = response.body();
-
-                    // Salva token e dados do usuário
-                    tokenManager.saveToken(authResponse.getToken());
-                    if (authResponse.getUser() != null) {
-                        tokenManager.saveUserEmail(authResponse.getUser().getEmail());
+        executorService.execute(() -> {
+            Call<AuthResponse> call = apiService.get().register(request);
+
+            call.enqueue(new Callback<AuthResponse>() {
+                @Override
+                public void onResponse(@NonNull Call<AuthResponse> call,
+                                     @NonNull Response<AuthResponse> response) {
+                    if (response.isSuccessful() && response.body() != null) {
+                        AuthResponse authResponse = response.body();
+
+                        // Salva token e dados do usuário
+                        tokenManager.saveToken(authResponse.getToken());
+                        tokenManager.saveRefreshToken(authResponse.getRefreshToken());
+                        if (authResponse.getUser() != null) {
+                            tokenManager.saveUserEmail(authResponse.getUser().getEmail());
+                        }
+
+                        Log.d(TAG, "Registro realizado com sucesso");
+                        callback.onSuccess(authResponse);
+                    } else {
+                        Log.d(TAG, "Erro no registro: " + response.message());
+                        callback.onError("Erro ao criar conta");
                     }
-
-                    Log.d(TAG, "Registro realizado com sucesso");
-                    callback.onSuccess(authResponse);
-                } else {
-                    Log.d(TAG, "Erro no registro: " + response.message());
-                    callback.onError("Erro ao criar conta");
                 }
-            }
 
-            @Override
-            public void onFailure(@NonNull Call<AuthResponse> call, @NonNull Throwable t) {
-                Log.e(TAG, "Falha na requisição de registro", t);
-                callback.onError("Erro de conexão: " + t.getMessage());
-            }
+                @Override
+                public void onFailure(@NonNull Call<AuthResponse> call, @NonNull Throwable t) {
+                    Log.e(TAG, "Falha na requisição de registro", t);
+                    callback.onError("Erro de conexão: " + t.getMessage());
+                }
+            });
         });
     }
 
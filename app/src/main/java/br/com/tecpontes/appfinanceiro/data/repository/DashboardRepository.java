@@ -2,12 +2,24 @@ package br.com.tecpontes.appfinanceiro.data.repository;
 
 import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
+import br.com.tecpontes.appfinanceiro.data.local.DashboardSnapshotStore;
+import br.com.tecpontes.appfinanceiro.data.local.SyncTelemetryLog;
 import br.com.tecpontes.appfinanceiro.data.local.dao.AccountDao;
 import br.com.tecpontes.appfinanceiro.data.local.dao.TransactionDao;
+import br.com.tecpontes.appfinanceiro.data.local.entity.Transaction;
 import br.com.tecpontes.appfinanceiro.model.DashboardDto;
+import br.com.tecpontes.appfinanceiro.model.TransactionDto;
 import br.com.tecpontes.appfinanceiro.network.ApiService;
+import dagger.Lazy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import retrofit2.Call;
@@ -22,45 +34,142 @@ public class DashboardRepository {
 
     private static final String TAG = "DashboardRepository";
 
-    private final ApiService apiService;
+    private final Lazy<ApiService> apiService;
     private final AccountDao accountDao;
     private final TransactionDao transactionDao;
+    private final DashboardSnapshotStore snapshotStore;
+    private final TransactionWindowCache windowCache;
+    private final SyncTelemetryLog telemetryLog;
+    private final ExecutorService executorService;
 
     @Inject
-    public DashboardRepository(ApiService apiService, AccountDao accountDao, TransactionDao transactionDao) {
+    public DashboardRepository(Lazy<ApiService> apiService, AccountDao accountDao, TransactionDao transactionDao,
+                               DashboardSnapshotStore snapshotStore, TransactionWindowCache windowCache,
+                               SyncTelemetryLog telemetryLog) {
         this.apiService = apiService;
         this.accountDao = accountDao;
         this.transactionDao = transactionDao;
+        this.snapshotStore = snapshotStore;
+        this.windowCache = windowCache;
+        this.telemetryLog = telemetryLog;
+        this.executorService = Executors.newSingleThreadExecutor();
+    }
+
+    /**
+     * Obtém o último snapshot do dashboard salvo localmente (sem rede)
+     */
+    @Nullable
+    public DashboardSnapshotStore.Snapshot getCachedDashboard() {
+        return snapshotStore.load();
     }
 
     /**
      * Obtém dados do dashboard da API
+     *
+     * @return handle para cancelar o carregamento (ex.: ao sair da tela)
      */
-    public void getDashboardData(@NonNull DashboardCallback callback) {
+    public RequestHandle getDashboardData(@NonNull DashboardCallback callback) {
         Log.d(TAG, "Carregando dados do dashboard da API");
+        RequestHandle handle = new RequestHandle("getDashboardData");
+        SyncTelemetryLog.Run run = telemetryLog.start("getDashboard");
 
-        Call<DashboardDto> call = apiService.getDashboard();
-
-        call.enqueue(new Callback<DashboardDto>() {
-            @Override
-            public void onResponse(@NonNull Call<DashboardDto> call,
-                                 @NonNull Response<DashboardDto> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    DashboardDto dashboardData = response.body();
-                    Log.d(TAG, "Dados do dashboard carregados: " + dashboardData);
-                    callback.onSuccess(dashboardData);
-                } else {
-                    Log.d(TAG, "Erro na resposta do dashboard: " + response.message());
-                    callback.onError("Erro na API: " + response.message());
-                }
+        executorService.execute(() -> {
+            if (handle.isCancelled()) {
+                run.finish(SyncTelemetryLog.OUTCOME_CANCELLED);
+                return;
             }
 
-            @Override
-            public void onFailure(@NonNull Call<DashboardDto> call, @NonNull Throwable t) {
-                Log.e(TAG, "Falha ao carregar dashboard", t);
-                callback.onError("Erro de conexão: " + t.getMessage());
-            }
+            Call<DashboardDto> call = apiService.get().getDashboard();
+            handle.attach(call);
+
+            call.enqueue(new Callback<DashboardDto>() {
+                @Override
+                public void onResponse(@NonNull Call<DashboardDto> call,
+                                     @NonNull Response<DashboardDto> response) {
+                    run.onResponse(response);
+                    if (handle.isCancelled()) {
+                        run.finish(SyncTelemetryLog.OUTCOME_CANCELLED);
+                        return;
+                    }
+
+                    if (response.isSuccessful() && response.body() != null) {
+                        DashboardDto dashboardData = response.body();
+                        Log.d(TAG, "Dados do dashboard carregados: " + dashboardData);
+
+                        // Persiste snapshot e transações recentes antes de notificar
+                        executorService.execute(() -> {
+                            long savedAt = System.currentTimeMillis();
+                            run.writeStarted();
+                            try {
+                                snapshotStore.save(dashboardData, savedAt);
+                                run.written(saveRecentTransactions(dashboardData.getRecentTransactions()));
+                                run.success();
+                            } catch (Exception e) {
+                                Log.e(TAG, "Erro ao persistir dados do dashboard", e);
+                                run.finish(SyncTelemetryLog.OUTCOME_DB_ERROR);
+                            }
+                            callback.onSuccess(dashboardData, savedAt);
+                        });
+                    } else {
+                        Log.d(TAG, "Erro na resposta do dashboard: " + response.message());
+                        run.finish(SyncTelemetryLog.httpError(response.code()));
+                        callback.onError("Erro na API: " + response.message());
+                    }
+                }
+
+                @Override
+                public void onFailure(@NonNull Call<DashboardDto> call, @NonNull Throwable t) {
+                    if (handle.isCancelled()) {
+                        Log.d(TAG, "Carregamento do dashboard cancelado");
+                        run.finish(SyncTelemetryLog.OUTCOME_CANCELLED);
+                        return;
+                    }
+                    Log.e(TAG, "Falha ao carregar dashboard", t);
+                    run.finish(SyncTelemetryLog.failure(t));
+                    callback.onError("Erro de conexão: " + t.getMessage());
+                }
+            });
         });
+        return handle;
+    }
+
+    /**
+     * Faz upsert das transações recentes do dashboard no Room.
+     * Ignora transações de contas ainda não sincronizadas (foreign key) e
+     * transações com exclusão local (tombstone) para não ressuscitá-las.
+     * As linhas são gravadas com lastSync = 0: vêm de um snapshot, não do delta sync,
+     * e não podem servir de referência para o cursor de sincronização.
+     *
+     * @return quantidade de transações gravadas
+     */
+    private int saveRecentTransactions(@Nullable List<TransactionDto> recentTransactions) {
+        if (recentTransactions == null || recentTransactions.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> accountIds = new HashSet<>(accountDao.getAllAccountIds());
+        List<String> ids = new ArrayList<>();
+        for (TransactionDto dto : recentTransactions) {
+            ids.add(dto.getId());
+        }
+        Set<String> deletedIds = new HashSet<>(transactionDao.getDeletedIds(ids));
+
+        List<Transaction> transactions = new ArrayList<>();
+        for (TransactionDto dto : recentTransactions) {
+            if (!accountIds.contains(dto.getAccountId()) || deletedIds.contains(dto.getId()) || dto.isDeleted()) {
+                continue;
+            }
+            Transaction transaction = TransactionMapper.toEntity(dto);
+            transaction.setLastSync(0);
+            transactions.add(transaction);
+        }
+
+        if (!transactions.isEmpty()) {
+            transactionDao.insertAll(transactions);
+            windowCache.invalidateAll();
+        }
+        Log.d(TAG, "Transações recentes salvas: " + transactions.size() + "/" + recentTransactions.size());
+        return transactions.size();
     }
 
     /**
@@ -104,7 +213,7 @@ public class DashboardRepository {
      * Interfaces para callbacks
      */
     public interface DashboardCallback {
-        void onSuccess(DashboardDto dashboardData);
+        void onSuccess(DashboardDto dashboardData, long fetchedAt);
         void onError(String error);
     }
 
@@ -0,0 +1,69 @@
+package br.com.tecpontes.appfinanceiro.data.repository;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import retrofit2.Call;
+
+/**
+ * Handle de uma operação do repository (chamada Retrofit + gravação no Room) que pode ser
+ * cancelada pelo ViewModel quando a tela deixa de existir.
+ *
+ * O cancelamento interrompe a chamada em andamento e é verificado entre os lotes de escrita;
+ * operações canceladas não chamam mais o callback.
+ */
+public final class RequestHandle {
+
+    private static final String TAG = "RequestHandle";
+
+    private final String name;
+    private volatile boolean cancelled;
+    @Nullable
+    private Call<?> call;
+
+    RequestHandle(@NonNull String name) {
+        this.name = name;
+    }
+
+    /**
+     * Associa a chamada Retrofit da etapa atual; se já cancelado, cancela a chamada na hora
+     */
+    synchronized void attach(@NonNull Call<?> call) {
+        this.call = call;
+        if (cancelled) {
+            call.cancel();
+        }
+    }
+
+    /**
+     * Cancela a operação (idempotente, pode ser chamado de qualquer thread)
+     */
+    public void cancel() {
+        Call<?> current;
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            current = call;
+        }
+
+        if (current != null) {
+            current.cancel();
+        }
+        Log.d(TAG, "Operação cancelada: " + name);
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Cancela o handle, se houver (atalho para os ViewModels)
+     */
+    public static void cancel(@Nullable RequestHandle handle) {
+        if (handle != null) {
+            handle.cancel();
+        }
+    }
+}
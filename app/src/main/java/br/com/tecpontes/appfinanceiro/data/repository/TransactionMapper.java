@@ -0,0 +1,85 @@
+package br.com.tecpontes.appfinanceiro.data.repository;
+
+import androidx.annotation.NonNull;
+import br.com.tecpontes.appfinanceiro.data.local.entity.Transaction;
+import br.com.tecpontes.appfinanceiro.model.TransactionDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Conversão dos DTOs de transação da API para entidades Room.
+ *
+ * Sem dependências do Android, para ser medida no módulo :benchmark.
+ */
+public final class TransactionMapper {
+
+    private TransactionMapper() {
+    }
+
+    /**
+     * Converte o DTO da API na entidade Room
+     */
+    @NonNull
+    public static Transaction toEntity(@NonNull TransactionDto dto) {
+        return new Transaction(
+            dto.getId(),
+            dto.getAccountId(),
+            dto.getAmount(),
+            dto.getDate(),
+            dto.getCategory(),
+            dto.getNote(),
+            dto.getType()
+        );
+    }
+
+    /**
+     * Converte uma lista de DTOs (importação OFX)
+     */
+    @NonNull
+    public static List<Transaction> toEntities(@NonNull List<TransactionDto> dtos) {
+        List<Transaction> transactions = new ArrayList<>(dtos.size());
+        for (TransactionDto dto : dtos) {
+            transactions.add(toEntity(dto));
+        }
+        return transactions;
+    }
+
+    /**
+     * Maior updatedAt (relógio do servidor) de uma resposta do delta sync,
+     * ou null se nenhuma alteração trouxe updatedAt
+     */
+    public static Long maxUpdatedAt(@NonNull List<TransactionDto> dtos) {
+        long max = 0;
+        for (TransactionDto dto : dtos) {
+            max = Math.max(max, dto.getUpdatedAt());
+        }
+        return max > 0 ? max : null;
+    }
+
+    /**
+     * Converte as alterações do delta sync.
+     *
+     * Exclusões locais ainda não enviadas (pendingDeletes) prevalecem sobre a versão remota;
+     * tombstones remotos viram tombstones já sincronizados (lastSync >= deletedAt).
+     */
+    @NonNull
+    public static List<Transaction> toSyncedEntities(@NonNull List<TransactionDto> dtos,
+                                                     @NonNull Set<String> pendingDeletes, long now) {
+        List<Transaction> transactions = new ArrayList<>(dtos.size());
+        for (TransactionDto dto : dtos) {
+            if (pendingDeletes.contains(dto.getId())) {
+                continue;
+            }
+
+            Transaction transaction = toEntity(dto);
+            if (dto.isDeleted()) {
+                transaction.setDeleted(true);
+                transaction.setDeletedAt(dto.getDeletedAt() > 0 ? dto.getDeletedAt() : now);
+                transaction.setLastSync(Math.max(now, transaction.getDeletedAt()));
+            }
+            transactions.add(transaction);
+        }
+        return transactions;
+    }
+}
@@ -4,12 +4,19 @@ import android.net.Uri;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
+import br.com.tecpontes.appfinanceiro.data.local.SyncTelemetryLog;
 import br.com.tecpontes.appfinanceiro.data.local.dao.TransactionDao;
 import br.com.tecpontes.appfinanceiro.data.local.entity.Transaction;
+import br.com.tecpontes.appfinanceiro.data.local.model.TransactionListItem;
 import br.com.tecpontes.appfinanceiro.model.TransactionDto;
 import br.com.tecpontes.appfinanceiro.network.ApiService;
+import dagger.Lazy;
 import java.io.File;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import javax.inject.Inject;
@@ -22,21 +29,36 @@ import retrofit2.Callback;
 import retrofit2.Response;
 
 /**
- * Repository para operações com transações
+ * Repository para operações com transações.
+ *
+ * As listas de transações usam o TransactionWindowCache como stale-while-revalidate: a janela em
+ * memória é emitida na hora e a query do Room continua rodando para revalidá-la. O cache poupa a
+ * espera pela primeira tela, não a query; resultados iguais ao já emitido não são repassados.
  */
 @Singleton
 public class TransactionRepository {
 
     private static final String TAG = "TransactionRepository";
 
-    private final ApiService apiService;
+    // Tombstones sincronizados são mantidos por 7 dias antes da compactação
+    private static final long TOMBSTONE_RETENTION_MS = 7L * 24 * 60 * 60 * 1000;
+
+    // Linhas por lote nas gravações de sync/importação (no sync, cancelamento verificado entre lotes)
+    private static final int WRITE_BATCH_SIZE = 500;
+
+    private final Lazy<ApiService> apiService;
     private final TransactionDao transactionDao;
+    private final TransactionWindowCache windowCache;
+    private final SyncTelemetryLog telemetryLog;
     private final ExecutorService executorService;
 
     @Inject
-    public TransactionRepository(ApiService apiService, TransactionDao transactionDao) {
+    public TransactionRepository(Lazy<ApiService> apiService, TransactionDao transactionDao,
+                                 TransactionWindowCache windowCache, SyncTelemetryLog telemetryLog) {
         this.apiService = apiService;
         this.transactionDao = transactionDao;
+        this.windowCache = windowCache;
+        this.telemetryLog = telemetryLog;
         this.executorService = Executors.newSingleThreadExecutor();
     }
 
@@ -54,6 +76,32 @@ public class TransactionRepository {
         return transactionDao.getTransactionsByAccount(accountId);
     }
 
+    /**
+     * Obtém todas as transações como linhas de lista
+     */
+    public LiveData<List<TransactionListItem>> getAllTransactionListItems() {
+        return cachedWindow(TransactionWindowCache.windowKey(null, Long.MIN_VALUE, Long.MAX_VALUE, 0),
+                transactionDao.getAllTransactionListItems());
+    }
+
+    /**
+     * Obtém transações por conta como linhas de lista
+     */
+    public LiveData<List<TransactionListItem>> getTransactionListItemsByAccount(String accountId) {
+        return cachedWindow(TransactionWindowCache.windowKey(accountId, Long.MIN_VALUE, Long.MAX_VALUE, 0),
+                transactionDao.getTransactionListItemsByAccount(accountId));
+    }
+
+    /**
+     * Obtém transações da conta em um período como linhas de lista
+     */
+    public LiveData<List<TransactionListItem>> getTransactionListItemsByAccountAndDateRange(String accountId,
+                                                                                           long startDate,
+                                                                                           long endDate) {
+        return cachedWindow(TransactionWindowCache.windowKey(accountId, startDate, endDate, 0),
+                transactionDao.getTransactionListItemsByAccountAndDateRange(accountId, startDate, endDate));
+    }
+
     /**
      * Obtém transação por ID
      */
@@ -61,6 +109,26 @@ public class TransactionRepository {
         return transactionDao.getTransactionById(transactionId);
     }
 
+    /**
+     * Carrega a entidade completa de uma transação (usado na edição)
+     */
+    public void loadTransaction(@NonNull String transactionId, @NonNull LoadCallback callback) {
+        executorService.execute(() -> {
+            try {
+                Transaction transaction = transactionDao.getTransactionByIdSync(transactionId);
+                if (transaction != null) {
+                    callback.onSuccess(transaction);
+                } else {
+                    Log.d(TAG, "Transação não encontrada: " + transactionId);
+                    callback.onError("Transação não encontrada");
+                }
+            } catch (Exception e) {
+                Log.e(TAG, "Erro ao carregar transação", e);
+                callback.onError("Erro ao carregar: " + e.getMessage());
+            }
+        });
+    }
+
     /**
      * Obtém transações recentes (últimas 5)
      */
@@ -69,167 +137,341 @@ public class TransactionRepository {
     }
 
     /**
-     * Sincroniza transações da API para o banco local
+     * Obtém transações recentes (últimas 5) como linhas de lista
      */
-    public void syncTransactions(@NonNull String accountId, @NonNull SyncCallback callback) {
-        Log.d(TAG, "Sincronizando transações para conta: " + accountId);
+    public LiveData<List<TransactionListItem>> getRecentTransactionListItems() {
+        return cachedWindow(TransactionWindowCache.windowKey(null, Long.MIN_VALUE, Long.MAX_VALUE, 5),
+                transactionDao.getRecentTransactionListItems());
+    }
 
-        Call<List<TransactionDto>> call = apiService.getTransactions(accountId, null, null);
-
-        call.enqueue(new Callback<List<TransactionDto>>() {
-            @Override
-            public void onResponse(@NonNull Call<List<TransactionDto>> call,
-                                 @NonNull Response<List<TransactionDto>> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    List<TransactionDto> transactionDtos = response.body();
-
-                    // Converte DTOs para entidades e salva no banco
-                    executorService.execute(() -> {
-                        try {
-                            for (TransactionDto dto : transactionDtos) {
-                                Transaction transaction = new Transaction(
-                                    dto.getId(),
-                                    dto.getAccountId(),
-                                    dto.getAmount(),
-                                    dto.getDate(),
-                                    dto.getCategory(),
-                                    dto.getNote(),
-                                    dto.getType()
-                                );
-                                transactionDao.insert(transaction);
-                            }
+    /**
+     * Envolve uma query Room com o cache de janelas: emite imediatamente a janela em memória
+     * (se houver) e mantém o cache atualizado com cada resultado do banco, sem reemitir
+     * resultados iguais ao atual (evita mapear e comparar a mesma lista de novo na UI).
+     * Deve ser chamado na main thread.
+     */
+    private LiveData<List<TransactionListItem>> cachedWindow(@NonNull String key,
+                                                             @NonNull LiveData<List<TransactionListItem>> source) {
+        MediatorLiveData<List<TransactionListItem>> window = new MediatorLiveData<>();
+
+        List<TransactionListItem> cached = windowCache.get(key);
+        if (cached != null) {
+            Log.d(TAG, "Janela servida da memória: " + key + " (" + cached.size() + " linhas)");
+            window.setValue(cached);
+        }
 
-                            Log.d(TAG, "Transações sincronizadas: " + transactionDtos.size());
-                            callback.onSuccess(transactionDtos.size());
-                        } catch (Exception e) {
-                            Log.e(TAG, "Erro ao salvar transações", e);
-                            callback.onError("Erro ao salvar: " + e.getMessage());
-                        }
-                    });
-                } else {
-                    Log.d(TAG, "Erro na API: " + response.message());
-                    callback.onError("Erro na API: " + response.message());
-                }
+        // Geração vista antes de cada leitura do Room: resultados de antes de uma invalidação não voltam ao cache
+        long[] generation = {windowCache.generation(key)};
+        window.addSource(source, items -> {
+            if (items != null) {
+                windowCache.put(key, items, generation[0]);
             }
+            generation[0] = windowCache.generation(key);
 
-            @Override
-            public void onFailure(@NonNull Call<List<TransactionDto>> call, @NonNull Throwable t) {
-                Log.e(TAG, "Falha na sincronização", t);
-                callback.onError("Erro de conexão: " + t.getMessage());
+            List<TransactionListItem> current = window.getValue();
+            if (items != null && (items == current || items.equals(current))) {
+                return;
             }
+            window.setValue(items);
         });
+        return window;
     }
 
     /**
-     * Cria nova transação
+     * Sincroniza transações com a API (delta sync)
+     *
+     * 1. Envia os tombstones locais pendentes (exclusões ainda não confirmadas pelo servidor)
+     * 2. Busca as alterações desde o cursor da conta (maior updatedAt do servidor já aplicado),
+     *    aplicando inclusive exclusões remotas, e avança o cursor na mesma transação
+     * 3. Compacta tombstones já sincronizados e mais antigos que a retenção
+     *
+     * @return handle para cancelar a sincronização (ex.: ao sair da tela)
      */
-    public void createTransaction(@NonNull TransactionDto transactionDto, @NonNull CreateCallback callback) {
-        Log.d(TAG, "Criando transação: " + transactionDto.getAmount() + " - " + transactionDto.getCategory());
+    public RequestHandle syncTransactions(@NonNull String accountId, @NonNull SyncCallback callback) {
+        Log.d(TAG, "Sincronizando transações para conta: " + accountId);
+        RequestHandle handle = new RequestHandle("syncTransactions:" + accountId);
+        SyncTelemetryLog.Run run = telemetryLog.start("getTransactionChanges");
 
-        Call<TransactionDto> call = apiService.createTransaction(transactionDto);
-
-        call.enqueue(new Callback<TransactionDto>() {
-            @Override
-            public void onResponse(@NonNull Call<TransactionDto> call,
-                                 @NonNull Response<TransactionDto> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    TransactionDto createdTransaction = response.body();
-
-                    // Salva no banco local
-                    executorService.execute(() -> {
-                        try {
-                            Transaction transaction = new Transaction(
-                                createdTransaction.getId(),
-                                createdTransaction.getAccountId(),
-                                createdTransaction.getAmount(),
-                                createdTransaction.getDate(),
-                                createdTransaction.getCategory(),
-                                createdTransaction.getNote(),
-                                createdTransaction.getType()
-                            );
-                            transactionDao.insert(transaction);
-
-                            Log.d(TAG, "Transação criada: " + createdTransaction.getId());
-                            callback.onSuccess(createdTransaction);
-                        } catch (Exception e) {
-                            Log.e(TAG, "Erro ao salvar transação", e);
-                            callback.onError("Erro ao salvar: " + e.getMessage());
-                        }
-                    });
-                } else {
-                    Log.d(TAG, "Erro ao criar: " + response.message());
-                    callback.onError("Erro ao criar: " + response.message());
-                }
+        executorService.execute(() -> {
+            if (handle.isCancelled()) {
+                run.finish(SyncTelemetryLog.OUTCOME_CANCELLED);
+                return;
             }
 
-            @Override
-            public void onFailure(@NonNull Call<TransactionDto> call, @NonNull Throwable t) {
-                Log.e(TAG, "Falha na criação", t);
-                callback.onError("Erro de conexão: " + t.getMessage());
+            Set<String> pendingDeletes;
+            Long since;
+            try {
+                pendingDeletes = pushPendingTombstones(accountId, handle);
+                since = transactionDao.getChangesCursor(accountId);
+            } catch (Exception e) {
+                Log.e(TAG, "Erro ao preparar sincronização", e);
+                run.finish(SyncTelemetryLog.OUTCOME_DB_ERROR);
+                callback.onError("Erro ao sincronizar: " + e.getMessage());
+                return;
             }
+
+            Log.d(TAG, "Buscando alterações desde: " + since);
+            Call<List<TransactionDto>> call = apiService.get().getTransactionChanges(accountId, since);
+            handle.attach(call);
+
+            call.enqueue(new Callback<List<TransactionDto>>() {
+                @Override
+                public void onResponse(@NonNull Call<List<TransactionDto>> call,
+                                     @NonNull Response<List<TransactionDto>> response) {
+                    run.onResponse(response);
+                    if (handle.isCancelled()) {
+                        run.finish(SyncTelemetryLog.OUTCOME_CANCELLED);
+                        return;
+                    }
+
+                    if (response.isSuccessful() && response.body() != null) {
+                        List<TransactionDto> transactionDtos = response.body();
+
+                        // Converte DTOs para entidades e salva no banco
+                        executorService.execute(() -> {
+                            run.writeStarted();
+                            try {
+                                long now = System.currentTimeMillis();
+                                List<Transaction> transactions =
+                                        TransactionMapper.toSyncedEntities(transactionDtos, pendingDeletes, now);
+                                Long cursor = nextCursor(since, TransactionMapper.maxUpdatedAt(transactionDtos));
+                                transactionDao.applyChanges(accountId, transactions, cursor, WRITE_BATCH_SIZE,
+                                        handle::isCancelled);
+
+                                int compacted = transactionDao.compactTombstones(now - TOMBSTONE_RETENTION_MS);
+                                windowCache.invalidateAccount(accountId);
+                                run.written(transactions.size());
+                                run.success();
+
+                                Log.d(TAG, "Transações sincronizadas: " + transactionDtos.size()
+                                        + " (gravadas: " + transactions.size() + ", tombstones compactados: " + compacted + ")");
+                                callback.onSuccess(transactionDtos.size());
+                            } catch (CancellationException e) {
+                                Log.d(TAG, "Sincronização cancelada durante a gravação: " + accountId);
+                                run.finish(SyncTelemetryLog.OUTCOME_CANCELLED);
+                            } catch (Exception e) {
+                                Log.e(TAG, "Erro ao salvar transações", e);
+                                run.finish(SyncTelemetryLog.OUTCOME_DB_ERROR);
+                                callback.onError("Erro ao salvar: " + e.getMessage());
+                            }
+                        });
+                    } else {
+                        Log.d(TAG, "Erro na API: " + response.message());
+                        run.finish(SyncTelemetryLog.httpError(response.code()));
+                        callback.onError("Erro na API: " + response.message());
+                    }
+                }
+
+                @Override
+                public void onFailure(@NonNull Call<List<TransactionDto>> call, @NonNull Throwable t) {
+                    if (handle.isCancelled()) {
+                        Log.d(TAG, "Sincronização cancelada: " + accountId);
+                        run.finish(SyncTelemetryLog.OUTCOME_CANCELLED);
+                        return;
+                    }
+                    Log.e(TAG, "Falha na sincronização", t);
+                    run.finish(SyncTelemetryLog.failure(t));
+                    callback.onError("Erro de conexão: " + t.getMessage());
+                }
+            });
         });
+        return handle;
     }
 
     /**
-     * Importa arquivo OFX
+     * Novo cursor do delta sync: nunca recua e não muda se a resposta não trouxe updatedAt
      */
-    public void importOfx(@NonNull Uri fileUri, @NonNull String filePath, @NonNull ImportCallback callback) {
-        Log.d(TAG, "Importando arquivo OFX: " + filePath);
+    private static Long nextCursor(Long since, Long responseMax) {
+        if (responseMax == null) {
+            return null;
+        }
+        return since != null ? Math.max(since, responseMax) : responseMax;
+    }
+
+    /**
+     * Envia ao servidor as exclusões locais pendentes da conta.
+     * Deve ser chamado no executor do repository.
+     *
+     * @return ids cujas exclusões continuam pendentes (falha no envio)
+     */
+    private Set<String> pushPendingTombstones(@NonNull String accountId, @NonNull RequestHandle handle) {
+        Set<String> stillPending = new HashSet<>();
+        List<String> pendingIds = transactionDao.getPendingTombstoneIds(accountId);
+
+        for (String transactionId : pendingIds) {
+            // Cancelado: o restante continua pendente para o próximo sync
+            if (handle.isCancelled() || !pushTombstone(transactionId)) {
+                stillPending.add(transactionId);
+            }
+        }
+
+        if (!pendingIds.isEmpty()) {
+            Log.d(TAG, "Tombstones enviados: " + (pendingIds.size() - stillPending.size()) + "/" + pendingIds.size());
+        }
+        return stillPending;
+    }
 
+    /**
+     * Envia a exclusão de uma transação e marca o tombstone como sincronizado.
+     * Deve ser chamado no executor do repository.
+     */
+    private boolean pushTombstone(@NonNull String transactionId) {
         try {
-            File file = new File(fileUri.getPath());
-            RequestBody requestFile = RequestBody.create(MediaType.parse("application/octet-stream"), file);
-            MultipartBody.Part body = MultipartBody.Part.createFormData("file", file.getName(), requestFile);
+            Response<Void> response = apiService.get().deleteTransaction(transactionId).execute();
+            // 404: já não existe no servidor, exclusão considerada confirmada
+            if (response.isSuccessful() || response.code() == 404) {
+                transactionDao.updateSyncTimestamp(transactionId, System.currentTimeMillis());
+                return true;
+            }
+            Log.d(TAG, "Servidor recusou exclusão de " + transactionId + ": " + response.code());
+        } catch (Exception e) {
+            Log.d(TAG, "Exclusão de " + transactionId + " ficará pendente: " + e.getMessage());
+        }
+        return false;
+    }
 
-            Call<List<TransactionDto>> call = apiService.importOfx(body);
+    /**
+     * Cria nova transação
+     */
+    public void createTransaction(@NonNull TransactionDto transactionDto, @NonNull CreateCallback callback) {
+        Log.d(TAG, "Criando transação: " + transactionDto.getAmount() + " - " + transactionDto.getCategory());
 
-            call.enqueue(new Callback<List<TransactionDto>>() {
+        SyncTelemetryLog.Run run = telemetryLog.start("createTransaction");
+        executorService.execute(() -> {
+            Call<TransactionDto> call = apiService.get().createTransaction(transactionDto);
+
+            call.enqueue(new Callback<TransactionDto>() {
                 @Override
-                public void onResponse(@NonNull Call<List<TransactionDto>> call,
-                                     @NonNull Response<List<TransactionDto>> response) {
+                public void onResponse(@NonNull Call<TransactionDto> call,
+                                     @NonNull Response<TransactionDto> response) {
+                    run.onResponse(response);
                     if (response.isSuccessful() && response.body() != null) {
-                        List<TransactionDto> importedTransactions = response.body();
+                        TransactionDto createdTransaction = response.body();
 
-                        // Salva transações importadas no banco
+                        // Salva no banco local
                         executorService.execute(() -> {
+                            run.writeStarted();
                             try {
-                                for (TransactionDto dto : importedTransactions) {
-                                    Transaction transaction = new Transaction(
-                                        dto.getId(),
-                                        dto.getAccountId(),
-                                        dto.getAmount(),
-                                        dto.getDate(),
-                                        dto.getCategory(),
-                                        dto.getNote(),
-                                        dto.getType()
-                                    );
-                                    transactionDao.insert(transaction);
-                                }
+                                transactionDao.insert(TransactionMapper.toEntity(createdTransaction));
+                                windowCache.invalidateAccount(createdTransaction.getAccountId());
+                                run.written(1);
+                                run.success();
 
-                                Log.d(TAG, "OFX importado com sucesso: " + importedTransactions.size() + " transações");
-                                callback.onSuccess(importedTransactions.size());
+                                Log.d(TAG, "Transação criada: " + createdTransaction.getId());
+                                callback.onSuccess(createdTransaction);
                             } catch (Exception e) {
-                                Log.e(TAG, "Erro ao salvar transações do OFX", e);
+                                Log.e(TAG, "Erro ao salvar transação", e);
+                                run.finish(SyncTelemetryLog.OUTCOME_DB_ERROR);
                                 callback.onError("Erro ao salvar: " + e.getMessage());
                             }
                         });
                     } else {
-                        Log.d(TAG, "Erro na importação OFX: " + response.message());
-                        callback.onError("Erro na importação: " + response.message());
+                        Log.d(TAG, "Erro ao criar: " + response.message());
+                        run.finish(SyncTelemetryLog.httpError(response.code()));
+                        callback.onError("Erro ao criar: " + response.message());
                     }
                 }
 
                 @Override
-                public void onFailure(@NonNull Call<List<TransactionDto>> call, @NonNull Throwable t) {
-                    Log.e(TAG, "Falha na importação OFX", t);
+                public void onFailure(@NonNull Call<TransactionDto> call, @NonNull Throwable t) {
+                    Log.e(TAG, "Falha na criação", t);
+                    run.finish(SyncTelemetryLog.failure(t));
                     callback.onError("Erro de conexão: " + t.getMessage());
                 }
             });
+        });
+    }
 
-        } catch (Exception e) {
-            Log.e(TAG, "Erro ao preparar arquivo OFX", e);
-            callback.onError("Erro ao preparar arquivo: " + e.getMessage());
-        }
+    /**
+     * Importa arquivo OFX
+     *
+     * @return handle para cancelar o upload (ex.: ao sair da tela); depois da resposta do servidor a
+     * gravação local é concluída mesmo assim e apenas o callback é suprimido
+     */
+    public RequestHandle importOfx(@NonNull Uri fileUri, @NonNull String filePath, @NonNull ImportCallback callback) {
+        Log.d(TAG, "Importando arquivo OFX: " + filePath);
+        RequestHandle handle = new RequestHandle("importOfx");
+        SyncTelemetryLog.Run run = telemetryLog.start("importOfx");
+
+        executorService.execute(() -> {
+            if (handle.isCancelled()) {
+                run.finish(SyncTelemetryLog.OUTCOME_CANCELLED);
+                return;
+            }
+
+            try {
+                File file = new File(fileUri.getPath());
+                run.bytes(file.length());
+                RequestBody requestFile = RequestBody.create(MediaType.parse("application/octet-stream"), file);
+                MultipartBody.Part body = MultipartBody.Part.createFormData("file", file.getName(), requestFile);
+
+                Call<List<TransactionDto>> call = apiService.get().importOfx(body);
+                handle.attach(call);
+
+                call.enqueue(new Callback<List<TransactionDto>>() {
+                    @Override
+                    public void onResponse(@NonNull Call<List<TransactionDto>> call,
+                                         @NonNull Response<List<TransactionDto>> response) {
+                        run.onResponse(response);
+                        if (response.isSuccessful() && response.body() != null) {
+                            List<TransactionDto> importedTransactions = response.body();
+
+                            // O servidor já aplicou a importação: a gravação local não é cancelada
+                            // junto com a tela (senão o banco ficaria sem as transações até o
+                            // próximo sync); o cancelamento apenas suprime o callback
+                            executorService.execute(() -> {
+                                run.writeStarted();
+                                try {
+                                    List<Transaction> transactions = TransactionMapper.toEntities(importedTransactions);
+                                    transactionDao.insertAllInBatches(transactions, WRITE_BATCH_SIZE, () -> false);
+                                    // O OFX pode conter várias contas
+                                    windowCache.invalidateAll();
+                                    run.written(transactions.size());
+                                    run.success();
+
+                                    Log.d(TAG, "OFX importado com sucesso: " + importedTransactions.size() + " transações");
+                                    if (!handle.isCancelled()) {
+                                        callback.onSuccess(importedTransactions.size());
+                                    }
+                                } catch (Exception e) {
+                                    Log.e(TAG, "Erro ao salvar transações do OFX", e);
+                                    run.finish(SyncTelemetryLog.OUTCOME_DB_ERROR);
+                                    if (!handle.isCancelled()) {
+                                        callback.onError("Erro ao salvar: " + e.getMessage());
+                                    }
+                                }
+                            });
+                        } else if (handle.isCancelled()) {
+                            run.finish(SyncTelemetryLog.OUTCOME_CANCELLED);
+                        } else {
+                            Log.d(TAG, "Erro na importação OFX: " + response.message());
+                            run.finish(SyncTelemetryLog.httpError(response.code()));
+                            callback.onError("Erro na importação: " + response.message());
+                        }
+                    }
+
+                    @Override
+                    public void onFailure(@NonNull Call<List<TransactionDto>> call, @NonNull Throwable t) {
+                        if (handle.isCancelled()) {
+                            // Se o upload chegou a ser aplicado no servidor, as transações voltam
+                            // no próximo delta sync (updatedAt acima do cursor de cada conta)
+                            Log.d(TAG, "Importação OFX cancelada");
+                            run.finish(SyncTelemetryLog.OUTCOME_CANCELLED);
+                            return;
+                        }
+                        Log.e(TAG, "Falha na importação OFX", t);
+                        run.finish(SyncTelemetryLog.failure(t));
+                        callback.onError("Erro de conexão: " + t.getMessage());
+                    }
+                });
+
+            } catch (Exception e) {
+                Log.e(TAG, "Erro ao preparar arquivo OFX", e);
+                run.finish(SyncTelemetryLog.OUTCOME_ERROR);
+                callback.onError("Erro ao preparar arquivo: " + e.getMessage());
+            }
+        });
+        return handle;
     }
 
     /**
@@ -239,6 +481,7 @@ public class TransactionRepository {
         executorService.execute(() -> {
             try {
                 transactionDao.update(transaction);
+                windowCache.invalidateAccount(transaction.getAccountId());
                 Log.d(TAG, "Transação atualizada localmente: " + transaction.getId());
             } catch (Exception e) {
                 Log.e(TAG, "Erro ao atualizar transação", e);
@@ -248,18 +491,27 @@ public class TransactionRepository {
 
     /**
      * Remove transação
+     *
+     * Marca um tombstone local (a linha some das consultas imediatamente) e tenta enviar
+     * a exclusão ao servidor; se falhar, ela é reenviada no próximo sync.
      */
     public void deleteTransaction(@NonNull String transactionId, @NonNull DeleteCallback callback) {
         Log.d(TAG, "Removendo transação: " + transactionId);
 
         executorService.execute(() -> {
             try {
-                transactionDao.deleteById(transactionId);
-                Log.d(TAG, "Transação removida: " + transactionId);
+                transactionDao.markDeleted(transactionId, System.currentTimeMillis());
+                windowCache.invalidateAll();
+                Log.d(TAG, "Transação marcada como removida: " + transactionId);
                 callback.onSuccess();
             } catch (Exception e) {
                 Log.e(TAG, "Erro ao remover transação", e);
                 callback.onError("Erro ao remover: " + e.getMessage());
+                return;
+            }
+
+            if (pushTombstone(transactionId)) {
+                Log.d(TAG, "Exclusão sincronizada: " + transactionId);
             }
         });
     }
@@ -270,6 +522,7 @@ public class TransactionRepository {
     public String getDebugInfo() {
         return "TransactionRepository{" +
                 "database=" + transactionDao +
+                ", " + windowCache.getDebugInfo() +
                 '}';
     }
 
@@ -295,4 +548,9 @@ public class TransactionRepository {
         void onSuccess();
         void onError(String error);
     }
+
+    public interface LoadCallback {
+        void onSuccess(Transaction transaction);
+        void onError(String error);
+    }
 }
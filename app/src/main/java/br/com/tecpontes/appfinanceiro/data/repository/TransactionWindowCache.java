@@ -0,0 +1,155 @@
+package br.com.tecpontes.appfinanceiro.data.repository;
+
+import android.content.ComponentCallbacks2;
+import android.util.Log;
+import android.util.LruCache;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import br.com.tecpontes.appfinanceiro.data.local.model.TransactionListItem;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Cache LRU em memória, compartilhado pelo processo, das janelas de transações
+ * (conta + período) vistas recentemente.
+ *
+ * O tamanho é medido em linhas. Os caminhos de escrita do TransactionRepository
+ * invalidam as janelas afetadas. Cada invalidação avança a geração das chaves afetadas:
+ * um resultado do Room lido antes dela (ainda em trânsito) não volta ao cache.
+ */
+@Singleton
+public class TransactionWindowCache {
+
+    private static final String TAG = "TransactionWindowCache";
+
+    // Limite total de linhas mantidas em memória
+    private static final int MAX_CACHED_ROWS = 20_000;
+
+    // Janelas maiores não são guardadas: evitaria que uma só janela esvaziasse o cache
+    private static final int MAX_WINDOW_ROWS = MAX_CACHED_ROWS / 2;
+
+    private static final String ALL_ACCOUNTS = "*";
+    private static final char SEPARATOR = '|';
+
+    private final LruCache<String, List<TransactionListItem>> cache =
+            new LruCache<String, List<TransactionListItem>>(MAX_CACHED_ROWS) {
+                @Override
+                protected int sizeOf(String key, List<TransactionListItem> value) {
+                    return Math.max(1, value.size());
+                }
+            };
+
+    // Gerações para descartar resultados anteriores a uma invalidação (protegidas por this)
+    private final Map<String, Long> accountGenerations = new HashMap<>();
+    private long invalidations;
+    private long clears;
+
+    @Inject
+    public TransactionWindowCache() {
+    }
+
+    /**
+     * Monta a chave de uma janela
+     *
+     * @param accountId conta ou null para todas as contas
+     * @param limit     limite de linhas da query (0 para sem limite)
+     */
+    @NonNull
+    public static String windowKey(@Nullable String accountId, long startDate, long endDate, int limit) {
+        return (accountId != null ? accountId : ALL_ACCOUNTS) + SEPARATOR
+                + startDate + SEPARATOR + endDate + SEPARATOR + limit;
+    }
+
+    @Nullable
+    public List<TransactionListItem> get(@NonNull String key) {
+        return cache.get(key);
+    }
+
+    /**
+     * Geração atual da chave; muda a cada invalidação que a atinge
+     */
+    public synchronized long generation(@NonNull String key) {
+        String accountId = key.substring(0, key.indexOf(SEPARATOR));
+        if (ALL_ACCOUNTS.equals(accountId)) {
+            return invalidations;
+        }
+        Long accountGeneration = accountGenerations.get(accountId);
+        return clears + (accountGeneration != null ? accountGeneration : 0);
+    }
+
+    /**
+     * Guarda a janela lida na geração informada; ignorada se a chave foi invalidada desde então
+     */
+    public synchronized void put(@NonNull String key, @NonNull List<TransactionListItem> window, long generation) {
+        if (generation != generation(key)) {
+            Log.d(TAG, "Janela invalidada durante a leitura, não guardada: " + key);
+            return;
+        }
+        if (window.size() > MAX_WINDOW_ROWS) {
+            // Remove a versão anterior, que ficaria desatualizada
+            cache.remove(key);
+            Log.d(TAG, "Janela grande demais para o cache: " + key + " (" + window.size() + " linhas)");
+            return;
+        }
+        cache.put(key, window);
+    }
+
+    /**
+     * Invalida as janelas de uma conta e as janelas que cobrem todas as contas
+     */
+    public synchronized void invalidateAccount(@Nullable String accountId) {
+        if (accountId == null) {
+            invalidateAll();
+            return;
+        }
+
+        invalidations++;
+        Long accountGeneration = accountGenerations.get(accountId);
+        accountGenerations.put(accountId, accountGeneration != null ? accountGeneration + 1 : 1);
+
+        String accountPrefix = accountId + SEPARATOR;
+        String globalPrefix = ALL_ACCOUNTS + SEPARATOR;
+        for (String key : cache.snapshot().keySet()) {
+            if (key.startsWith(accountPrefix) || key.startsWith(globalPrefix)) {
+                cache.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Invalida todas as janelas
+     */
+    public synchronized void invalidateAll() {
+        invalidations++;
+        clears++;
+        cache.evictAll();
+    }
+
+    /**
+     * Libera memória conforme a pressão informada pelo sistema (onTrimMemory)
+     */
+    public void trimMemory(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND) {
+            cache.evictAll();
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            cache.trimToSize(MAX_CACHED_ROWS / 2);
+        }
+        Log.d(TAG, "onTrimMemory(" + level + ") - linhas em cache: " + cache.size());
+    }
+
+    /**
+     * Obtém informações de debug
+     */
+    public String getDebugInfo() {
+        return "TransactionWindowCache{" +
+                "rows=" + cache.size() +
+                ", maxRows=" + cache.maxSize() +
+                ", hits=" + cache.hitCount() +
+                ", misses=" + cache.missCount() +
+                ", evictions=" + cache.evictionCount() +
+                '}';
+    }
+}
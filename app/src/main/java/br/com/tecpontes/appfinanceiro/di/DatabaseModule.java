@@ -3,7 +3,12 @@ package br.com.tecpontes.appfinanceiro.di;
 import android.content.Context;
 import android.util.Log;
 import androidx.room.Room;
+import androidx.room.RoomDatabase;
+import androidx.sqlite.db.framework.FrameworkSQLiteOpenHelperFactory;
+import br.com.tecpontes.appfinanceiro.BuildConfig;
 import br.com.tecpontes.appfinanceiro.data.local.AppDatabase;
+import br.com.tecpontes.appfinanceiro.data.local.SlowQueryLog;
+import br.com.tecpontes.appfinanceiro.data.local.TimingOpenHelperFactory;
 import dagger.Module;
 import dagger.Provides;
 import dagger.hilt.InstallIn;
@@ -23,17 +28,29 @@ public class DatabaseModule {
 
     @Provides
     @Singleton
-    public AppDatabase provideAppDatabase(@ApplicationContext Context context) {
+    public AppDatabase provideAppDatabase(@ApplicationContext Context context, SlowQueryLog slowQueryLog) {
         Log.d(TAG, "Criando instância do AppDatabase");
 
-        return Room.databaseBuilder(
+        RoomDatabase.Builder<AppDatabase> builder = Room.databaseBuilder(
                 context.getApplicationContext(),
                 AppDatabase.class,
                 DATABASE_NAME
             )
             .addCallback(AppDatabase.createCallback())
-            .fallbackToDestructiveMigration() // TODO: Implementar migração adequada em produção
-            .build();
+            .addMigrations(AppDatabase.MIGRATION_1_2, AppDatabase.MIGRATION_2_3, AppDatabase.MIGRATION_3_4)
+            .fallbackToDestructiveMigration(); // TODO: Implementar migração adequada em produção
+
+        if (BuildConfig.DEBUG) {
+            // Mede todas as consultas (lentas e na main thread vão para a tela de debug)
+            builder.openHelperFactory(new TimingOpenHelperFactory(new FrameworkSQLiteOpenHelperFactory(), slowQueryLog));
+
+            // O callback copia os argumentos de toda consulta: só com o log detalhado ativo
+            if (SlowQueryLog.isQueryLoggingEnabled()) {
+                builder.setQueryCallback(slowQueryLog::onQuery, Runnable::run);
+            }
+        }
+
+        return builder.build();
     }
 
     @Provides
@@ -47,4 +64,10 @@ public class DatabaseModule {
     public br.com.tecpontes.appfinanceiro.data.local.dao.TransactionDao provideTransactionDao(AppDatabase database) {
         return database.transactionDao();
     }
+
+    @Provides
+    @Singleton
+    public br.com.tecpontes.appfinanceiro.data.local.dao.SyncTelemetryDao provideSyncTelemetryDao(AppDatabase database) {
+        return database.syncTelemetryDao();
+    }
 }
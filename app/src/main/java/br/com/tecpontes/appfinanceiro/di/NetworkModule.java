@@ -1,22 +1,36 @@
 package br.com.tecpontes.appfinanceiro.di;
 
+import android.os.Looper;
+import android.os.SystemClock;
+import android.os.Trace;
 import android.util.Log;
+import br.com.tecpontes.appfinanceiro.BuildConfig;
 import br.com.tecpontes.appfinanceiro.network.ApiService;
+import br.com.tecpontes.appfinanceiro.network.CallTimingInterceptor;
 import br.com.tecpontes.appfinanceiro.network.JwtInterceptor;
+import br.com.tecpontes.appfinanceiro.network.NetworkEventListener;
+import br.com.tecpontes.appfinanceiro.network.NetworkMetrics;
+import br.com.tecpontes.appfinanceiro.network.RetryInterceptor;
+import br.com.tecpontes.appfinanceiro.network.SampledLoggingInterceptor;
+import br.com.tecpontes.appfinanceiro.network.TokenAuthenticator;
+import br.com.tecpontes.appfinanceiro.network.json.GsonFactory;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import dagger.Module;
 import dagger.Provides;
 import dagger.hilt.InstallIn;
 import dagger.hilt.components.SingletonComponent;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
 import okhttp3.OkHttpClient;
-import okhttp3.logging.HttpLoggingInterceptor;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
 import javax.inject.Singleton;
 
 /**
  * Módulo Hilt para configuração de rede (Retrofit + OkHttp)
+ *
+ * Cada etapa é marcada com Trace (visível no Perfetto/systrace) e registra no log
+ * a duração e se foi executada na thread principal.
  */
 @Module
 @InstallIn(SingletonComponent.class)
@@ -25,33 +39,53 @@ public class NetworkModule {
     //private static final String BASE_URL = "https://appfinanceiro.tecpontes.com.br/"; // TODO: Configurar URL base
     private static final String BASE_URL = "http://10.0.2.2:5000/"; // Use 10.0.2.2 for emulator to connect to localhost
     private static final String TAG = "NetworkModule";
+    // Em debug, uma a cada N chamadas tem o corpo registrado no log
+    private static final int LOG_BODY_SAMPLE_EVERY = 10;
+    // Conexões ociosas mantidas para reuso; keep-alive abaixo do timeout do servidor (Kestrel: 130s)
+    private static final int MAX_IDLE_CONNECTIONS = 4;
+    private static final long KEEP_ALIVE_SECONDS = 120;
 
     @Provides
     @Singleton
     public Gson provideGson() {
-        return new GsonBuilder()
-                .setLenient()
-                .create();
-    }
-
-    @Provides
-    @Singleton
-    public HttpLoggingInterceptor provideLoggingInterceptor() {
-        HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
-        logging.setLevel(HttpLoggingInterceptor.Level.BODY);
-        return logging;
+        long start = beginStep("NetworkModule.provideGson");
+        try {
+            // DTOs decodificados por TypeAdapters de streaming, sem reflexão
+            return GsonFactory.create();
+        } finally {
+            endStep("Gson", start);
+        }
     }
 
     @Provides
     @Singleton
     public OkHttpClient provideOkHttpClient(
+            RetryInterceptor retryInterceptor,
             JwtInterceptor jwtInterceptor,
-            HttpLoggingInterceptor loggingInterceptor
+            TokenAuthenticator tokenAuthenticator,
+            NetworkMetrics networkMetrics
     ) {
-        return new OkHttpClient.Builder()
-                .addInterceptor(jwtInterceptor)
-                .addInterceptor(loggingInterceptor)
-                .build();
+        long start = beginStep("NetworkModule.provideOkHttpClient");
+        try {
+            OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                    .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS))
+                    // Primeiro: mede o download e a decodificação do corpo entregue ao Retrofit
+                    .addInterceptor(new CallTimingInterceptor())
+                    // Retry/circuit breaker por fora: cada tentativa recebe o token mais recente
+                    .addInterceptor(retryInterceptor)
+                    .addInterceptor(jwtInterceptor)
+                    .authenticator(tokenAuthenticator)
+                    .eventListenerFactory(new NetworkEventListener.Factory(networkMetrics));
+
+            // Log HTTP apenas em debug e amostrado; release não registra nada
+            if (BuildConfig.DEBUG) {
+                builder.addInterceptor(new SampledLoggingInterceptor(LOG_BODY_SAMPLE_EVERY));
+            }
+
+            return builder.build();
+        } finally {
+            endStep("OkHttpClient", start);
+        }
     }
 
     @Provides
@@ -59,16 +93,43 @@ public class NetworkModule {
     public Retrofit provideRetrofit(Gson gson, OkHttpClient okHttpClient) {
         Log.d(TAG, "Configurando Retrofit com base URL: " + BASE_URL);
 
-        return new Retrofit.Builder()
-                .baseUrl(BASE_URL)
-                .client(okHttpClient)
-                .addConverterFactory(GsonConverterFactory.create(gson))
-                .build();
+        long start = beginStep("NetworkModule.provideRetrofit");
+        try {
+            return new Retrofit.Builder()
+                    .baseUrl(BASE_URL)
+                    .client(okHttpClient)
+                    .addConverterFactory(GsonConverterFactory.create(gson))
+                    .build();
+        } finally {
+            endStep("Retrofit", start);
+        }
     }
 
     @Provides
     @Singleton
     public ApiService provideApiService(Retrofit retrofit) {
-        return retrofit.create(ApiService.class);
+        long start = beginStep("NetworkModule.provideApiService");
+        try {
+            return retrofit.create(ApiService.class);
+        } finally {
+            endStep("ApiService", start);
+        }
+    }
+
+    private static long beginStep(String section) {
+        Trace.beginSection(section);
+        return SystemClock.elapsedRealtime();
+    }
+
+    private static void endStep(String name, long start) {
+        Trace.endSection();
+        boolean mainThread = Looper.myLooper() == Looper.getMainLooper();
+        String message = name + " criado em " + (SystemClock.elapsedRealtime() - start) + "ms"
+                + (mainThread ? " na thread principal" : " em background");
+        if (mainThread) {
+            Log.w(TAG, message);
+        } else {
+            Log.d(TAG, message);
+        }
     }
 }
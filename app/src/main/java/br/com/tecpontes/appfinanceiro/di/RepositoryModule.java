@@ -1,13 +1,17 @@
 package br.com.tecpontes.appfinanceiro.di;
 
+import br.com.tecpontes.appfinanceiro.data.local.DashboardSnapshotStore;
+import br.com.tecpontes.appfinanceiro.data.local.SyncTelemetryLog;
 import br.com.tecpontes.appfinanceiro.data.local.dao.AccountDao;
 import br.com.tecpontes.appfinanceiro.data.local.dao.TransactionDao;
 import br.com.tecpontes.appfinanceiro.data.repository.AccountRepository;
 import br.com.tecpontes.appfinanceiro.data.repository.AuthRepository;
 import br.com.tecpontes.appfinanceiro.data.repository.DashboardRepository;
 import br.com.tecpontes.appfinanceiro.data.repository.TransactionRepository;
+import br.com.tecpontes.appfinanceiro.data.repository.TransactionWindowCache;
 import br.com.tecpontes.appfinanceiro.network.ApiService;
 import br.com.tecpontes.appfinanceiro.utils.TokenManager;
+import dagger.Lazy;
 import dagger.Module;
 import dagger.Provides;
 import dagger.hilt.InstallIn;
@@ -16,6 +20,11 @@ import javax.inject.Singleton;
 
 /**
  * Módulo Hilt para injeção de repositories
+ *
+ * O ApiService é injetado como Lazy: criar um repository não constrói OkHttp/Retrofit.
+ * A pilha de rede é aquecida em background pelo NetworkWarmer; como apiService.get() pode
+ * esperar esse aquecimento, os repositories só o chamam no próprio executor, nunca na
+ * thread de quem chamou (normalmente a main thread).
  */
 @Module
 @InstallIn(SingletonComponent.class)
@@ -23,25 +32,29 @@ public class RepositoryModule {
 
     @Provides
     @Singleton
-    public AuthRepository provideAuthRepository(ApiService apiService, TokenManager tokenManager) {
+    public AuthRepository provideAuthRepository(Lazy<ApiService> apiService, TokenManager tokenManager) {
         return new AuthRepository(apiService, tokenManager);
     }
 
     @Provides
     @Singleton
-    public AccountRepository provideAccountRepository(ApiService apiService, AccountDao accountDao) {
-        return new AccountRepository(apiService, accountDao);
+    public AccountRepository provideAccountRepository(Lazy<ApiService> apiService, AccountDao accountDao,
+                                                      SyncTelemetryLog telemetryLog) {
+        return new AccountRepository(apiService, accountDao, telemetryLog);
     }
 
     @Provides
     @Singleton
-    public TransactionRepository provideTransactionRepository(ApiService apiService, TransactionDao transactionDao) {
-        return new TransactionRepository(apiService, transactionDao);
+    public TransactionRepository provideTransactionRepository(Lazy<ApiService> apiService, TransactionDao transactionDao,
+                                                              TransactionWindowCache windowCache, SyncTelemetryLog telemetryLog) {
+        return new TransactionRepository(apiService, transactionDao, windowCache, telemetryLog);
     }
 
     @Provides
     @Singleton
-    public DashboardRepository provideDashboardRepository(ApiService apiService, AccountDao accountDao, TransactionDao transactionDao) {
-        return new DashboardRepository(apiService, accountDao, transactionDao);
+    public DashboardRepository provideDashboardRepository(Lazy<ApiService> apiService, AccountDao accountDao, TransactionDao transactionDao,
+                                                          DashboardSnapshotStore snapshotStore, TransactionWindowCache windowCache,
+                                                          SyncTelemetryLog telemetryLog) {
+        return new DashboardRepository(apiService, accountDao, transactionDao, snapshotStore, windowCache, telemetryLog);
     }
 }
@@ -13,12 +13,21 @@ public class AuthResponse {
     @SerializedName("token")
     private String token;
 
+    @Nullable
+    @SerializedName("refreshToken")
+    private String refreshToken;
+
     @NonNull
     @SerializedName("user")
     private UserDto user;
 
     public AuthResponse(@NonNull String token, @NonNull UserDto user) {
+        this(token, null, user);
+    }
+
+    public AuthResponse(@NonNull String token, @Nullable String refreshToken, @NonNull UserDto user) {
         this.token = token;
+        this.refreshToken = refreshToken;
         this.user = user;
     }
 
@@ -31,6 +40,15 @@ public class AuthResponse {
         this.token = token;
     }
 
+    @Nullable
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(@Nullable String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
     @NonNull
     public UserDto getUser() {
         return user;
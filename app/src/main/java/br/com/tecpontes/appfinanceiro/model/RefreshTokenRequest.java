@@ -0,0 +1,34 @@
+package br.com.tecpontes.appfinanceiro.model;
+
+import androidx.annotation.NonNull;
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * Modelo para requisição de renovação do token JWT
+ */
+public class RefreshTokenRequest {
+
+    @NonNull
+    @SerializedName("refreshToken")
+    private String refreshToken;
+
+    public RefreshTokenRequest(@NonNull String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    @NonNull
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(@NonNull String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    @Override
+    public String toString() {
+        return "RefreshTokenRequest{" +
+                "refreshToken='[PROTECTED]'" +
+                '}';
+    }
+}
@@ -35,6 +35,16 @@ public class TransactionDto {
     @SerializedName("type")
     private String type; // "income" ou "expense"
 
+    @SerializedName("deleted")
+    private boolean deleted;
+
+    @SerializedName("deletedAt")
+    private long deletedAt;
+
+    // Última alteração no servidor (relógio do servidor); base do cursor do delta sync
+    @SerializedName("updatedAt")
+    private long updatedAt;
+
     public TransactionDto(@NonNull String id, @NonNull String accountId, double amount,
                          long date, @NonNull String category, @Nullable String note,
                          @NonNull String type) {
@@ -108,6 +118,30 @@ public class TransactionDto {
         this.type = type;
     }
 
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
+
+    public long getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(long deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    public long getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(long updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     @Override
     public String toString() {
         return "TransactionDto{" +
@@ -118,6 +152,9 @@ public class TransactionDto {
                 ", category='" + category + '\'' +
                 ", note='" + note + '\'' +
                 ", type='" + type + '\'' +
+                ", deleted=" + deleted +
+                ", deletedAt=" + deletedAt +
+                ", updatedAt=" + updatedAt +
                 '}';
     }
 }
@@ -5,15 +5,18 @@ import br.com.tecpontes.appfinanceiro.model.AccountDto;
 import br.com.tecpontes.appfinanceiro.model.AuthRequest;
 import br.com.tecpontes.appfinanceiro.model.AuthResponse;
 import br.com.tecpontes.appfinanceiro.model.DashboardDto;
+import br.com.tecpontes.appfinanceiro.model.RefreshTokenRequest;
 import br.com.tecpontes.appfinanceiro.model.TransactionDto;
 import java.util.List;
 import okhttp3.MultipartBody;
 import retrofit2.Call;
 import retrofit2.http.Body;
+import retrofit2.http.DELETE;
 import retrofit2.http.GET;
 import retrofit2.http.Multipart;
 import retrofit2.http.POST;
 import retrofit2.http.Part;
+import retrofit2.http.Path;
 import retrofit2.http.Query;
 
 /**
@@ -29,6 +32,12 @@ public interface ApiService {
     @POST("auth/register")
     Call<AuthResponse> register(@Body AuthRequest request);
 
+    /**
+     * Renova o token JWT a partir do refresh token (chamado pelo TokenRefresher)
+     */
+    @POST("auth/refresh")
+    Call<AuthResponse> refresh(@Body RefreshTokenRequest request);
+
     // ========== CONTAS ==========
 
     @GET("accounts")
@@ -49,6 +58,18 @@ public interface ApiService {
     @POST("transactions")
     Call<TransactionDto> createTransaction(@Body TransactionDto transaction);
 
+    /**
+     * Alterações desde o último sync (inclui tombstones com deleted = true)
+     */
+    @GET("transactions/changes")
+    Call<List<TransactionDto>> getTransactionChanges(
+            @Query("accountId") @Nullable String accountId,
+            @Query("since") @Nullable Long since
+    );
+
+    @DELETE("transactions/{id}")
+    Call<Void> deleteTransaction(@Path("id") String transactionId);
+
     // ========== DASHBOARD ==========
 
     @GET("dashboard")
@@ -0,0 +1,143 @@
+package br.com.tecpontes.appfinanceiro.network;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.io.IOException;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+/**
+ * Anexa um Timings a cada requisição (tag do Request) para a telemetria de sync separar
+ * o download do corpo da decodificação do JSON:
+ *
+ * - fim do download: registrado pelo NetworkEventListener em responseBodyEnd
+ * - decodificação: o converter do Retrofit consome o corpo na thread do OkHttp; o tempo entre a
+ *   primeira leitura e o fechamento do corpo, descontado o tempo dentro das leituras (espera pela rede)
+ *
+ * Deve ser o primeiro interceptor do cliente, para envolver o corpo entregue ao Retrofit.
+ */
+public class CallTimingInterceptor implements Interceptor {
+
+    @NonNull
+    @Override
+    public Response intercept(@NonNull Chain chain) throws IOException {
+        Timings timings = new Timings();
+        Request request = chain.request().newBuilder()
+                .tag(Timings.class, timings)
+                .build();
+
+        Response response = chain.proceed(request);
+        ResponseBody body = response.body();
+        if (body == null) {
+            return response;
+        }
+        return response.newBuilder()
+                .body(new DecodeTimingBody(body, timings))
+                .build();
+    }
+
+    /**
+     * Tempos de uma chamada; escritos na thread do OkHttp e lidos no callback do Retrofit
+     */
+    public static final class Timings {
+
+        private volatile long bodyEndAtMillis = -1;
+        private volatile long decodeNanos = -1;
+
+        /**
+         * Timings da requisição (ou da resposta, via response.request()); null se o cliente
+         * não tem o CallTimingInterceptor
+         */
+        @Nullable
+        public static Timings of(@NonNull Request request) {
+            return request.tag(Timings.class);
+        }
+
+        void bodyEnd() {
+            bodyEndAtMillis = System.currentTimeMillis();
+        }
+
+        /**
+         * Fim do download do corpo (ms desde a época, mesma base do sentRequestAtMillis); -1 se não terminou
+         */
+        public long getBodyEndAtMillis() {
+            return bodyEndAtMillis;
+        }
+
+        /**
+         * Tempo de decodificação do corpo pelo converter; -1 se o corpo não foi consumido
+         */
+        public long getDecodeMs() {
+            long nanos = decodeNanos;
+            return nanos < 0 ? -1 : nanos / 1_000_000L;
+        }
+    }
+
+    /**
+     * Corpo que mede o tempo gasto pelo leitor fora das leituras, da primeira leitura até o close
+     */
+    private static final class DecodeTimingBody extends ResponseBody {
+
+        private final ResponseBody delegate;
+        private final Timings timings;
+        private BufferedSource source;
+
+        DecodeTimingBody(ResponseBody delegate, Timings timings) {
+            this.delegate = delegate;
+            this.timings = timings;
+        }
+
+        @Nullable
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @NonNull
+        @Override
+        public BufferedSource source() {
+            if (source == null) {
+                source = Okio.buffer(new ForwardingSource(delegate.source()) {
+                    private long firstReadAt = -1;
+                    private long readNanos;
+                    private boolean closed;
+
+                    @Override
+                    public long read(@NonNull Buffer sink, long byteCount) throws IOException {
+                        long start = System.nanoTime();
+                        if (firstReadAt < 0) {
+                            firstReadAt = start;
+                        }
+                        try {
+                            return super.read(sink, byteCount);
+                        } finally {
+                            readNanos += System.nanoTime() - start;
+                        }
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        if (!closed && firstReadAt >= 0) {
+                            timings.decodeNanos = Math.max(0, System.nanoTime() - firstReadAt - readNanos);
+                        }
+                        closed = true;
+                        super.close();
+                    }
+                });
+            }
+            return source;
+        }
+    }
+}
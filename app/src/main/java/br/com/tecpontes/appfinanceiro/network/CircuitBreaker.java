@@ -0,0 +1,151 @@
+package br.com.tecpontes.appfinanceiro.network;
+
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Circuit breaker por endpoint do ApiService.
+ *
+ * FECHADO: chamadas passam normalmente. Após FAILURE_THRESHOLD chamadas seguidas com falha
+ * (erro de rede, 429 ou 502/503/504 na última tentativa) o circuito ABRE e as chamadas falham
+ * na hora com CircuitOpenException. Passado OPEN_DURATION_MS, fica MEIO-ABERTO: uma única
+ * chamada de teste decide se fecha ou reabre (se terminar sem resultado, é liberada com release).
+ */
+@Singleton
+public class CircuitBreaker {
+
+    private static final String TAG = "CircuitBreaker";
+
+    static final int FAILURE_THRESHOLD = 5;
+    static final long OPEN_DURATION_MS = 30_000;
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final ConcurrentHashMap<String, EndpointCircuit> circuits = new ConcurrentHashMap<>();
+
+    @Inject
+    public CircuitBreaker() {
+    }
+
+    /**
+     * Verifica se a chamada pode ir à rede; lança CircuitOpenException se o circuito estiver aberto
+     */
+    public void acquire(@NonNull String endpoint) throws CircuitOpenException {
+        circuit(endpoint).acquire(endpoint);
+    }
+
+    public void recordSuccess(@NonNull String endpoint) {
+        circuit(endpoint).recordSuccess(endpoint);
+    }
+
+    public void recordFailure(@NonNull String endpoint) {
+        circuit(endpoint).recordFailure(endpoint);
+    }
+
+    /**
+     * Indica se o circuito está aberto (sem alterar o estado)
+     */
+    public boolean isOpen(@NonNull String endpoint) {
+        return circuit(endpoint).isOpen();
+    }
+
+    /**
+     * Chamada encerrada sem resultado conclusivo (ex.: cancelada): libera a chamada de teste
+     */
+    public void release(@NonNull String endpoint) {
+        circuit(endpoint).release();
+    }
+
+    /**
+     * Estado atual de cada endpoint já chamado, ordenado pelo nome
+     */
+    @NonNull
+    public List<String> describe() {
+        Map<String, EndpointCircuit> sorted = new TreeMap<>(circuits);
+        List<String> lines = new ArrayList<>(sorted.size());
+        for (Map.Entry<String, EndpointCircuit> entry : sorted.entrySet()) {
+            lines.add(entry.getKey() + ": " + entry.getValue().describe());
+        }
+        return lines;
+    }
+
+    public void reset() {
+        circuits.clear();
+    }
+
+    @NonNull
+    private EndpointCircuit circuit(@NonNull String endpoint) {
+        return circuits.computeIfAbsent(endpoint, key -> new EndpointCircuit());
+    }
+
+    private static final class EndpointCircuit {
+
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAt;
+        private boolean trialInFlight;
+
+        synchronized void acquire(String endpoint) throws CircuitOpenException {
+            if (state == State.CLOSED) {
+                return;
+            }
+
+            long elapsed = SystemClock.elapsedRealtime() - openedAt;
+            if (state == State.OPEN && elapsed >= OPEN_DURATION_MS) {
+                state = State.HALF_OPEN;
+                trialInFlight = false;
+                Log.d(TAG, endpoint + ": meio-aberto, liberando chamada de teste");
+            }
+
+            if (state == State.HALF_OPEN && !trialInFlight) {
+                trialInFlight = true;
+                return;
+            }
+
+            throw new CircuitOpenException(endpoint, Math.max(0, OPEN_DURATION_MS - elapsed));
+        }
+
+        synchronized void recordSuccess(String endpoint) {
+            if (state != State.CLOSED) {
+                Log.d(TAG, endpoint + ": circuito fechado");
+            }
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            trialInFlight = false;
+        }
+
+        synchronized void recordFailure(String endpoint) {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= FAILURE_THRESHOLD) {
+                if (state != State.OPEN) {
+                    Log.w(TAG, endpoint + ": circuito aberto após " + consecutiveFailures + " falhas seguidas");
+                }
+                state = State.OPEN;
+                openedAt = SystemClock.elapsedRealtime();
+                trialInFlight = false;
+            }
+        }
+
+        synchronized boolean isOpen() {
+            return state == State.OPEN;
+        }
+
+        synchronized void release() {
+            trialInFlight = false;
+        }
+
+        synchronized String describe() {
+            return state + " (falhas seguidas: " + consecutiveFailures + ")";
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.tecpontes.appfinanceiro.network;
+
+import androidx.annotation.NonNull;
+import java.io.IOException;
+
+/**
+ * Lançada quando o circuito do endpoint está aberto: a chamada falha na hora, sem ir à rede.
+ *
+ * É uma IOException para chegar aos repositories pelo mesmo onFailure das falhas de conexão.
+ */
+public class CircuitOpenException extends IOException {
+
+    private final String endpoint;
+    private final long retryAfterMs;
+
+    public CircuitOpenException(@NonNull String endpoint, long retryAfterMs) {
+        super("Serviço temporariamente indisponível, tente novamente em " + Math.max(1, retryAfterMs / 1000) + "s");
+        this.endpoint = endpoint;
+        this.retryAfterMs = retryAfterMs;
+    }
+
+    @NonNull
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getRetryAfterMs() {
+        return retryAfterMs;
+    }
+}
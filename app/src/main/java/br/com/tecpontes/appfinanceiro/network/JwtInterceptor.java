@@ -2,6 +2,7 @@ package br.com.tecpontes.appfinanceiro.network;
 
 import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import br.com.tecpontes.appfinanceiro.utils.TokenManager;
 import java.io.IOException;
 import javax.inject.Inject;
@@ -11,48 +12,86 @@ import okhttp3.Request;
 import okhttp3.Response;
 
 /**
- * Interceptor do OkHttp que adiciona o token JWT automaticamente nas requisições
- * e trata respostas 401 (não autorizado)
+ * Interceptor do OkHttp que adiciona o token JWT automaticamente nas requisições.
+ *
+ * Se o token estiver perto de expirar, renova antes de enviar; respostas 401
+ * são tratadas pelo TokenAuthenticator (renovação + replay).
+ *
+ * O header Authorization fica pronto em memória e só é recalculado quando o
+ * TokenManager avisa que o token mudou.
  */
 @Singleton
 public class JwtInterceptor implements Interceptor {
 
+    private static final String TAG = "JwtInterceptor";
+
+    static final String HEADER_AUTHORIZATION = "Authorization";
+    static final String BEARER_PREFIX = "Bearer ";
+
+    // Renova proativamente quando faltar menos que isso para a claim exp
+    private static final long REFRESH_MARGIN_SECONDS = 60;
+
     private final TokenManager tokenManager;
+    private final TokenRefresher tokenRefresher;
+
+    // "Bearer <token>" do token atual, ou null sem login
+    private volatile String authorizationHeader;
 
     @Inject
-    public JwtInterceptor(TokenManager tokenManager) {
+    public JwtInterceptor(TokenManager tokenManager, TokenRefresher tokenRefresher) {
         this.tokenManager = tokenManager;
+        this.tokenRefresher = tokenRefresher;
+        this.authorizationHeader = toHeader(tokenManager.getToken());
+        tokenManager.addListener(token -> authorizationHeader = toHeader(token));
     }
 
     @NonNull
     @Override
     public Response intercept(@NonNull Chain chain) throws IOException {
         Request original = chain.request();
-        String token = tokenManager.getToken();
 
-        Log.d("JwtInterceptor", "Interceptando requisição para: " + original.url());
+        Log.d(TAG, "Interceptando requisição para: " + original.url());
+
+        if (authorizationHeader != null && !isAuthRequest(original)
+                && tokenManager.isTokenExpiringWithin(REFRESH_MARGIN_SECONDS)) {
+            Log.d(TAG, "Token perto de expirar — renovando antes da requisição");
+            tokenRefresher.refresh(tokenManager.getToken());
+        }
 
         // Adiciona o token JWT se disponível
-        Request.Builder builder = original.newBuilder();
-        if (token != null && !token.isEmpty()) {
-            builder.header("Authorization", "Bearer " + token);
-            Log.d("JwtInterceptor", "Token JWT adicionado à requisição");
-        } else {
-            Log.d("JwtInterceptor", "Nenhum token disponível para adicionar");
+        String header = authorizationHeader;
+        if (header == null) {
+            Log.d(TAG, "Nenhum token disponível para adicionar");
+            return chain.proceed(original);
         }
 
-        Request request = builder.build();
-        Response response = chain.proceed(request);
+        Log.d(TAG, "Token JWT adicionado à requisição");
+        return chain.proceed(original.newBuilder()
+                .header(HEADER_AUTHORIZATION, header)
+                .build());
+    }
 
-        // Trata resposta 401 (não autorizado)
-        if (response.code() == 401) {
-            Log.d("JwtInterceptor", "401 detectado — limpando token");
-            tokenManager.clearToken();
+    @Nullable
+    private static String toHeader(@Nullable String token) {
+        return token == null || token.isEmpty() ? null : BEARER_PREFIX + token;
+    }
 
-            // TODO: Emitir evento para forçar tela de login
-            // Pode ser implementado com LiveData, EventBus ou Broadcast
-        }
+    /**
+     * Endpoints de autenticação (login, registro, refresh) não passam pela renovação
+     */
+    static boolean isAuthRequest(@NonNull Request request) {
+        return request.url().encodedPath().startsWith("/auth/");
+    }
 
-        return response;
+    /**
+     * Token enviado no header Authorization da requisição, ou null
+     */
+    @Nullable
+    static String bearerToken(@NonNull Request request) {
+        String header = request.header(HEADER_AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        return header.substring(BEARER_PREFIX.length());
     }
 }
@@ -0,0 +1,173 @@
+package br.com.tecpontes.appfinanceiro.network;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import retrofit2.Invocation;
+
+/**
+ * EventListener do OkHttp que mede DNS, conexão, TLS, tempo até o primeiro byte,
+ * bytes e tempo total de cada chamada e registra no NetworkMetrics. Também marca o fim do download
+ * do corpo nos Timings do CallTimingInterceptor (telemetria de sync).
+ *
+ * Uma instância por chamada (criada pela Factory), portanto sem sincronização.
+ */
+public class NetworkEventListener extends EventListener {
+
+    /**
+     * Factory registrada no OkHttpClient
+     */
+    public static class Factory implements EventListener.Factory {
+
+        private final NetworkMetrics metrics;
+
+        public Factory(@NonNull NetworkMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @NonNull
+        @Override
+        public EventListener create(@NonNull Call call) {
+            return new NetworkEventListener(metrics, endpointName(call.request()));
+        }
+    }
+
+    private final NetworkMetrics metrics;
+    private final String endpoint;
+
+    private long callStart;
+    private long dnsStart;
+    private long connectStart;
+    private long secureConnectStart;
+    private long dnsNanos;
+    private long connectNanos;
+    private long tlsNanos;
+    private long ttfbNanos = -1;
+    private long requestBytes;
+    private long responseBytes;
+    private boolean responseSuccessful;
+    private CallTimingInterceptor.Timings timings;
+
+    NetworkEventListener(@NonNull NetworkMetrics metrics, @NonNull String endpoint) {
+        this.metrics = metrics;
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Nome do endpoint: método do ApiService (tag Invocation do Retrofit) ou "MÉTODO /caminho"
+     */
+    @NonNull
+    static String endpointName(@NonNull Request request) {
+        Invocation invocation = request.tag(Invocation.class);
+        if (invocation != null) {
+            return invocation.method().getName();
+        }
+        return request.method() + " " + request.url().encodedPath();
+    }
+
+    @Override
+    public void callStart(@NonNull Call call) {
+        callStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsStart(@NonNull Call call, @NonNull String domainName) {
+        dnsStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(@NonNull Call call, @NonNull String domainName, @NonNull List<InetAddress> inetAddressList) {
+        dnsNanos += System.nanoTime() - dnsStart;
+    }
+
+    @Override
+    public void connectStart(@NonNull Call call, @NonNull InetSocketAddress inetSocketAddress, @NonNull Proxy proxy) {
+        connectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectStart(@NonNull Call call) {
+        secureConnectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectEnd(@NonNull Call call, @Nullable Handshake handshake) {
+        tlsNanos += System.nanoTime() - secureConnectStart;
+    }
+
+    @Override
+    public void connectEnd(@NonNull Call call, @NonNull InetSocketAddress inetSocketAddress,
+                           @NonNull Proxy proxy, @Nullable Protocol protocol) {
+        connectNanos += System.nanoTime() - connectStart;
+    }
+
+    @Override
+    public void connectFailed(@NonNull Call call, @NonNull InetSocketAddress inetSocketAddress,
+                              @NonNull Proxy proxy, @Nullable Protocol protocol, @NonNull IOException ioe) {
+        connectNanos += System.nanoTime() - connectStart;
+    }
+
+    @Override
+    public void requestBodyEnd(@NonNull Call call, long byteCount) {
+        requestBytes += byteCount;
+    }
+
+    @Override
+    public void responseHeadersStart(@NonNull Call call) {
+        if (ttfbNanos < 0) {
+            ttfbNanos = System.nanoTime() - callStart;
+        }
+    }
+
+    @Override
+    public void responseHeadersEnd(@NonNull Call call, @NonNull Response response) {
+        responseSuccessful = response.isSuccessful();
+        timings = CallTimingInterceptor.Timings.of(response.request());
+    }
+
+    @Override
+    public void responseBodyEnd(@NonNull Call call, long byteCount) {
+        responseBytes += byteCount;
+        if (timings != null) {
+            timings.bodyEnd();
+        }
+    }
+
+    @Override
+    public void callEnd(@NonNull Call call) {
+        record(responseSuccessful);
+    }
+
+    @Override
+    public void callFailed(@NonNull Call call, @NonNull IOException ioe) {
+        record(false);
+    }
+
+    private void record(boolean success) {
+        metrics.record(new NetworkMetrics.CallSample(
+                endpoint,
+                toMillis(dnsNanos),
+                toMillis(connectNanos),
+                toMillis(tlsNanos),
+                toMillis(Math.max(0, ttfbNanos)),
+                toMillis(System.nanoTime() - callStart),
+                requestBytes,
+                responseBytes,
+                success
+        ));
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000L;
+    }
+}
@@ -0,0 +1,228 @@
+package br.com.tecpontes.appfinanceiro.network;
+
+import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Guarda as últimas chamadas de rede em um ring buffer em memória e calcula
+ * percentis por endpoint do ApiService
+ */
+@Singleton
+public class NetworkMetrics {
+
+    private static final int CAPACITY = 512;
+
+    private final CallSample[] samples = new CallSample[CAPACITY];
+    private int next = 0;
+    private int count = 0;
+
+    // Contadores de resiliência por endpoint: [retries, rejeições do circuit breaker]
+    private final Map<String, int[]> resilienceCounters = new TreeMap<>();
+
+    @Inject
+    public NetworkMetrics() {
+    }
+
+    /**
+     * Registra uma chamada concluída (ou com falha)
+     */
+    public synchronized void record(@NonNull CallSample sample) {
+        samples[next] = sample;
+        next = (next + 1) % CAPACITY;
+        if (count < CAPACITY) {
+            count++;
+        }
+    }
+
+    /**
+     * Cópia das amostras atuais, da mais antiga para a mais recente
+     */
+    @NonNull
+    public synchronized List<CallSample> getSamples() {
+        List<CallSample> copy = new ArrayList<>(count);
+        int start = (next - count + CAPACITY) % CAPACITY;
+        for (int i = 0; i < count; i++) {
+            copy.add(samples[(start + i) % CAPACITY]);
+        }
+        return copy;
+    }
+
+    /**
+     * Registra uma nova tentativa automática (RetryInterceptor)
+     */
+    public synchronized void recordRetry(@NonNull String endpoint) {
+        counters(endpoint)[0]++;
+    }
+
+    /**
+     * Registra uma chamada rejeitada com o circuito aberto
+     */
+    public synchronized void recordCircuitRejection(@NonNull String endpoint) {
+        counters(endpoint)[1]++;
+    }
+
+    public synchronized int getRetryCount(@NonNull String endpoint) {
+        int[] counters = resilienceCounters.get(endpoint);
+        return counters != null ? counters[0] : 0;
+    }
+
+    public synchronized int getCircuitRejectionCount(@NonNull String endpoint) {
+        int[] counters = resilienceCounters.get(endpoint);
+        return counters != null ? counters[1] : 0;
+    }
+
+    /**
+     * Endpoints com retries ou rejeições registrados, ordenados pelo nome
+     */
+    @NonNull
+    public synchronized List<String> getResilienceEndpoints() {
+        return new ArrayList<>(resilienceCounters.keySet());
+    }
+
+    private int[] counters(@NonNull String endpoint) {
+        int[] counters = resilienceCounters.get(endpoint);
+        if (counters == null) {
+            counters = new int[2];
+            resilienceCounters.put(endpoint, counters);
+        }
+        return counters;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(samples, null);
+        next = 0;
+        count = 0;
+        resilienceCounters.clear();
+    }
+
+    /**
+     * Resumo por endpoint, ordenado pelo nome
+     */
+    @NonNull
+    public List<EndpointSummary> getSummaries() {
+        Map<String, List<CallSample>> byEndpoint = new TreeMap<>();
+        for (CallSample sample : getSamples()) {
+            List<CallSample> endpointSamples = byEndpoint.get(sample.endpoint);
+            if (endpointSamples == null) {
+                endpointSamples = new ArrayList<>();
+                byEndpoint.put(sample.endpoint, endpointSamples);
+            }
+            endpointSamples.add(sample);
+        }
+
+        List<EndpointSummary> summaries = new ArrayList<>(byEndpoint.size());
+        for (Map.Entry<String, List<CallSample>> entry : byEndpoint.entrySet()) {
+            summaries.add(summarize(entry.getKey(), entry.getValue()));
+        }
+        return summaries;
+    }
+
+    @NonNull
+    private static EndpointSummary summarize(@NonNull String endpoint, @NonNull List<CallSample> samples) {
+        int size = samples.size();
+        long[] total = new long[size];
+        long[] ttfb = new long[size];
+        long[] dns = new long[size];
+        long[] connect = new long[size];
+        long[] tls = new long[size];
+        long bytes = 0;
+        int failures = 0;
+
+        for (int i = 0; i < size; i++) {
+            CallSample sample = samples.get(i);
+            total[i] = sample.totalMs;
+            ttfb[i] = sample.ttfbMs;
+            dns[i] = sample.dnsMs;
+            connect[i] = sample.connectMs;
+            tls[i] = sample.tlsMs;
+            bytes += sample.responseBytes;
+            if (!sample.success) {
+                failures++;
+            }
+        }
+
+        return new EndpointSummary(endpoint, size, failures,
+                percentile(total, 0.50), percentile(total, 0.95), percentile(total, 0.99),
+                percentile(ttfb, 0.50), percentile(ttfb, 0.95),
+                percentile(dns, 0.50), percentile(connect, 0.50), percentile(tls, 0.50),
+                bytes / size);
+    }
+
+    private static long percentile(long[] values, double fraction) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * Tempos (ms) e tamanhos de uma chamada
+     */
+    public static final class CallSample {
+
+        public final String endpoint;
+        public final long dnsMs;
+        public final long connectMs;
+        public final long tlsMs;
+        public final long ttfbMs;
+        public final long totalMs;
+        public final long requestBytes;
+        public final long responseBytes;
+        public final boolean success;
+
+        public CallSample(String endpoint, long dnsMs, long connectMs, long tlsMs, long ttfbMs, long totalMs,
+                          long requestBytes, long responseBytes, boolean success) {
+            this.endpoint = endpoint;
+            this.dnsMs = dnsMs;
+            this.connectMs = connectMs;
+            this.tlsMs = tlsMs;
+            this.ttfbMs = ttfbMs;
+            this.totalMs = totalMs;
+            this.requestBytes = requestBytes;
+            this.responseBytes = responseBytes;
+            this.success = success;
+        }
+    }
+
+    /**
+     * Percentis (ms) de um endpoint
+     */
+    public static final class EndpointSummary {
+
+        public final String endpoint;
+        public final int calls;
+        public final int failures;
+        public final long totalP50;
+        public final long totalP95;
+        public final long totalP99;
+        public final long ttfbP50;
+        public final long ttfbP95;
+        public final long dnsP50;
+        public final long connectP50;
+        public final long tlsP50;
+        public final long averageResponseBytes;
+
+        EndpointSummary(String endpoint, int calls, int failures, long totalP50, long totalP95, long totalP99,
+                        long ttfbP50, long ttfbP95, long dnsP50, long connectP50, long tlsP50,
+                        long averageResponseBytes) {
+            this.endpoint = endpoint;
+            this.calls = calls;
+            this.failures = failures;
+            this.totalP50 = totalP50;
+            this.totalP95 = totalP95;
+            this.totalP99 = totalP99;
+            this.ttfbP50 = ttfbP50;
+            this.ttfbP95 = ttfbP95;
+            this.dnsP50 = dnsP50;
+            this.connectP50 = connectP50;
+            this.tlsP50 = tlsP50;
+            this.averageResponseBytes = averageResponseBytes;
+        }
+    }
+}
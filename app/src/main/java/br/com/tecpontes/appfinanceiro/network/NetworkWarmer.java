@@ -0,0 +1,153 @@
+package br.com.tecpontes.appfinanceiro.network;
+
+import android.os.SystemClock;
+import android.os.Trace;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import dagger.Lazy;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import okhttp3.Authenticator;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.EventListener;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import retrofit2.Retrofit;
+
+/**
+ * Constrói a pilha de rede (Gson, OkHttpClient, Retrofit e ApiService) em background
+ * logo após a inicialização, fora do caminho crítico da primeira tela.
+ *
+ * Os repositories recebem Lazy<ApiService> do mesmo binding singleton; se uma chamada chegar
+ * antes do aquecimento terminar, ela apenas aguarda a mesma instância.
+ *
+ * Também abre conexões com o host da API (DNS + TCP/TLS) quando a tela de login aparece
+ * e quando o app volta ao primeiro plano, para que as primeiras chamadas usem conexões
+ * já prontas no pool do OkHttp.
+ */
+@Singleton
+public class NetworkWarmer {
+
+    private static final String TAG = "NetworkWarmer";
+
+    // Intervalo mínimo entre aquecimentos de conexão (trocas rápidas de tela não repetem)
+    private static final long CONNECTION_WARM_INTERVAL_MS = 30_000;
+    // Dashboard e contas são buscados em paralelo; no HTTP/1.1 cada um usa uma conexão
+    private static final int WARM_CONNECTIONS = 2;
+
+    private final Lazy<ApiService> apiService;
+    private final Lazy<Retrofit> retrofit;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final AtomicLong lastConnectionWarmAt = new AtomicLong(0);
+
+    @Inject
+    public NetworkWarmer(Lazy<ApiService> apiService, Lazy<Retrofit> retrofit) {
+        this.apiService = apiService;
+        this.retrofit = retrofit;
+    }
+
+    /**
+     * Agenda a construção da pilha de rede (apenas uma vez por processo)
+     */
+    public void warmUp() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+
+        executor.execute(() -> {
+            Trace.beginSection("NetworkWarmer.warmUp");
+            long start = SystemClock.elapsedRealtime();
+            try {
+                apiService.get();
+                Log.d(TAG, "Pilha de rede pronta em " + (SystemClock.elapsedRealtime() - start) + "ms");
+            } catch (RuntimeException e) {
+                Log.e(TAG, "Falha ao preparar pilha de rede", e);
+            } finally {
+                Trace.endSection();
+            }
+        });
+    }
+
+    /**
+     * Pré-resolve o host da API e abre conexões no pool (no máximo uma vez a cada 30s)
+     */
+    public void warmConnections() {
+        long now = SystemClock.elapsedRealtime();
+        long last = lastConnectionWarmAt.get();
+        if (last != 0 && now - last < CONNECTION_WARM_INTERVAL_MS) {
+            return;
+        }
+        if (!lastConnectionWarmAt.compareAndSet(last, now)) {
+            return;
+        }
+
+        executor.execute(() -> {
+            Trace.beginSection("NetworkWarmer.warmConnections");
+            try {
+                openConnections();
+            } catch (RuntimeException e) {
+                Log.e(TAG, "Falha ao aquecer conexões", e);
+            } finally {
+                Trace.endSection();
+            }
+        });
+    }
+
+    private void openConnections() {
+        Retrofit instance = retrofit.get();
+        HttpUrl baseUrl = instance.baseUrl();
+        OkHttpClient client = (OkHttpClient) instance.callFactory();
+
+        long start = SystemClock.elapsedRealtime();
+        try {
+            List<InetAddress> addresses = client.dns().lookup(baseUrl.host());
+            Log.d(TAG, "DNS de " + baseUrl.host() + " resolvido em "
+                    + (SystemClock.elapsedRealtime() - start) + "ms (" + addresses.size() + " endereços)");
+        } catch (IOException e) {
+            Log.w(TAG, "Falha ao resolver " + baseUrl.host() + " — sem aquecimento", e);
+            return;
+        }
+
+        // Mesmo pool e dispatcher do cliente principal, sem JWT, log, renovação de token
+        // nem telemetria de chamadas (os HEADs de aquecimento não são requisições da API)
+        OkHttpClient.Builder builder = client.newBuilder();
+        builder.interceptors().clear();
+        builder.networkInterceptors().clear();
+        OkHttpClient warmClient = builder
+                .authenticator(Authenticator.NONE)
+                .eventListener(EventListener.NONE)
+                .build();
+
+        Request request = new Request.Builder()
+                .url(baseUrl)
+                .head()
+                .build();
+
+        for (int i = 0; i < WARM_CONNECTIONS; i++) {
+            warmClient.newCall(request).enqueue(new Callback() {
+                @Override
+                public void onResponse(@NonNull Call call, @NonNull Response response) {
+                    // Qualquer status serve: o objetivo é deixar a conexão no pool
+                    response.close();
+                    Log.d(TAG, "Conexão aquecida em " + (SystemClock.elapsedRealtime() - start) + "ms");
+                }
+
+                @Override
+                public void onFailure(@NonNull Call call, @NonNull IOException e) {
+                    Log.w(TAG, "Falha ao abrir conexão de aquecimento: " + e.getMessage());
+                }
+            });
+        }
+    }
+}
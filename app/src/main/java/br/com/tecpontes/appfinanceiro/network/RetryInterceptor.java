@@ -0,0 +1,184 @@
+package br.com.tecpontes.appfinanceiro.network;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Camada de resiliência das chamadas da API:
+ *
+ * - Circuit breaker por endpoint: com o circuito aberto a chamada falha na hora; cada chamada
+ *   conta uma vez para o circuito, com o resultado da última tentativa
+ * - Retry automático apenas para métodos idempotentes (GET, HEAD, PUT, DELETE, OPTIONS),
+ *   em falhas de rede, 429 e 502/503/504, com backoff exponencial e jitter decorrelacionado
+ * - Contagem de retries e rejeições por endpoint no NetworkMetrics
+ */
+@Singleton
+public class RetryInterceptor implements Interceptor {
+
+    private static final String TAG = "RetryInterceptor";
+
+    static final int MAX_ATTEMPTS = 3;
+    static final long BASE_DELAY_MS = 250;
+    static final long MAX_DELAY_MS = 4_000;
+    // Intervalo de verificação de cancelamento durante a espera
+    private static final long SLEEP_SLICE_MS = 100;
+
+    private final CircuitBreaker circuitBreaker;
+    private final NetworkMetrics networkMetrics;
+
+    @Inject
+    public RetryInterceptor(CircuitBreaker circuitBreaker, NetworkMetrics networkMetrics) {
+        this.circuitBreaker = circuitBreaker;
+        this.networkMetrics = networkMetrics;
+    }
+
+    @NonNull
+    @Override
+    public Response intercept(@NonNull Chain chain) throws IOException {
+        Request request = chain.request();
+        String endpoint = NetworkEventListener.endpointName(request);
+
+        try {
+            circuitBreaker.acquire(endpoint);
+        } catch (CircuitOpenException e) {
+            networkMetrics.recordCircuitRejection(endpoint);
+            Log.d(TAG, endpoint + ": circuito aberto, falhando sem ir à rede");
+            throw e;
+        }
+
+        // Um único resultado por chamada lógica (não por tentativa); qualquer outra saída,
+        // inclusive RuntimeException, libera a chamada de teste do circuito meio-aberto
+        boolean recorded = false;
+        try {
+            Response response = proceedWithRetries(chain, request, endpoint);
+            if (isRetryableStatus(response.code())) {
+                circuitBreaker.recordFailure(endpoint);
+            } else {
+                // 2xx/3xx/4xx: o servidor está respondendo
+                circuitBreaker.recordSuccess(endpoint);
+            }
+            recorded = true;
+            return response;
+        } catch (IOException e) {
+            if (!chain.call().isCanceled()) {
+                circuitBreaker.recordFailure(endpoint);
+                recorded = true;
+            }
+            throw e;
+        } finally {
+            if (!recorded) {
+                circuitBreaker.release(endpoint);
+            }
+        }
+    }
+
+    @NonNull
+    private Response proceedWithRetries(@NonNull Chain chain, @NonNull Request request,
+                                        @NonNull String endpoint) throws IOException {
+        boolean retryable = isIdempotent(request.method());
+        long delayMs = BASE_DELAY_MS;
+
+        for (int attempt = 1; ; attempt++) {
+            Response response;
+            try {
+                response = chain.proceed(request);
+            } catch (IOException e) {
+                if (chain.call().isCanceled() || !canRetry(retryable, attempt, endpoint)) {
+                    throw e;
+                }
+                Log.d(TAG, endpoint + ": falha de rede na tentativa " + attempt + " (" + e.getMessage() + ")");
+                delayMs = nextDelay(delayMs);
+                waitBeforeRetry(chain, endpoint, delayMs);
+                continue;
+            }
+
+            if (!isRetryableStatus(response.code()) || !canRetry(retryable, attempt, endpoint)) {
+                return response;
+            }
+
+            Log.d(TAG, endpoint + ": HTTP " + response.code() + " na tentativa " + attempt);
+            delayMs = Math.max(nextDelay(delayMs), retryAfterMs(response));
+            response.close();
+            waitBeforeRetry(chain, endpoint, delayMs);
+        }
+    }
+
+    /**
+     * Nova tentativa só para métodos idempotentes, dentro do limite e se outras chamadas não
+     * abriram o circuito nesse meio tempo
+     */
+    private boolean canRetry(boolean retryable, int attempt, @NonNull String endpoint) {
+        return retryable && attempt < MAX_ATTEMPTS && !circuitBreaker.isOpen(endpoint);
+    }
+
+    /**
+     * Jitter decorrelacionado: sorteia entre a base e 3x a espera anterior, limitado ao máximo
+     */
+    static long nextDelay(long previousDelayMs) {
+        long upper = Math.min(MAX_DELAY_MS, previousDelayMs * 3);
+        if (upper <= BASE_DELAY_MS) {
+            return BASE_DELAY_MS;
+        }
+        return ThreadLocalRandom.current().nextLong(BASE_DELAY_MS, upper + 1);
+    }
+
+    static boolean isIdempotent(@NonNull String method) {
+        switch (method) {
+            case "GET":
+            case "HEAD":
+            case "PUT":
+            case "DELETE":
+            case "OPTIONS":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    static boolean isRetryableStatus(int code) {
+        return code == 429 || code == 502 || code == 503 || code == 504;
+    }
+
+    /**
+     * Retry-After em segundos (limitado ao máximo de espera), ou 0
+     */
+    private static long retryAfterMs(@NonNull Response response) {
+        String header = response.header("Retry-After");
+        if (header == null) {
+            return 0;
+        }
+        try {
+            return Math.min(MAX_DELAY_MS, Long.parseLong(header.trim()) * 1000L);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void waitBeforeRetry(@NonNull Chain chain, @NonNull String endpoint, long delayMs) throws IOException {
+        networkMetrics.recordRetry(endpoint);
+        Log.d(TAG, endpoint + ": nova tentativa em " + delayMs + "ms");
+
+        long remaining = delayMs;
+        try {
+            while (remaining > 0) {
+                if (chain.call().isCanceled()) {
+                    throw new IOException("Canceled");
+                }
+                long slice = Math.min(SLEEP_SLICE_MS, remaining);
+                Thread.sleep(slice);
+                remaining -= slice;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Retry interrompido");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.tecpontes.appfinanceiro.network;
+
+import androidx.annotation.NonNull;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.logging.HttpLoggingInterceptor;
+
+/**
+ * Log HTTP amostrado: uma a cada N chamadas é registrada com corpo (Level.BODY),
+ * as demais apenas com a linha de requisição/resposta (Level.BASIC).
+ *
+ * Uploads multipart (importação OFX) nunca têm o corpo registrado.
+ */
+public class SampledLoggingInterceptor implements Interceptor {
+
+    private final HttpLoggingInterceptor bodyLogger = new HttpLoggingInterceptor();
+    private final HttpLoggingInterceptor basicLogger = new HttpLoggingInterceptor();
+    private final AtomicInteger counter = new AtomicInteger();
+    private final int sampleEvery;
+
+    public SampledLoggingInterceptor(int sampleEvery) {
+        this.sampleEvery = Math.max(1, sampleEvery);
+        bodyLogger.setLevel(HttpLoggingInterceptor.Level.BODY);
+        basicLogger.setLevel(HttpLoggingInterceptor.Level.BASIC);
+    }
+
+    @NonNull
+    @Override
+    public Response intercept(@NonNull Chain chain) throws IOException {
+        boolean sampled = counter.getAndIncrement() % sampleEvery == 0;
+        if (sampled && !isMultipart(chain.request().body())) {
+            return bodyLogger.intercept(chain);
+        }
+        return basicLogger.intercept(chain);
+    }
+
+    private static boolean isMultipart(RequestBody body) {
+        if (body instanceof MultipartBody) {
+            return true;
+        }
+        MediaType contentType = body != null ? body.contentType() : null;
+        return contentType != null && "multipart".equals(contentType.type());
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.tecpontes.appfinanceiro.network;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import okhttp3.Authenticator;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.Route;
+
+/**
+ * Authenticator do OkHttp: ao receber 401, renova o token (TokenRefresher)
+ * e repete a requisição original com o token novo
+ */
+@Singleton
+public class TokenAuthenticator implements Authenticator {
+
+    private static final String TAG = "TokenAuthenticator";
+    private static final int MAX_ATTEMPTS = 2;
+
+    private final TokenRefresher tokenRefresher;
+
+    @Inject
+    public TokenAuthenticator(TokenRefresher tokenRefresher) {
+        this.tokenRefresher = tokenRefresher;
+    }
+
+    @Nullable
+    @Override
+    public Request authenticate(@Nullable Route route, @NonNull Response response) {
+        Request request = response.request();
+
+        // Login, registro e o próprio refresh não são repetidos
+        if (JwtInterceptor.isAuthRequest(request)) {
+            return null;
+        }
+
+        String staleToken = JwtInterceptor.bearerToken(request);
+        if (staleToken == null) {
+            return null;
+        }
+
+        if (responseCount(response) >= MAX_ATTEMPTS) {
+            Log.d(TAG, "401 persistente após renovação: " + request.url());
+            return null;
+        }
+
+        String newToken = tokenRefresher.refresh(staleToken);
+        if (newToken == null) {
+            return null;
+        }
+
+        Log.d(TAG, "Repetindo requisição com token renovado: " + request.url());
+        return request.newBuilder()
+                .header(JwtInterceptor.HEADER_AUTHORIZATION, JwtInterceptor.BEARER_PREFIX + newToken)
+                .build();
+    }
+
+    private static int responseCount(Response response) {
+        int count = 1;
+        while ((response = response.priorResponse()) != null) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.tecpontes.appfinanceiro.network;
+
+import android.util.Log;
+import androidx.annotation.Nullable;
+import br.com.tecpontes.appfinanceiro.model.AuthResponse;
+import br.com.tecpontes.appfinanceiro.model.RefreshTokenRequest;
+import br.com.tecpontes.appfinanceiro.utils.TokenManager;
+import dagger.Lazy;
+import java.io.IOException;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import retrofit2.Response;
+
+/**
+ * Renova o token JWT com o refresh token, uma renovação por vez.
+ *
+ * Requisições concorrentes que receberam 401 (ou encontraram o token perto de expirar)
+ * aguardam a renovação em andamento e reutilizam o token novo em vez de disparar outra.
+ */
+@Singleton
+public class TokenRefresher {
+
+    private static final String TAG = "TokenRefresher";
+
+    private final TokenManager tokenManager;
+    // Lazy quebra o ciclo ApiService -> OkHttpClient -> JwtInterceptor/TokenAuthenticator -> TokenRefresher
+    private final Lazy<ApiService> apiService;
+    private final Object lock = new Object();
+
+    @Inject
+    public TokenRefresher(TokenManager tokenManager, Lazy<ApiService> apiService) {
+        this.tokenManager = tokenManager;
+        this.apiService = apiService;
+    }
+
+    /**
+     * Renova o token usado pela requisição (staleToken) e retorna o token a ser usado no replay,
+     * ou null se não foi possível renovar.
+     *
+     * Se o servidor rejeitar o refresh token, a sessão é encerrada; falhas de rede mantêm a sessão.
+     */
+    @Nullable
+    public String refresh(@Nullable String staleToken) {
+        synchronized (lock) {
+            String current = tokenManager.getToken();
+            if (current == null || current.isEmpty()) {
+                return null;
+            }
+            if (!current.equals(staleToken)) {
+                // Outra requisição já renovou enquanto esta aguardava
+                return current;
+            }
+
+            String refreshToken = tokenManager.getRefreshToken();
+            if (refreshToken == null || refreshToken.isEmpty()) {
+                Log.d(TAG, "Sem refresh token — encerrando sessão");
+                tokenManager.clearToken();
+                return null;
+            }
+
+            try {
+                Response<AuthResponse> response = apiService.get()
+                        .refresh(new RefreshTokenRequest(refreshToken))
+                        .execute();
+
+                if (response.isSuccessful() && response.body() != null) {
+                    AuthResponse authResponse = response.body();
+                    tokenManager.saveToken(authResponse.getToken());
+                    if (authResponse.getRefreshToken() != null) {
+                        tokenManager.saveRefreshToken(authResponse.getRefreshToken());
+                    }
+                    Log.d(TAG, "Token renovado com sucesso");
+                    return authResponse.getToken();
+                }
+
+                if (response.code() == 400 || response.code() == 401 || response.code() == 403) {
+                    Log.d(TAG, "Refresh token rejeitado (" + response.code() + ") — encerrando sessão");
+                    tokenManager.clearToken();
+                } else {
+                    Log.w(TAG, "Erro ao renovar token: " + response.code());
+                }
+                return null;
+            } catch (IOException e) {
+                Log.w(TAG, "Falha de rede ao renovar token", e);
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.tecpontes.appfinanceiro.network.json;
+
+import br.com.tecpontes.appfinanceiro.model.AccountDto;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * TypeAdapter de streaming para AccountDto (sem reflexão)
+ */
+public class AccountDtoAdapter extends TypeAdapter<AccountDto> {
+
+    @Override
+    public void write(JsonWriter out, AccountDto value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id").value(value.getId());
+        out.name("name").value(value.getName());
+        out.name("balance");
+        JsonValues.writeAmount(out, value.getBalance());
+        out.name("currency").value(value.getCurrency());
+        out.name("description").value(value.getDescription());
+        out.endObject();
+    }
+
+    @Override
+    public AccountDto read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        String id = null;
+        String name = null;
+        double balance = 0;
+        String currency = null;
+        String description = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    id = JsonValues.readString(in);
+                    break;
+                case "name":
+                    name = JsonValues.readString(in);
+                    break;
+                case "balance":
+                    balance = JsonValues.readAmount(in);
+                    break;
+                case "currency":
+                    currency = JsonValues.readString(in);
+                    break;
+                case "description":
+                    description = JsonValues.readString(in);
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+        in.endObject();
+
+        return new AccountDto(id, name, balance, currency, description);
+    }
+}
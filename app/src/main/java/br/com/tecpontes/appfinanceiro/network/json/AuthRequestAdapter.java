@@ -0,0 +1,56 @@
+package br.com.tecpontes.appfinanceiro.network.json;
+
+import br.com.tecpontes.appfinanceiro.model.AuthRequest;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * TypeAdapter de streaming para AuthRequest (sem reflexão)
+ */
+public class AuthRequestAdapter extends TypeAdapter<AuthRequest> {
+
+    @Override
+    public void write(JsonWriter out, AuthRequest value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("email").value(value.getEmail());
+        out.name("password").value(value.getPassword());
+        out.endObject();
+    }
+
+    @Override
+    public AuthRequest read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        String email = null;
+        String password = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "email":
+                    email = JsonValues.readString(in);
+                    break;
+                case "password":
+                    password = JsonValues.readString(in);
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+        in.endObject();
+
+        return new AuthRequest(email, password);
+    }
+}
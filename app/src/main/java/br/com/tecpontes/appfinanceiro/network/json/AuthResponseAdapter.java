@@ -0,0 +1,107 @@
+package br.com.tecpontes.appfinanceiro.network.json;
+
+import br.com.tecpontes.appfinanceiro.model.AuthResponse;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * TypeAdapter de streaming para AuthResponse e UserDto (sem reflexão)
+ */
+public class AuthResponseAdapter extends TypeAdapter<AuthResponse> {
+
+    @Override
+    public void write(JsonWriter out, AuthResponse value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("token").value(value.getToken());
+        out.name("refreshToken").value(value.getRefreshToken());
+        out.name("user");
+        writeUser(out, value.getUser());
+        out.endObject();
+    }
+
+    @Override
+    public AuthResponse read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        String token = null;
+        String refreshToken = null;
+        AuthResponse.UserDto user = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "token":
+                    token = JsonValues.readString(in);
+                    break;
+                case "refreshToken":
+                    refreshToken = JsonValues.readString(in);
+                    break;
+                case "user":
+                    user = readUser(in);
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+        in.endObject();
+
+        return new AuthResponse(token, refreshToken, user);
+    }
+
+    private static void writeUser(JsonWriter out, AuthResponse.UserDto user) throws IOException {
+        if (user == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id").value(user.getId());
+        out.name("email").value(user.getEmail());
+        out.name("name").value(user.getName());
+        out.endObject();
+    }
+
+    private static AuthResponse.UserDto readUser(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        String id = null;
+        String email = null;
+        String name = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    id = JsonValues.readString(in);
+                    break;
+                case "email":
+                    email = JsonValues.readString(in);
+                    break;
+                case "name":
+                    name = JsonValues.readString(in);
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+        in.endObject();
+
+        return new AuthResponse.UserDto(id, email, name);
+    }
+}
@@ -0,0 +1,113 @@
+package br.com.tecpontes.appfinanceiro.network.json;
+
+import br.com.tecpontes.appfinanceiro.model.DashboardDto;
+import br.com.tecpontes.appfinanceiro.model.TransactionDto;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TypeAdapter de streaming para DashboardDto (sem reflexão)
+ */
+public class DashboardDtoAdapter extends TypeAdapter<DashboardDto> {
+
+    private final TypeAdapter<TransactionDto> transactionAdapter;
+
+    public DashboardDtoAdapter(TypeAdapter<TransactionDto> transactionAdapter) {
+        this.transactionAdapter = transactionAdapter;
+    }
+
+    @Override
+    public void write(JsonWriter out, DashboardDto value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("totalBalance");
+        JsonValues.writeAmount(out, value.getTotalBalance());
+        out.name("monthlyIncome");
+        JsonValues.writeAmount(out, value.getMonthlyIncome());
+        out.name("monthlyExpenses");
+        JsonValues.writeAmount(out, value.getMonthlyExpenses());
+        out.name("accountsCount").value(value.getAccountsCount());
+        out.name("recentTransactions");
+        if (value.getRecentTransactions() == null) {
+            out.nullValue();
+        } else {
+            out.beginArray();
+            for (TransactionDto transaction : value.getRecentTransactions()) {
+                transactionAdapter.write(out, transaction);
+            }
+            out.endArray();
+        }
+        out.name("currency").value(value.getCurrency());
+        out.endObject();
+    }
+
+    @Override
+    public DashboardDto read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        double totalBalance = 0;
+        double monthlyIncome = 0;
+        double monthlyExpenses = 0;
+        int accountsCount = 0;
+        List<TransactionDto> recentTransactions = null;
+        String currency = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "totalBalance":
+                    totalBalance = JsonValues.readAmount(in);
+                    break;
+                case "monthlyIncome":
+                    monthlyIncome = JsonValues.readAmount(in);
+                    break;
+                case "monthlyExpenses":
+                    monthlyExpenses = JsonValues.readAmount(in);
+                    break;
+                case "accountsCount":
+                    accountsCount = JsonValues.readInt(in);
+                    break;
+                case "recentTransactions":
+                    recentTransactions = readTransactions(in);
+                    break;
+                case "currency":
+                    currency = JsonValues.readString(in);
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+        in.endObject();
+
+        return new DashboardDto(totalBalance, monthlyIncome, monthlyExpenses, accountsCount,
+                recentTransactions, currency);
+    }
+
+    private List<TransactionDto> readTransactions(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        List<TransactionDto> transactions = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            transactions.add(transactionAdapter.read(in));
+        }
+        in.endArray();
+        return transactions;
+    }
+}
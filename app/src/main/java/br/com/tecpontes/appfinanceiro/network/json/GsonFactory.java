@@ -0,0 +1,34 @@
+package br.com.tecpontes.appfinanceiro.network.json;
+
+import br.com.tecpontes.appfinanceiro.model.AccountDto;
+import br.com.tecpontes.appfinanceiro.model.AuthRequest;
+import br.com.tecpontes.appfinanceiro.model.AuthResponse;
+import br.com.tecpontes.appfinanceiro.model.DashboardDto;
+import br.com.tecpontes.appfinanceiro.model.RefreshTokenRequest;
+import br.com.tecpontes.appfinanceiro.model.TransactionDto;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Cria o Gson da aplicação com os TypeAdapters de streaming de todos os DTOs registrados,
+ * evitando a serialização por reflexão campo a campo
+ */
+public final class GsonFactory {
+
+    private GsonFactory() {
+    }
+
+    public static Gson create() {
+        TransactionDtoAdapter transactionAdapter = new TransactionDtoAdapter();
+
+        return new GsonBuilder()
+                .setLenient()
+                .registerTypeAdapter(TransactionDto.class, transactionAdapter)
+                .registerTypeAdapter(AccountDto.class, new AccountDtoAdapter())
+                .registerTypeAdapter(DashboardDto.class, new DashboardDtoAdapter(transactionAdapter))
+                .registerTypeAdapter(AuthResponse.class, new AuthResponseAdapter())
+                .registerTypeAdapter(AuthRequest.class, new AuthRequestAdapter())
+                .registerTypeAdapter(RefreshTokenRequest.class, new RefreshTokenRequestAdapter())
+                .create();
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.tecpontes.appfinanceiro.network.json;
+
+import androidx.annotation.Nullable;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Leitura e escrita de valores primitivos comuns aos TypeAdapters dos DTOs
+ */
+final class JsonValues {
+
+    private JsonValues() {
+    }
+
+    /**
+     * Lê um valor monetário a partir do texto do JSON (número ou string), sem arredondar:
+     * o DTO recebe o double mais próximo do valor enviado pelo servidor
+     */
+    static double readAmount(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.NULL) {
+            reader.nextNull();
+            return 0;
+        }
+        // nextString() devolve o texto original do número
+        String text = reader.nextString();
+        if (text.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            throw new IOException("Valor monetário inválido: " + text + " em " + reader.getPath(), e);
+        }
+    }
+
+    /**
+     * Escreve um valor monetário sem arredondar (menor texto que relê o mesmo double)
+     */
+    static void writeAmount(JsonWriter writer, double amount) throws IOException {
+        writer.value(amount);
+    }
+
+    @Nullable
+    static String readString(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+
+    static long readLong(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return 0;
+        }
+        return reader.nextLong();
+    }
+
+    static int readInt(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return 0;
+        }
+        return reader.nextInt();
+    }
+
+    static boolean readBoolean(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.NULL) {
+            reader.nextNull();
+            return false;
+        }
+        if (token == JsonToken.STRING) {
+            return Boolean.parseBoolean(reader.nextString());
+        }
+        return reader.nextBoolean();
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.tecpontes.appfinanceiro.network.json;
+
+import br.com.tecpontes.appfinanceiro.model.RefreshTokenRequest;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * TypeAdapter de streaming para RefreshTokenRequest (sem reflexão)
+ */
+public class RefreshTokenRequestAdapter extends TypeAdapter<RefreshTokenRequest> {
+
+    @Override
+    public void write(JsonWriter out, RefreshTokenRequest value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("refreshToken").value(value.getRefreshToken());
+        out.endObject();
+    }
+
+    @Override
+    public RefreshTokenRequest read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        String refreshToken = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            if ("refreshToken".equals(in.nextName())) {
+                refreshToken = JsonValues.readString(in);
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+
+        return new RefreshTokenRequest(refreshToken);
+    }
+}
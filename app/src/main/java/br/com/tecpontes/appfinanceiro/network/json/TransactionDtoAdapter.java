@@ -0,0 +1,101 @@
+package br.com.tecpontes.appfinanceiro.network.json;
+
+import br.com.tecpontes.appfinanceiro.model.TransactionDto;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * TypeAdapter de streaming para TransactionDto (sem reflexão)
+ */
+public class TransactionDtoAdapter extends TypeAdapter<TransactionDto> {
+
+    @Override
+    public void write(JsonWriter out, TransactionDto value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id").value(value.getId());
+        out.name("accountId").value(value.getAccountId());
+        out.name("amount");
+        JsonValues.writeAmount(out, value.getAmount());
+        out.name("date").value(value.getDate());
+        out.name("category").value(value.getCategory());
+        out.name("note").value(value.getNote());
+        out.name("type").value(value.getType());
+        out.name("deleted").value(value.isDeleted());
+        out.name("deletedAt").value(value.getDeletedAt());
+        out.name("updatedAt").value(value.getUpdatedAt());
+        out.endObject();
+    }
+
+    @Override
+    public TransactionDto read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        String id = null;
+        String accountId = null;
+        double amount = 0;
+        long date = 0;
+        String category = null;
+        String note = null;
+        String type = null;
+        boolean deleted = false;
+        long deletedAt = 0;
+        long updatedAt = 0;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    id = JsonValues.readString(in);
+                    break;
+                case "accountId":
+                    accountId = JsonValues.readString(in);
+                    break;
+                case "amount":
+                    amount = JsonValues.readAmount(in);
+                    break;
+                case "date":
+                    date = JsonValues.readLong(in);
+                    break;
+                case "category":
+                    category = JsonValues.readString(in);
+                    break;
+                case "note":
+                    note = JsonValues.readString(in);
+                    break;
+                case "type":
+                    type = JsonValues.readString(in);
+                    break;
+                case "deleted":
+                    deleted = JsonValues.readBoolean(in);
+                    break;
+                case "deletedAt":
+                    deletedAt = JsonValues.readLong(in);
+                    break;
+                case "updatedAt":
+                    updatedAt = JsonValues.readLong(in);
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+        in.endObject();
+
+        TransactionDto dto = new TransactionDto(id, accountId, amount, date, category, note, type);
+        dto.setDeleted(deleted);
+        dto.setDeletedAt(deletedAt);
+        dto.setUpdatedAt(updatedAt);
+        return dto;
+    }
+}
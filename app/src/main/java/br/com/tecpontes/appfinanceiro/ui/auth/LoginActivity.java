@@ -14,9 +14,12 @@ import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 import androidx.lifecycle.ViewModelProvider;
 import br.com.tecpontes.appfinanceiro.databinding.ActivityLoginBinding;
+import br.com.tecpontes.appfinanceiro.network.NetworkWarmer;
 import br.com.tecpontes.appfinanceiro.ui.dashboard.DashboardActivity;
+import br.com.tecpontes.appfinanceiro.utils.StartupTimer;
 import br.com.tecpontes.appfinanceiro.viewmodel.LoginViewModel;
 import dagger.hilt.android.AndroidEntryPoint;
+import javax.inject.Inject;
 
 /**
  * Activity para tela de login
@@ -29,10 +32,15 @@ public class LoginActivity extends AppCompatActivity {
     private ActivityLoginBinding binding;
     private LoginViewModel loginViewModel;
 
+    @Inject
+    NetworkWarmer networkWarmer;
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
 
+        StartupTimer.trackFirstFrame(this);
+
         // Configura Edge-to-Edge
         EdgeToEdge.enable(this);
 
@@ -56,6 +64,9 @@ public class LoginActivity extends AppCompatActivity {
             return;
         }
 
+        // Abre a conexão com a API enquanto o usuário digita as credenciais
+        networkWarmer.warmConnections();
+
         // Configura observadores
         setupObservers();
 
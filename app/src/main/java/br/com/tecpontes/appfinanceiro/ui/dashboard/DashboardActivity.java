@@ -2,49 +2,109 @@ package br.com.tecpontes.appfinanceiro.ui.dashboard;
 
 import android.content.Intent;
 import android.os.Bundle;
+import android.text.format.DateUtils;
 import android.util.Log;
 import android.view.View;
+import android.view.ViewTreeObserver;
 import android.widget.Toast;
 import androidx.activity.EdgeToEdge;
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.core.content.ContextCompat;
 import androidx.core.graphics.Insets;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
+import androidx.lifecycle.Lifecycle;
 import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.swiperefreshlayout.widget.SwipeRefreshLayout;
+import br.com.tecpontes.appfinanceiro.BuildConfig;
 import br.com.tecpontes.appfinanceiro.databinding.ActivityDashboardBinding;
 import br.com.tecpontes.appfinanceiro.ui.auth.LoginActivity;
+import br.com.tecpontes.appfinanceiro.ui.debug.DebugActivity;
 import br.com.tecpontes.appfinanceiro.ui.transactions.TransactionsActivity;
+import br.com.tecpontes.appfinanceiro.utils.FrameMetricsStore;
+import br.com.tecpontes.appfinanceiro.utils.FrameMetricsTracker;
+import br.com.tecpontes.appfinanceiro.utils.StartupTimer;
 import br.com.tecpontes.appfinanceiro.utils.TokenManager;
+import br.com.tecpontes.appfinanceiro.utils.TransactionFormatter;
+import br.com.tecpontes.appfinanceiro.viewmodel.DashboardUiState;
 import br.com.tecpontes.appfinanceiro.viewmodel.DashboardViewModel;
 import dagger.hilt.android.AndroidEntryPoint;
-import java.text.NumberFormat;
-import java.util.ArrayList;
-import java.util.Locale;
 import javax.inject.Inject;
 
 /**
  * Activity para tela do dashboard
+ *
+ * É também a Activity de entrada: a splash screen do sistema fica visível enquanto o TokenManager
+ * lê as credenciais (fora da main thread) e até o primeiro estado ser aplicado; usuários sem login
+ * são encaminhados para a LoginActivity sem o dashboard ser inflado.
  */
 @AndroidEntryPoint
 public class DashboardActivity extends AppCompatActivity {
 
     private static final String TAG = "DashboardActivity";
 
+    // Dados obtidos há mais tempo que isso são exibidos como desatualizados
+    private static final long STALE_AFTER_MS = 15 * DateUtils.MINUTE_IN_MILLIS;
+
     private ActivityDashboardBinding binding;
     private DashboardViewModel dashboardViewModel;
 
     @Inject
     TokenManager tokenManager;
 
+    @Inject
+    FrameMetricsStore frameMetricsStore;
+
+    // Métricas de frame marcadas com o estado da tela
+    private FrameMetricsTracker frameMetricsTracker;
+
     // Adapter para transações recentes
     private RecentTransactionsAdapter transactionsAdapter;
 
+    // Último estado aplicado na tela
+    private DashboardUiState renderedState;
+
+    // Sessão encerrada fora da tela (refresh token rejeitado): volta para o login
+    private final TokenManager.OnCredentialsChangedListener credentialsListener = token -> {
+        if (token == null) {
+            runOnUiThread(this::navigateToLoginAfterSessionExpired);
+        }
+    };
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
 
+        // Mantém a splash screen enquanto as credenciais são lidas e até o primeiro estado ser aplicado
+        keepSplashScreenUntilRendered();
+
+        // A rota (login ou dashboard) só é decidida quando o Keystore terminar de abrir, sem bloquear aqui
+        tokenManager.whenLoaded(this::onCredentialsLoaded);
+    }
+
+    /**
+     * Leitura inicial das credenciais concluída (main thread): segue para o login ou monta o dashboard
+     */
+    private void onCredentialsLoaded() {
+        if (isFinishing() || isDestroyed()) {
+            return;
+        }
+
+        // Sem login, segue direto para a tela de login sem inflar o dashboard
+        if (!tokenManager.isLoggedIn()) {
+            Log.d(TAG, "Usuário não logado - navegando para Login");
+            Intent intent = new Intent(this, LoginActivity.class);
+            intent.setFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK);
+            startActivity(intent);
+            finish();
+            return;
+        }
+
+        tokenManager.addListener(credentialsListener);
+
+        StartupTimer.trackFirstFrame(this);
+
         // Configura Edge-to-Edge
         EdgeToEdge.enable(this);
 
@@ -62,6 +122,8 @@ public class DashboardActivity extends AppCompatActivity {
         // Inicializa ViewModel
         dashboardViewModel = new ViewModelProvider(this).get(DashboardViewModel.class);
 
+        frameMetricsTracker = new FrameMetricsTracker(this, frameMetricsStore);
+
         // Configura RecyclerView
         setupRecyclerView();
 
@@ -77,14 +139,37 @@ public class DashboardActivity extends AppCompatActivity {
         // Carrega dados iniciais
         loadInitialData();
 
+        // A tela pode ter sido retomada antes das credenciais estarem prontas
+        if (getLifecycle().getCurrentState().isAtLeast(Lifecycle.State.RESUMED)) {
+            frameMetricsTracker.start();
+        }
+
         Log.d(TAG, "DashboardActivity criada");
     }
 
+    /**
+     * Segura o primeiro desenho (e a splash screen) até o DashboardUiState inicial chegar;
+     * na rota para o login a Activity termina sem desenhar
+     */
+    private void keepSplashScreenUntilRendered() {
+        View content = findViewById(android.R.id.content);
+        content.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+            @Override
+            public boolean onPreDraw() {
+                if (renderedState == null) {
+                    return false;
+                }
+                content.getViewTreeObserver().removeOnPreDrawListener(this);
+                return true;
+            }
+        });
+    }
+
     /**
      * Configura RecyclerView para transações recentes
      */
     private void setupRecyclerView() {
-        transactionsAdapter = new RecentTransactionsAdapter(new ArrayList<>());
+        transactionsAdapter = new RecentTransactionsAdapter();
         binding.recentTransactionsRecyclerView.setLayoutManager(new LinearLayoutManager(this));
         binding.recentTransactionsRecyclerView.setAdapter(transactionsAdapter);
     }
@@ -109,18 +194,8 @@ public class DashboardActivity extends AppCompatActivity {
      * Configura observadores do ViewModel
      */
     private void setupObservers() {
-        // Observa estado de loading
-        dashboardViewModel.loading.observe(this, loading -> {
-            binding.swipeRefreshLayout.setRefreshing(loading);
-            binding.loadingView.getRoot().setVisibility(loading ? View.VISIBLE : View.GONE);
-        });
-
-        // Observa erros
-        dashboardViewModel.error.observe(this, error -> {
-            if (error != null) {
-                Toast.makeText(this, error, Toast.LENGTH_LONG).show();
-            }
-        });
+        // Observa o estado único da tela
+        dashboardViewModel.uiState.observe(this, this::render);
 
         // Observa sucesso na atualização
         dashboardViewModel.refreshSuccess.observe(this, success -> {
@@ -128,28 +203,49 @@ public class DashboardActivity extends AppCompatActivity {
                 Toast.makeText(this, "Dados atualizados com sucesso!", Toast.LENGTH_SHORT).show();
             }
         });
+    }
 
-        // Observa saldo total
-        dashboardViewModel.totalBalance.observe(this, balance -> {
-            if (balance != null) {
-                updateBalanceDisplay(balance);
-            }
-        });
-
-        // Observa transações recentes
-        dashboardViewModel.recentTransactions.observe(this, transactions -> {
-            if (transactions != null) {
-                transactionsAdapter.updateTransactions(transactions);
-                updateTransactionsVisibility(transactions.isEmpty());
-            }
-        });
-
-        // Observa contas
-        dashboardViewModel.accounts.observe(this, accounts -> {
-            if (accounts != null) {
-                updateAccountsInfo(accounts.size());
-            }
-        });
+    /**
+     * Aplica o estado na tela, tocando apenas nas views cujos dados mudaram
+     */
+    private void render(DashboardUiState state) {
+        DashboardUiState previous = renderedState;
+        renderedState = state;
+
+        if (state.hasContent()) {
+            StartupTimer.reportFullyDrawn(this);
+        }
+
+        if (previous == null || previous.isLoading() != state.isLoading()
+                || previous.hasContent() != state.hasContent()) {
+            binding.swipeRefreshLayout.setRefreshing(state.isLoading());
+            frameMetricsTracker.setTag(FrameMetricsTracker.STATE_REFRESHING, state.isLoading());
+            // Com conteúdo em cache a revalidação não bloqueia a tela
+            boolean blocking = state.isLoading() && !state.hasContent();
+            binding.loadingView.getRoot().setVisibility(blocking ? View.VISIBLE : View.GONE);
+        }
+
+        if (previous == null || previous.isLoading() != state.isLoading()
+                || previous.getLastUpdated() != state.getLastUpdated()) {
+            updateLastUpdatedInfo(state);
+        }
+
+        if (state.getError() != null && (previous == null || !state.getError().equals(previous.getError()))) {
+            Toast.makeText(this, state.getError(), Toast.LENGTH_LONG).show();
+        }
+
+        if (previous == null || Double.compare(previous.getTotalBalance(), state.getTotalBalance()) != 0) {
+            updateBalanceDisplay(state.getTotalBalance());
+        }
+
+        if (previous == null || !previous.getRecentTransactions().equals(state.getRecentTransactions())) {
+            transactionsAdapter.updateTransactions(state.getRecentTransactions());
+            updateTransactionsVisibility(state.getRecentTransactions().isEmpty());
+        }
+
+        if (previous == null || previous.getAccountsCount() != state.getAccountsCount()) {
+            updateAccountsInfo(state.getAccountsCount());
+        }
     }
 
     /**
@@ -167,6 +263,14 @@ public class DashboardActivity extends AppCompatActivity {
             dashboardViewModel.syncAccounts();
         });
 
+        // Tela de debug (apenas em builds de debug)
+        if (BuildConfig.DEBUG) {
+            binding.syncButton.setOnLongClickListener(v -> {
+                startActivity(new Intent(this, DebugActivity.class));
+                return true;
+            });
+        }
+
         // Card de adicionar transação
         binding.addTransactionCard.setOnClickListener(v -> {
             Intent intent = new Intent(this, TransactionsActivity.class);
@@ -185,8 +289,7 @@ public class DashboardActivity extends AppCompatActivity {
      * Atualiza display do saldo
      */
     private void updateBalanceDisplay(double balance) {
-        NumberFormat currencyFormat = NumberFormat.getCurrencyInstance(new Locale("pt", "BR"));
-        String formattedBalance = currencyFormat.format(balance);
+        String formattedBalance = TransactionFormatter.formatCurrency(balance);
 
         binding.balanceTextView.setText(formattedBalance);
 
@@ -203,6 +306,35 @@ public class DashboardActivity extends AppCompatActivity {
         binding.accountsInfoTextView.setText(accountsText);
     }
 
+    /**
+     * Atualiza a indicação de quando os dados foram obtidos
+     */
+    private void updateLastUpdatedInfo(DashboardUiState state) {
+        long lastUpdated = state.getLastUpdated();
+        if (lastUpdated == 0) {
+            binding.lastUpdatedTextView.setVisibility(View.GONE);
+            return;
+        }
+
+        long age = System.currentTimeMillis() - lastUpdated;
+        String text;
+        if (state.isLoading()) {
+            text = "Atualizando...";
+        } else if (age < DateUtils.MINUTE_IN_MILLIS) {
+            text = "Atualizado agora";
+        } else {
+            text = "Atualizado " + DateUtils.getRelativeTimeSpanString(lastUpdated,
+                    System.currentTimeMillis(), DateUtils.MINUTE_IN_MILLIS);
+        }
+
+        binding.lastUpdatedTextView.setText(text);
+        binding.lastUpdatedTextView.setTextColor(ContextCompat.getColor(this,
+                age > STALE_AFTER_MS && !state.isLoading()
+                        ? android.R.color.holo_orange_dark
+                        : android.R.color.darker_gray));
+        binding.lastUpdatedTextView.setVisibility(View.VISIBLE);
+    }
+
     /**
      * Atualiza visibilidade da seção de transações
      */
@@ -217,7 +349,8 @@ public class DashboardActivity extends AppCompatActivity {
     private void performLogout() {
         Log.d(TAG, "Realizando logout");
 
-        // Limpa token
+        // Limpa token (sem disparar o aviso de sessão expirada)
+        tokenManager.removeListener(credentialsListener);
         tokenManager.clearToken();
 
         // Navega para tela de login
@@ -229,9 +362,49 @@ public class DashboardActivity extends AppCompatActivity {
         Toast.makeText(this, "Logout realizado com sucesso!", Toast.LENGTH_SHORT).show();
     }
 
+    /**
+     * Navega para o login quando a sessão expira durante o uso
+     */
+    private void navigateToLoginAfterSessionExpired() {
+        if (isFinishing() || isDestroyed()) {
+            return;
+        }
+
+        Log.d(TAG, "Sessão expirada - navegando para Login");
+        Intent intent = new Intent(this, LoginActivity.class);
+        intent.setFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK);
+        startActivity(intent);
+        finish();
+
+        Toast.makeText(this, "Sessão expirada. Faça login novamente.", Toast.LENGTH_LONG).show();
+    }
+
+    @Override
+    protected void onResume() {
+        super.onResume();
+        if (frameMetricsTracker == null) {
+            return; // Credenciais ainda sendo lidas; a coleta começa em onCredentialsLoaded
+        }
+        frameMetricsTracker.start();
+
+        // Recalcula o tempo relativo ao voltar para a tela
+        if (renderedState != null) {
+            updateLastUpdatedInfo(renderedState);
+        }
+    }
+
+    @Override
+    protected void onPause() {
+        super.onPause();
+        if (frameMetricsTracker != null) {
+            frameMetricsTracker.stop();
+        }
+    }
+
     @Override
     protected void onDestroy() {
         super.onDestroy();
+        tokenManager.removeListener(credentialsListener);
         binding = null;
         Log.d(TAG, "DashboardActivity destruída");
     }
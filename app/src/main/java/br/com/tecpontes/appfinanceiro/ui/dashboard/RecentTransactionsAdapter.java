@@ -5,23 +5,24 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.TextView;
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 import br.com.tecpontes.appfinanceiro.R;
-import br.com.tecpontes.appfinanceiro.data.local.entity.Transaction;
-import java.text.NumberFormat;
-import java.text.SimpleDateFormat;
+import br.com.tecpontes.appfinanceiro.ui.transactions.TransactionItemDiffCallback;
+import br.com.tecpontes.appfinanceiro.ui.transactions.TransactionRowModel;
 import java.util.List;
-import java.util.Locale;
 
 /**
  * Adapter para RecyclerView de transações recentes no dashboard
+ *
+ * O diff entre listas é calculado em background pelo ListAdapter; apenas as linhas
+ * alteradas são rebindadas.
  */
-public class RecentTransactionsAdapter extends RecyclerView.Adapter<RecentTransactionsAdapter.ViewHolder> {
+public class RecentTransactionsAdapter extends ListAdapter<TransactionRowModel, RecentTransactionsAdapter.ViewHolder> {
 
-    private List<Transaction> transactions;
-
-    public RecentTransactionsAdapter(List<Transaction> transactions) {
-        this.transactions = transactions;
+    public RecentTransactionsAdapter() {
+        super(new TransactionItemDiffCallback());
+        setHasStableIds(true);
     }
 
     @NonNull
@@ -34,21 +35,20 @@ public class RecentTransactionsAdapter extends RecyclerView.Adapter<RecentTransa
 
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        Transaction transaction = transactions.get(position);
+        TransactionRowModel transaction = getItem(position);
         holder.bind(transaction);
     }
 
     @Override
-    public int getItemCount() {
-        return transactions.size();
+    public long getItemId(int position) {
+        return TransactionItemDiffCallback.stableId(getItem(position).getId());
     }
 
     /**
      * Atualiza lista de transações
      */
-    public void updateTransactions(List<Transaction> newTransactions) {
-        this.transactions = newTransactions;
-        notifyDataSetChanged();
+    public void updateTransactions(List<TransactionRowModel> newTransactions) {
+        submitList(newTransactions);
     }
 
     /**
@@ -69,30 +69,15 @@ public class RecentTransactionsAdapter extends RecyclerView.Adapter<RecentTransa
             noteTextView = itemView.findViewById(R.id.noteTextView);
         }
 
-        public void bind(Transaction transaction) {
-            // Categoria
+        public void bind(TransactionRowModel transaction) {
+            // Campos já formatados pelo TransactionRowMapper
             categoryTextView.setText(transaction.getCategory());
-
-            // Valor formatado
-            NumberFormat currencyFormat = NumberFormat.getCurrencyInstance(new Locale("pt", "BR"));
-            String formattedAmount = currencyFormat.format(transaction.getAmount());
-
-            // Cor baseada no tipo (verde para receita, vermelho para despesa)
-            if ("income".equals(transaction.getType())) {
-                amountTextView.setTextColor(itemView.getContext().getColor(android.R.color.holo_green_dark));
-                amountTextView.setText("+" + formattedAmount);
-            } else {
-                amountTextView.setTextColor(itemView.getContext().getColor(android.R.color.holo_red_dark));
-                amountTextView.setText("-" + formattedAmount);
-            }
-
-            // Data formatada
-            SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy", new Locale("pt", "BR"));
-            String formattedDate = dateFormat.format(new java.util.Date(transaction.getDate()));
-            dateTextView.setText(formattedDate);
+            amountTextView.setText(transaction.getFormattedAmount());
+            amountTextView.setTextColor(transaction.getAmountColor());
+            dateTextView.setText(transaction.getFormattedDate());
 
             // Nota (se houver)
-            if (transaction.getNote() != null && !transaction.getNote().trim().isEmpty()) {
+            if (transaction.getNote() != null) {
                 noteTextView.setText(transaction.getNote());
                 noteTextView.setVisibility(View.VISIBLE);
             } else {
@@ -0,0 +1,296 @@
+package br.com.tecpontes.appfinanceiro.ui.debug;
+
+import android.content.Intent;
+import android.os.Bundle;
+import android.util.Log;
+import android.widget.Toast;
+import androidx.activity.EdgeToEdge;
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.core.graphics.Insets;
+import androidx.core.view.ViewCompat;
+import androidx.core.view.WindowInsetsCompat;
+import br.com.tecpontes.appfinanceiro.BuildConfig;
+import br.com.tecpontes.appfinanceiro.data.local.SlowQueryLog;
+import br.com.tecpontes.appfinanceiro.data.local.SyncTelemetryLog;
+import br.com.tecpontes.appfinanceiro.data.local.dao.SyncTelemetryDao;
+import br.com.tecpontes.appfinanceiro.data.local.entity.SyncTelemetry;
+import br.com.tecpontes.appfinanceiro.databinding.ActivityDebugBinding;
+import br.com.tecpontes.appfinanceiro.network.CircuitBreaker;
+import br.com.tecpontes.appfinanceiro.network.NetworkMetrics;
+import br.com.tecpontes.appfinanceiro.utils.FrameMetricsStore;
+import br.com.tecpontes.appfinanceiro.utils.StartupTimer;
+import dagger.hilt.android.AndroidEntryPoint;
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import javax.inject.Inject;
+
+/**
+ * Tela de debug com as métricas coletadas localmente (disponível apenas em builds de debug)
+ */
+@AndroidEntryPoint
+public class DebugActivity extends AppCompatActivity {
+
+    private static final String TAG = "DebugActivity";
+
+    // Janela das estatísticas de telemetria exibidas
+    private static final long TELEMETRY_WINDOW_MS = 7L * 24 * 60 * 60 * 1000;
+
+    // Consultas exibidas no relatório de consultas lentas
+    private static final int SLOW_QUERY_LIMIT = 20;
+
+    private ActivityDebugBinding binding;
+
+    // Carregados em background pelo SyncTelemetryLog
+    private List<SyncTelemetryDao.EndpointStats> telemetryStats = Collections.emptyList();
+    private List<SyncTelemetry> slowestRuns = Collections.emptyList();
+
+    @Inject
+    FrameMetricsStore frameMetricsStore;
+
+    @Inject
+    NetworkMetrics networkMetrics;
+
+    @Inject
+    CircuitBreaker circuitBreaker;
+
+    @Inject
+    SyncTelemetryLog telemetryLog;
+
+    @Inject
+    SlowQueryLog slowQueryLog;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+
+        if (!BuildConfig.DEBUG) {
+            finish();
+            return;
+        }
+
+        // Configura Edge-to-Edge
+        EdgeToEdge.enable(this);
+
+        // Infla layout com ViewBinding
+        binding = ActivityDebugBinding.inflate(getLayoutInflater());
+        setContentView(binding.getRoot());
+
+        // Configura window insets
+        ViewCompat.setOnApplyWindowInsetsListener(binding.getRoot(), (v, insets) -> {
+            Insets systemBars = insets.getInsets(WindowInsetsCompat.Type.systemBars());
+            v.setPadding(systemBars.left, systemBars.top, systemBars.right, systemBars.bottom);
+            return insets;
+        });
+
+        binding.refreshButton.setOnClickListener(v -> {
+            render();
+            loadTelemetry();
+        });
+        binding.clearButton.setOnClickListener(v -> {
+            frameMetricsStore.clear();
+            networkMetrics.clear();
+            circuitBreaker.reset();
+            telemetryLog.clear();
+            slowQueryLog.clear();
+            telemetryStats = Collections.emptyList();
+            slowestRuns = Collections.emptyList();
+            render();
+        });
+        binding.exportButton.setOnClickListener(v -> exportTelemetry());
+
+        render();
+        loadTelemetry();
+
+        Log.d(TAG, "DebugActivity criada");
+    }
+
+    /**
+     * Monta o relatório de métricas
+     */
+    private void render() {
+        StringBuilder report = new StringBuilder();
+        appendStartup(report);
+        appendFrameMetrics(report);
+        appendNetworkMetrics(report);
+        appendResilience(report);
+        appendTelemetry(report);
+        appendSlowQueries(report);
+        binding.reportTextView.setText(report);
+    }
+
+    /**
+     * Carrega as estatísticas de telemetria e renderiza novamente
+     */
+    private void loadTelemetry() {
+        long since = System.currentTimeMillis() - TELEMETRY_WINDOW_MS;
+        telemetryLog.loadStats(since, new SyncTelemetryLog.StatsCallback() {
+            @Override
+            public void onSuccess(List<SyncTelemetryDao.EndpointStats> stats, List<SyncTelemetry> slowest) {
+                runOnUiThread(() -> {
+                    if (binding == null) {
+                        return;
+                    }
+                    telemetryStats = stats;
+                    slowestRuns = slowest;
+                    render();
+                });
+            }
+
+            @Override
+            public void onError(String error) {
+                Log.e(TAG, error);
+            }
+        });
+    }
+
+    /**
+     * Exporta a telemetria em CSV (arquivo em files/ do app) e abre o compartilhamento
+     */
+    private void exportTelemetry() {
+        File directory = getExternalFilesDir(null);
+        if (directory == null) {
+            directory = getFilesDir();
+        }
+        telemetryLog.exportCsv(new File(directory, "sync_telemetry.csv"), new SyncTelemetryLog.ExportCallback() {
+            @Override
+            public void onSuccess(File file, String csv) {
+                runOnUiThread(() -> {
+                    Toast.makeText(DebugActivity.this, "Exportado: " + file.getAbsolutePath(), Toast.LENGTH_LONG).show();
+
+                    Intent share = new Intent(Intent.ACTION_SEND);
+                    share.setType("text/plain");
+                    share.putExtra(Intent.EXTRA_SUBJECT, "Telemetria de sincronização");
+                    share.putExtra(Intent.EXTRA_TEXT, csv);
+                    startActivity(Intent.createChooser(share, "Compartilhar telemetria"));
+                });
+            }
+
+            @Override
+            public void onError(String error) {
+                runOnUiThread(() -> Toast.makeText(DebugActivity.this, error, Toast.LENGTH_LONG).show());
+            }
+        });
+    }
+
+    private void appendStartup(StringBuilder report) {
+        report.append("== Inicialização ==\n");
+        report.append("primeiro frame: ").append(formatMs(StartupTimer.getFirstFrameMs())).append('\n');
+        report.append("conteúdo exibido: ").append(formatMs(StartupTimer.getFullyDrawnMs())).append("\n\n");
+    }
+
+    private static String formatMs(long ms) {
+        return ms < 0 ? "-" : ms + "ms";
+    }
+
+    private void appendFrameMetrics(StringBuilder report) {
+        report.append("== Frames (ms) por tela|estado ==\n");
+
+        List<FrameMetricsStore.Summary> summaries = frameMetricsStore.getSummaries();
+        if (summaries.isEmpty()) {
+            report.append("Nenhum frame registrado\n");
+            return;
+        }
+
+        for (FrameMetricsStore.Summary summary : summaries) {
+            report.append(summary.key).append('\n');
+            report.append(String.format(Locale.US,
+                    "  frames=%d jank=%.1f%% descartados=%d p50=%d p90=%d p95=%d p99=%d%n",
+                    summary.frames, summary.getJankPercent(), summary.droppedFrames,
+                    summary.p50, summary.p90, summary.p95, summary.p99));
+        }
+    }
+
+    private void appendNetworkMetrics(StringBuilder report) {
+        report.append("\n== Rede (ms) por endpoint ==\n");
+
+        List<NetworkMetrics.EndpointSummary> summaries = networkMetrics.getSummaries();
+        if (summaries.isEmpty()) {
+            report.append("Nenhuma chamada registrada\n");
+            return;
+        }
+
+        for (NetworkMetrics.EndpointSummary summary : summaries) {
+            report.append(summary.endpoint).append('\n');
+            report.append(String.format(Locale.US,
+                    "  chamadas=%d falhas=%d total p50=%d p95=%d p99=%d%n",
+                    summary.calls, summary.failures, summary.totalP50, summary.totalP95, summary.totalP99));
+            report.append(String.format(Locale.US,
+                    "  ttfb p50=%d p95=%d dns=%d conexão=%d tls=%d bytes=%d%n",
+                    summary.ttfbP50, summary.ttfbP95, summary.dnsP50, summary.connectP50, summary.tlsP50,
+                    summary.averageResponseBytes));
+        }
+    }
+
+    private void appendResilience(StringBuilder report) {
+        report.append("\n== Retries e circuit breaker ==\n");
+
+        List<String> endpoints = networkMetrics.getResilienceEndpoints();
+        List<String> circuits = circuitBreaker.describe();
+        if (endpoints.isEmpty() && circuits.isEmpty()) {
+            report.append("Nenhum retry registrado\n");
+            return;
+        }
+
+        for (String endpoint : endpoints) {
+            report.append(String.format(Locale.US, "%s: retries=%d rejeitadas=%d%n", endpoint,
+                    networkMetrics.getRetryCount(endpoint), networkMetrics.getCircuitRejectionCount(endpoint)));
+        }
+        for (String circuit : circuits) {
+            report.append("  ").append(circuit).append('\n');
+        }
+    }
+
+    private void appendTelemetry(StringBuilder report) {
+        report.append("\n== Telemetria de sync (7 dias, ms) ==\n");
+
+        if (telemetryStats.isEmpty()) {
+            report.append("Nenhuma operação registrada\n");
+            return;
+        }
+
+        for (SyncTelemetryDao.EndpointStats stats : telemetryStats) {
+            report.append(stats.endpoint).append('\n');
+            report.append(String.format(Locale.US,
+                    "  execuções=%d falhas=%d canceladas=%d linhas=%d bytes=%d%n",
+                    stats.runs, stats.failures, stats.cancelled, stats.totalRows, stats.totalBytes));
+            report.append(String.format(Locale.US,
+                    "  média rede=%.0f json=%.0f gravação=%.0f total=%.0f máx=%d%n",
+                    stats.avgNetworkMs, stats.avgParseMs, stats.avgWriteMs, stats.avgTotalMs, stats.maxTotalMs));
+        }
+
+        report.append("Mais lentas:\n");
+        for (SyncTelemetry run : slowestRuns) {
+            report.append(String.format(Locale.US,
+                    "  %s %s total=%d rede=%d json=%d gravação=%d linhas=%d%n",
+                    run.getEndpoint(), run.getOutcome(), run.getTotalMs(), run.getNetworkMs(),
+                    run.getParseMs(), run.getWriteMs(), run.getRowCount()));
+        }
+    }
+
+    private void appendSlowQueries(StringBuilder report) {
+        report.append("\n== Consultas lentas (>").append(SlowQueryLog.SLOW_QUERY_MS).append("ms) ou na main thread ==\n");
+        report.append("consultas medidas: ").append(slowQueryLog.getExecutionCount()).append('\n');
+
+        List<SlowQueryLog.QuerySummary> queries = slowQueryLog.getTopQueries(SLOW_QUERY_LIMIT);
+        if (queries.isEmpty()) {
+            report.append("Nenhuma consulta lenta registrada\n");
+            return;
+        }
+
+        for (SlowQueryLog.QuerySummary query : queries) {
+            report.append(query.sql).append('\n');
+            report.append(String.format(Locale.US,
+                    "  vezes=%d main=%d máx=%d média=%d linhas=%d args=%s%n",
+                    query.occurrences, query.mainThreadOccurrences, query.maxMs, query.getAverageMs(),
+                    query.maxRows, query.argShape));
+        }
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        binding = null;
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.tecpontes.appfinanceiro.ui.transactions;
+
+import android.graphics.Canvas;
+import android.view.View;
+import android.view.ViewGroup;
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+
+/**
+ * Desenha o cabeçalho da seção visível fixo no topo da lista; o próximo cabeçalho
+ * empurra o atual para cima ao se aproximar.
+ */
+public class StickyHeaderDecoration extends RecyclerView.ItemDecoration {
+
+    /**
+     * Fornece os cabeçalhos ao decoration
+     */
+    public interface StickyHeaderProvider {
+
+        /**
+         * Posição do cabeçalho da seção do item, ou RecyclerView.NO_POSITION
+         */
+        int getHeaderPositionForItem(int itemPosition);
+
+        boolean isHeader(int position);
+
+        /**
+         * View do cabeçalho já preenchida com os dados da posição
+         */
+        @NonNull
+        View getHeaderView(@NonNull RecyclerView parent, int headerPosition);
+    }
+
+    private final StickyHeaderProvider provider;
+
+    public StickyHeaderDecoration(@NonNull StickyHeaderProvider provider) {
+        this.provider = provider;
+    }
+
+    @Override
+    public void onDrawOver(@NonNull Canvas canvas, @NonNull RecyclerView parent, @NonNull RecyclerView.State state) {
+        View topChild = parent.getChildAt(0);
+        if (topChild == null) {
+            return;
+        }
+
+        int topPosition = parent.getChildAdapterPosition(topChild);
+        if (topPosition == RecyclerView.NO_POSITION) {
+            return;
+        }
+
+        int headerPosition = provider.getHeaderPositionForItem(topPosition);
+        if (headerPosition == RecyclerView.NO_POSITION) {
+            return;
+        }
+
+        View header = provider.getHeaderView(parent, headerPosition);
+        layoutHeader(parent, header);
+
+        // O próximo cabeçalho em contato empurra o fixo para cima
+        int offset = 0;
+        View childInContact = getChildInContact(parent, header.getHeight());
+        if (childInContact != null) {
+            int contactPosition = parent.getChildAdapterPosition(childInContact);
+            if (contactPosition != RecyclerView.NO_POSITION && contactPosition != headerPosition
+                    && provider.isHeader(contactPosition)) {
+                offset = childInContact.getTop() - header.getHeight();
+            }
+        }
+
+        canvas.save();
+        canvas.translate(parent.getPaddingLeft(), Math.min(0, offset));
+        header.draw(canvas);
+        canvas.restore();
+    }
+
+    private static void layoutHeader(@NonNull RecyclerView parent, @NonNull View header) {
+        int width = parent.getWidth() - parent.getPaddingLeft() - parent.getPaddingRight();
+        int widthSpec = View.MeasureSpec.makeMeasureSpec(width, View.MeasureSpec.EXACTLY);
+        int heightSpec = View.MeasureSpec.makeMeasureSpec(parent.getHeight(), View.MeasureSpec.UNSPECIFIED);
+
+        ViewGroup.LayoutParams params = header.getLayoutParams();
+        int childWidthSpec = ViewGroup.getChildMeasureSpec(widthSpec, 0,
+                params != null ? params.width : ViewGroup.LayoutParams.MATCH_PARENT);
+        int childHeightSpec = ViewGroup.getChildMeasureSpec(heightSpec, 0,
+                params != null ? params.height : ViewGroup.LayoutParams.WRAP_CONTENT);
+
+        header.measure(childWidthSpec, childHeightSpec);
+        header.layout(0, 0, header.getMeasuredWidth(), header.getMeasuredHeight());
+    }
+
+    private static View getChildInContact(@NonNull RecyclerView parent, int contactPoint) {
+        for (int i = 0; i < parent.getChildCount(); i++) {
+            View child = parent.getChildAt(i);
+            if (child.getBottom() > contactPoint && child.getTop() <= contactPoint) {
+                return child;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.tecpontes.appfinanceiro.ui.transactions;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+
+/**
+ * Callback de diff para linhas de transação: a identidade é o id da transação
+ * e o conteúdo é comparado pelos campos exibidos.
+ */
+public class TransactionItemDiffCallback extends DiffUtil.ItemCallback<TransactionRowModel> {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    @Override
+    public boolean areItemsTheSame(@NonNull TransactionRowModel oldItem, @NonNull TransactionRowModel newItem) {
+        return oldItem.getId().equals(newItem.getId());
+    }
+
+    @Override
+    public boolean areContentsTheSame(@NonNull TransactionRowModel oldItem, @NonNull TransactionRowModel newItem) {
+        return oldItem.equals(newItem);
+    }
+
+    /**
+     * Converte o id (UUID em texto) em um id estável de 64 bits para o RecyclerView (hash FNV-1a)
+     */
+    public static long stableId(@NonNull String transactionId) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < transactionId.length(); i++) {
+            hash ^= transactionId.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
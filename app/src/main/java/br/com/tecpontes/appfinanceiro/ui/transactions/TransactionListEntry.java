@@ -0,0 +1,122 @@
+package br.com.tecpontes.appfinanceiro.ui.transactions;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * Entrada da lista agrupada de transações: cabeçalho de mês, cabeçalho de dia ou linha de transação
+ */
+public final class TransactionListEntry {
+
+    public static final int TYPE_MONTH_HEADER = 0;
+    public static final int TYPE_DAY_HEADER = 1;
+    public static final int TYPE_TRANSACTION = 2;
+
+    private final int type;
+
+    @NonNull
+    private final String key; // chave estável da entrada (id da transação ou chave da seção)
+
+    @Nullable
+    private final String title;
+
+    @Nullable
+    private final String formattedSubtotal;
+
+    @ColorInt
+    private final int subtotalColor;
+
+    @Nullable
+    private final TransactionRowModel row;
+
+    private TransactionListEntry(int type, @NonNull String key, @Nullable String title,
+                                 @Nullable String formattedSubtotal, @ColorInt int subtotalColor,
+                                 @Nullable TransactionRowModel row) {
+        this.type = type;
+        this.key = key;
+        this.title = title;
+        this.formattedSubtotal = formattedSubtotal;
+        this.subtotalColor = subtotalColor;
+        this.row = row;
+    }
+
+    /**
+     * Cria um cabeçalho de mês ou de dia com o subtotal da seção
+     */
+    @NonNull
+    public static TransactionListEntry header(int type, @NonNull String key, @NonNull String title,
+                                              @NonNull String formattedSubtotal, @ColorInt int subtotalColor) {
+        return new TransactionListEntry(type, key, title, formattedSubtotal, subtotalColor, null);
+    }
+
+    /**
+     * Cria a entrada de uma linha de transação
+     */
+    @NonNull
+    public static TransactionListEntry transaction(@NonNull TransactionRowModel row) {
+        return new TransactionListEntry(TYPE_TRANSACTION, row.getId(), null, null, 0, row);
+    }
+
+    public int getType() {
+        return type;
+    }
+
+    public boolean isHeader() {
+        return type != TYPE_TRANSACTION;
+    }
+
+    @NonNull
+    public String getKey() {
+        return key;
+    }
+
+    @Nullable
+    public String getTitle() {
+        return title;
+    }
+
+    @Nullable
+    public String getFormattedSubtotal() {
+        return formattedSubtotal;
+    }
+
+    @ColorInt
+    public int getSubtotalColor() {
+        return subtotalColor;
+    }
+
+    @Nullable
+    public TransactionRowModel getRow() {
+        return row;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TransactionListEntry)) return false;
+        TransactionListEntry that = (TransactionListEntry) o;
+        return type == that.type &&
+                subtotalColor == that.subtotalColor &&
+                key.equals(that.key) &&
+                Objects.equals(title, that.title) &&
+                Objects.equals(formattedSubtotal, that.formattedSubtotal) &&
+                Objects.equals(row, that.row);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, key, title, formattedSubtotal, subtotalColor, row);
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionListEntry{" +
+                "type=" + type +
+                ", key='" + key + '\'' +
+                ", title='" + title + '\'' +
+                ", formattedSubtotal='" + formattedSubtotal + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,178 @@
+package br.com.tecpontes.appfinanceiro.ui.transactions;
+
+import android.content.Context;
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
+import br.com.tecpontes.appfinanceiro.data.local.model.TransactionListItem;
+import br.com.tecpontes.appfinanceiro.utils.TransactionFormatter;
+import dagger.hilt.android.qualifiers.ApplicationContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Converte listas de TransactionListItem em TransactionRowModel em background,
+ * com valores, datas e cores já resolvidos.
+ */
+@Singleton
+public class TransactionRowMapper {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @ColorInt
+    private final int incomeColor;
+
+    @ColorInt
+    private final int expenseColor;
+
+    @Inject
+    public TransactionRowMapper(@ApplicationContext Context context) {
+        this.incomeColor = context.getColor(android.R.color.holo_green_dark);
+        this.expenseColor = context.getColor(android.R.color.holo_red_dark);
+    }
+
+    @ColorInt
+    public int getIncomeColor() {
+        return incomeColor;
+    }
+
+    @ColorInt
+    public int getExpenseColor() {
+        return expenseColor;
+    }
+
+    /**
+     * Mapeia cada lista emitida pela fonte; resultados de listas já substituídas são descartados
+     */
+    @NonNull
+    public LiveData<List<TransactionRowModel>> map(@NonNull LiveData<List<TransactionListItem>> source) {
+        MediatorLiveData<List<TransactionRowModel>> result = new MediatorLiveData<>();
+        AtomicInteger generation = new AtomicInteger();
+
+        result.addSource(source, items -> {
+            int current = generation.incrementAndGet();
+            executor.execute(() -> {
+                List<TransactionRowModel> rows = mapList(items);
+                if (generation.get() == current) {
+                    result.postValue(rows);
+                }
+            });
+        });
+
+        return result;
+    }
+
+    /**
+     * Mapeia cada lista emitida pela fonte e a agrupa em seções de mês/dia.
+     * O mapeamento e o agrupamento rodam no mesmo executor e só formatam as linhas
+     * e seções que mudaram desde a emissão anterior.
+     */
+    @NonNull
+    public LiveData<TransactionSections> mapSections(@NonNull LiveData<List<TransactionListItem>> source) {
+        MediatorLiveData<TransactionSections> result = new MediatorLiveData<>();
+        TransactionSectionBuilder sectionBuilder = new TransactionSectionBuilder(incomeColor, expenseColor);
+        RowCache rowCache = new RowCache();
+        AtomicInteger generation = new AtomicInteger();
+
+        result.addSource(source, items -> {
+            int current = generation.incrementAndGet();
+            executor.execute(() -> {
+                if (generation.get() != current) {
+                    return;
+                }
+                TransactionSections sections = sectionBuilder.build(rowCache.map(items));
+                if (generation.get() == current) {
+                    result.postValue(sections);
+                }
+            });
+        });
+
+        return result;
+    }
+
+    /**
+     * Mapeia uma lista na thread atual
+     */
+    @WorkerThread
+    @NonNull
+    public List<TransactionRowModel> mapList(List<TransactionListItem> items) {
+        if (items == null || items.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<TransactionRowModel> rows = new ArrayList<>(items.size());
+        for (TransactionListItem item : items) {
+            rows.add(mapItem(item));
+        }
+        return Collections.unmodifiableList(rows);
+    }
+
+    /**
+     * Linhas da última lista mapeada de uma fonte, por id: itens iguais aos da emissão anterior
+     * reaproveitam o TransactionRowModel já formatado (a mesma instância, o que também torna
+     * imediata a comparação das seções no TransactionSectionBuilder). Usado só no executor.
+     */
+    private final class RowCache {
+
+        private Map<String, CachedRow> rows = new HashMap<>();
+
+        @NonNull
+        List<TransactionRowModel> map(List<TransactionListItem> items) {
+            if (items == null || items.isEmpty()) {
+                rows = new HashMap<>();
+                return Collections.emptyList();
+            }
+
+            Map<String, CachedRow> current = new HashMap<>(items.size() * 2);
+            List<TransactionRowModel> result = new ArrayList<>(items.size());
+            for (TransactionListItem item : items) {
+                CachedRow cached = rows.get(item.getId());
+                if (cached == null || !cached.item.equals(item)) {
+                    cached = new CachedRow(item, mapItem(item));
+                }
+                current.put(item.getId(), cached);
+                result.add(cached.row);
+            }
+            rows = current;
+            return Collections.unmodifiableList(result);
+        }
+    }
+
+    private static final class CachedRow {
+
+        final TransactionListItem item;
+        final TransactionRowModel row;
+
+        CachedRow(TransactionListItem item, TransactionRowModel row) {
+            this.item = item;
+            this.row = row;
+        }
+    }
+
+    @NonNull
+    private TransactionRowModel mapItem(@NonNull TransactionListItem item) {
+        boolean income = "income".equals(item.getType());
+        String note = item.getNote() != null && !item.getNote().trim().isEmpty() ? item.getNote() : null;
+
+        return new TransactionRowModel(
+                item.getId(),
+                item.getCategory(),
+                note,
+                TransactionFormatter.formatSignedAmount(item.getAmount(), income),
+                TransactionFormatter.formatDate(item.getDate()),
+                income ? incomeColor : expenseColor,
+                item.getDate(),
+                income ? item.getAmount() : -item.getAmount()
+        );
+    }
+}
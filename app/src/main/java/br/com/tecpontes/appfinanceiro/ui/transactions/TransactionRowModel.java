@@ -0,0 +1,116 @@
+package br.com.tecpontes.appfinanceiro.ui.transactions;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * Modelo imutável de uma linha de transação, já formatado para exibição.
+ * Criado em background pelo TransactionRowMapper; o bind apenas atribui os campos.
+ */
+public final class TransactionRowModel {
+
+    @NonNull
+    private final String id;
+
+    @NonNull
+    private final String category;
+
+    @Nullable
+    private final String note; // null quando não há nota para exibir
+
+    @NonNull
+    private final String formattedAmount;
+
+    @NonNull
+    private final String formattedDate;
+
+    @ColorInt
+    private final int amountColor;
+
+    private final long date;
+
+    private final double signedAmount; // positivo para receita, negativo para despesa
+
+    public TransactionRowModel(@NonNull String id, @NonNull String category, @Nullable String note,
+                               @NonNull String formattedAmount, @NonNull String formattedDate,
+                               @ColorInt int amountColor, long date, double signedAmount) {
+        this.id = id;
+        this.category = category;
+        this.note = note;
+        this.formattedAmount = formattedAmount;
+        this.formattedDate = formattedDate;
+        this.amountColor = amountColor;
+        this.date = date;
+        this.signedAmount = signedAmount;
+    }
+
+    @NonNull
+    public String getId() {
+        return id;
+    }
+
+    @NonNull
+    public String getCategory() {
+        return category;
+    }
+
+    @Nullable
+    public String getNote() {
+        return note;
+    }
+
+    @NonNull
+    public String getFormattedAmount() {
+        return formattedAmount;
+    }
+
+    @NonNull
+    public String getFormattedDate() {
+        return formattedDate;
+    }
+
+    @ColorInt
+    public int getAmountColor() {
+        return amountColor;
+    }
+
+    public long getDate() {
+        return date;
+    }
+
+    public double getSignedAmount() {
+        return signedAmount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TransactionRowModel)) return false;
+        TransactionRowModel that = (TransactionRowModel) o;
+        return amountColor == that.amountColor &&
+                date == that.date &&
+                Double.compare(that.signedAmount, signedAmount) == 0 &&
+                id.equals(that.id) &&
+                category.equals(that.category) &&
+                Objects.equals(note, that.note) &&
+                formattedAmount.equals(that.formattedAmount) &&
+                formattedDate.equals(that.formattedDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, category, note, formattedAmount, formattedDate, amountColor, date, signedAmount);
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionRowModel{" +
+                "id='" + id + '\'' +
+                ", category='" + category + '\'' +
+                ", formattedAmount='" + formattedAmount + '\'' +
+                ", formattedDate='" + formattedDate + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,206 @@
+package br.com.tecpontes.appfinanceiro.ui.transactions;
+
+import android.util.Log;
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+import br.com.tecpontes.appfinanceiro.utils.TransactionFormatter;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Agrupa linhas de transação em seções de mês e dia com subtotais.
+ *
+ * Mantém as seções do último agrupamento: dias cujas linhas não mudaram são reaproveitados
+ * sem recalcular subtotal nem cabeçalho. Não é thread-safe; deve ser usado sempre
+ * na mesma thread de background.
+ */
+public class TransactionSectionBuilder {
+
+    private static final String TAG = "TransactionSectionBuilder";
+
+    private static final Locale LOCALE_PT_BR = new Locale("pt", "BR");
+    private static final DateTimeFormatter MONTH_TITLE_FORMAT =
+            DateTimeFormatter.ofPattern("MMMM 'de' yyyy", LOCALE_PT_BR);
+    private static final DateTimeFormatter MONTH_LABEL_FORMAT =
+            DateTimeFormatter.ofPattern("MMM yyyy", LOCALE_PT_BR);
+    private static final DateTimeFormatter DAY_TITLE_FORMAT =
+            DateTimeFormatter.ofPattern("EEEE, d 'de' MMMM", LOCALE_PT_BR);
+
+    @ColorInt
+    private final int incomeColor;
+
+    @ColorInt
+    private final int expenseColor;
+
+    // Seções do último agrupamento, por chave do dia (yyyyMMdd) e do mês (yyyyMM)
+    private Map<Integer, DaySection> previousDays = new HashMap<>();
+    private Map<Integer, TransactionListEntry> previousMonthHeaders = new HashMap<>();
+
+    public TransactionSectionBuilder(@ColorInt int incomeColor, @ColorInt int expenseColor) {
+        this.incomeColor = incomeColor;
+        this.expenseColor = expenseColor;
+    }
+
+    /**
+     * Agrupa as linhas (ordenadas por data decrescente) em seções
+     */
+    @WorkerThread
+    @NonNull
+    public TransactionSections build(@NonNull List<TransactionRowModel> rows) {
+        if (rows.isEmpty()) {
+            previousDays = new HashMap<>();
+            previousMonthHeaders = new HashMap<>();
+            return TransactionSections.EMPTY;
+        }
+
+        ZoneId zone = ZoneId.systemDefault();
+
+        // Linhas por dia e dias por mês, na ordem da lista. A data só é convertida quando a linha
+        // sai do intervalo [dayStart, dayEnd) do dia anterior (linhas vêm ordenadas por data)
+        Map<Integer, List<TransactionRowModel>> rowsByDay = new LinkedHashMap<>();
+        Map<Integer, List<Integer>> daysByMonth = new LinkedHashMap<>();
+        Map<Integer, LocalDate> dates = new HashMap<>();
+        long dayStart = Long.MAX_VALUE;
+        long dayEnd = Long.MIN_VALUE;
+        LocalDate currentDate = null;
+        int currentDayKey = 0;
+        for (TransactionRowModel row : rows) {
+            if (row.getDate() < dayStart || row.getDate() >= dayEnd) {
+                currentDate = Instant.ofEpochMilli(row.getDate()).atZone(zone).toLocalDate();
+                currentDayKey = dayKey(currentDate);
+                dayStart = currentDate.atStartOfDay(zone).toInstant().toEpochMilli();
+                dayEnd = currentDate.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+            }
+            List<TransactionRowModel> dayRows = rowsByDay.get(currentDayKey);
+            if (dayRows == null) {
+                dayRows = new ArrayList<>();
+                rowsByDay.put(currentDayKey, dayRows);
+                dates.put(currentDayKey, currentDate);
+
+                int monthKey = currentDayKey / 100;
+                List<Integer> monthDays = daysByMonth.get(monthKey);
+                if (monthDays == null) {
+                    monthDays = new ArrayList<>();
+                    daysByMonth.put(monthKey, monthDays);
+                }
+                monthDays.add(currentDayKey);
+            }
+            dayRows.add(row);
+        }
+
+        Map<Integer, DaySection> days = new HashMap<>(rowsByDay.size() * 2);
+        Map<Integer, TransactionListEntry> monthHeaders = new HashMap<>(daysByMonth.size() * 2);
+        List<TransactionListEntry> entries = new ArrayList<>(rows.size() + rowsByDay.size() + daysByMonth.size());
+        TreeMap<Integer, Integer> monthPositions = new TreeMap<>();
+        Map<Integer, String> monthLabels = new LinkedHashMap<>();
+        int reusedDays = 0;
+
+        for (Map.Entry<Integer, List<Integer>> month : daysByMonth.entrySet()) {
+            int monthKey = month.getKey();
+            LocalDate monthDate = dates.get(month.getValue().get(0));
+
+            // Seções de dia: reaproveita as que não mudaram
+            List<DaySection> monthDays = new ArrayList<>(month.getValue().size());
+            double monthSubtotal = 0;
+            for (int dayKey : month.getValue()) {
+                List<TransactionRowModel> dayRows = rowsByDay.get(dayKey);
+                DaySection day = previousDays.get(dayKey);
+                if (day != null && day.rows.equals(dayRows)) {
+                    reusedDays++;
+                } else {
+                    day = createDaySection(dayKey, dates.get(dayKey), dayRows);
+                }
+                days.put(dayKey, day);
+                monthDays.add(day);
+                monthSubtotal += day.subtotal;
+            }
+
+            TransactionListEntry monthHeader = previousMonthHeaders.get(monthKey);
+            String formattedSubtotal = formatSubtotal(monthSubtotal);
+            if (monthHeader == null || !formattedSubtotal.equals(monthHeader.getFormattedSubtotal())) {
+                monthHeader = TransactionListEntry.header(TransactionListEntry.TYPE_MONTH_HEADER,
+                        "m:" + monthKey, capitalize(MONTH_TITLE_FORMAT.format(monthDate)),
+                        formattedSubtotal, subtotalColor(monthSubtotal));
+            }
+            monthHeaders.put(monthKey, monthHeader);
+
+            monthPositions.put(monthKey, entries.size());
+            monthLabels.put(monthKey, capitalize(MONTH_LABEL_FORMAT.format(monthDate)));
+            entries.add(monthHeader);
+            for (DaySection day : monthDays) {
+                entries.addAll(day.entries);
+            }
+        }
+
+        previousDays = days;
+        previousMonthHeaders = monthHeaders;
+
+        Log.d(TAG, "Seções agrupadas: " + days.size() + " dias (" + reusedDays + " reaproveitados), "
+                + monthHeaders.size() + " meses");
+        return new TransactionSections(entries, monthPositions, monthLabels, rows.size());
+    }
+
+    @NonNull
+    private DaySection createDaySection(int dayKey, @NonNull LocalDate date,
+                                        @NonNull List<TransactionRowModel> rows) {
+        double subtotal = 0;
+        for (TransactionRowModel row : rows) {
+            subtotal += row.getSignedAmount();
+        }
+
+        List<TransactionListEntry> entries = new ArrayList<>(rows.size() + 1);
+        entries.add(TransactionListEntry.header(TransactionListEntry.TYPE_DAY_HEADER,
+                "d:" + dayKey, capitalize(DAY_TITLE_FORMAT.format(date)),
+                formatSubtotal(subtotal), subtotalColor(subtotal)));
+        for (TransactionRowModel row : rows) {
+            entries.add(TransactionListEntry.transaction(row));
+        }
+
+        return new DaySection(rows, entries, subtotal);
+    }
+
+    @NonNull
+    private static String formatSubtotal(double subtotal) {
+        return TransactionFormatter.formatSignedAmount(Math.abs(subtotal), subtotal >= 0);
+    }
+
+    @ColorInt
+    private int subtotalColor(double subtotal) {
+        return subtotal >= 0 ? incomeColor : expenseColor;
+    }
+
+    private static int dayKey(@NonNull LocalDate date) {
+        return date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    @NonNull
+    private static String capitalize(@NonNull String text) {
+        return text.isEmpty() ? text : text.substring(0, 1).toUpperCase(LOCALE_PT_BR) + text.substring(1);
+    }
+
+    /**
+     * Seção de um dia: linhas de origem, entradas já montadas e subtotal
+     */
+    private static final class DaySection {
+
+        final List<TransactionRowModel> rows;
+        final List<TransactionListEntry> entries;
+        final double subtotal;
+
+        DaySection(List<TransactionRowModel> rows, List<TransactionListEntry> entries, double subtotal) {
+            this.rows = rows;
+            this.entries = entries;
+            this.subtotal = subtotal;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.tecpontes.appfinanceiro.ui.transactions;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+
+/**
+ * Resultado imutável do agrupamento: entradas da lista (cabeçalhos + linhas) e o índice de meses
+ */
+public final class TransactionSections {
+
+    public static final TransactionSections EMPTY = new TransactionSections(
+            Collections.emptyList(), Collections.emptyNavigableMap(), Collections.emptyMap(), 0);
+
+    @NonNull
+    private final List<TransactionListEntry> entries;
+
+    // Chave do mês (yyyyMM) -> posição do cabeçalho do mês na lista
+    @NonNull
+    private final NavigableMap<Integer, Integer> monthPositions;
+
+    // Chave do mês -> rótulo curto para o índice, na ordem da lista
+    @NonNull
+    private final Map<Integer, String> monthLabels;
+
+    private final int transactionsCount;
+
+    public TransactionSections(@NonNull List<TransactionListEntry> entries,
+                               @NonNull NavigableMap<Integer, Integer> monthPositions,
+                               @NonNull Map<Integer, String> monthLabels,
+                               int transactionsCount) {
+        this.entries = Collections.unmodifiableList(entries);
+        this.monthPositions = Collections.unmodifiableNavigableMap(monthPositions);
+        this.monthLabels = Collections.unmodifiableMap(monthLabels);
+        this.transactionsCount = transactionsCount;
+    }
+
+    @NonNull
+    public List<TransactionListEntry> getEntries() {
+        return entries;
+    }
+
+    @NonNull
+    public Map<Integer, String> getMonthLabels() {
+        return monthLabels;
+    }
+
+    public int getTransactionsCount() {
+        return transactionsCount;
+    }
+
+    public boolean isEmpty() {
+        return transactionsCount == 0;
+    }
+
+    /**
+     * Posição do cabeçalho do mês; sem transações no mês, usa o mês anterior mais próximo
+     * (ou o mais antigo disponível)
+     */
+    public int positionForMonth(int monthKey) {
+        Map.Entry<Integer, Integer> entry = monthPositions.floorEntry(monthKey);
+        if (entry == null) {
+            entry = monthPositions.ceilingEntry(monthKey);
+        }
+        return entry != null ? entry.getValue() : RecyclerView.NO_POSITION;
+    }
+}
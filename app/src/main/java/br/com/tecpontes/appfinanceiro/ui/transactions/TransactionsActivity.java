@@ -5,23 +5,32 @@ import android.net.Uri;
 import android.os.Bundle;
 import android.util.Log;
 import android.view.View;
+import android.widget.LinearLayout;
+import android.widget.TextView;
 import android.widget.Toast;
 import androidx.activity.EdgeToEdge;
+import androidx.annotation.NonNull;
 import androidx.activity.result.ActivityResultLauncher;
 import androidx.activity.result.contract.ActivityResultContracts;
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.core.content.ContextCompat;
 import androidx.core.graphics.Insets;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
 import androidx.swiperefreshlayout.widget.SwipeRefreshLayout;
+import br.com.tecpontes.appfinanceiro.R;
 import br.com.tecpontes.appfinanceiro.databinding.ActivityTransactionsBinding;
 import br.com.tecpontes.appfinanceiro.ui.dashboard.DashboardActivity;
+import br.com.tecpontes.appfinanceiro.utils.FrameMetricsStore;
+import br.com.tecpontes.appfinanceiro.utils.FrameMetricsTracker;
 import br.com.tecpontes.appfinanceiro.utils.TokenManager;
 import br.com.tecpontes.appfinanceiro.viewmodel.TransactionsViewModel;
 import dagger.hilt.android.AndroidEntryPoint;
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
 import javax.inject.Inject;
 
 /**
@@ -38,8 +47,19 @@ public class TransactionsActivity extends AppCompatActivity {
     @Inject
     TokenManager tokenManager;
 
+    @Inject
+    FrameMetricsStore frameMetricsStore;
+
+    // Métricas de frame marcadas com o estado da tela
+    private FrameMetricsTracker frameMetricsTracker;
+
     // Adapter para lista de transações
     private TransactionsAdapter transactionsAdapter;
+    private LinearLayoutManager layoutManager;
+
+    // Seções aplicadas no adapter e meses exibidos no índice
+    private TransactionSections renderedSections = TransactionSections.EMPTY;
+    private Map<Integer, String> renderedMonthLabels = Collections.emptyMap();
 
     // Launcher para seleção de arquivo OFX
     private ActivityResultLauncher<String[]> ofxFilePickerLauncher;
@@ -65,6 +85,8 @@ public class TransactionsActivity extends AppCompatActivity {
         // Inicializa ViewModel
         transactionsViewModel = new ViewModelProvider(this).get(TransactionsViewModel.class);
 
+        frameMetricsTracker = new FrameMetricsTracker(this, frameMetricsStore);
+
         // Configura RecyclerView
         setupRecyclerView();
 
@@ -90,9 +112,18 @@ public class TransactionsActivity extends AppCompatActivity {
      * Configura RecyclerView para transações
      */
     private void setupRecyclerView() {
-        transactionsAdapter = new TransactionsAdapter(new ArrayList<>(), this::onTransactionEdit, this::onTransactionDelete);
-        binding.transactionsRecyclerView.setLayoutManager(new LinearLayoutManager(this));
+        transactionsAdapter = new TransactionsAdapter(this::onTransactionEdit, this::onTransactionDelete);
+        layoutManager = new LinearLayoutManager(this);
+        binding.transactionsRecyclerView.setLayoutManager(layoutManager);
         binding.transactionsRecyclerView.setAdapter(transactionsAdapter);
+        binding.transactionsRecyclerView.addItemDecoration(new StickyHeaderDecoration(transactionsAdapter));
+        binding.transactionsRecyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrollStateChanged(@NonNull RecyclerView recyclerView, int newState) {
+                frameMetricsTracker.setTag(FrameMetricsTracker.STATE_SCROLLING,
+                        newState != RecyclerView.SCROLL_STATE_IDLE);
+            }
+        });
     }
 
     /**
@@ -131,6 +162,12 @@ public class TransactionsActivity extends AppCompatActivity {
             binding.loadingView.getRoot().setVisibility(loading ? View.VISIBLE : View.GONE);
         });
 
+        // Marca as métricas de frame durante sincronização e importação
+        transactionsViewModel.syncing.observe(this, syncing ->
+                frameMetricsTracker.setTag(FrameMetricsTracker.STATE_SYNCING, Boolean.TRUE.equals(syncing)));
+        transactionsViewModel.importing.observe(this, importing ->
+                frameMetricsTracker.setTag(FrameMetricsTracker.STATE_IMPORTING, Boolean.TRUE.equals(importing)));
+
         // Observa erros
         transactionsViewModel.error.observe(this, error -> {
             if (error != null) {
@@ -149,8 +186,7 @@ public class TransactionsActivity extends AppCompatActivity {
         transactionsViewModel.createSuccess.observe(this, success -> {
             if (success) {
                 Toast.makeText(this, "Transação criada com sucesso!", Toast.LENGTH_SHORT).show();
-                // Recarrega dados
-                loadInitialData();
+                // Lista é atualizada automaticamente pela query Room ativa
             }
         });
 
@@ -158,16 +194,24 @@ public class TransactionsActivity extends AppCompatActivity {
         transactionsViewModel.importSuccess.observe(this, success -> {
             if (success) {
                 Toast.makeText(this, "Arquivo OFX importado com sucesso!", Toast.LENGTH_SHORT).show();
-                // Recarrega dados
-                loadInitialData();
+                // Lista é atualizada automaticamente pela query Room ativa
+            }
+        });
+
+        // Observa transação selecionada para edição
+        transactionsViewModel.selectedTransaction.observe(this, transaction -> {
+            if (transaction != null) {
+                // TODO: Mostrar diálogo de edição
+                Toast.makeText(this, "Editar: " + transaction.getCategory(), Toast.LENGTH_SHORT).show();
+                transactionsViewModel.clearSelection();
             }
         });
 
-        // Observa transações
-        transactionsViewModel.transactionsByAccount.observe(this, transactions -> {
-            if (transactions != null) {
-                transactionsAdapter.updateTransactions(transactions);
-                updateEmptyState(transactions.isEmpty());
+        // Observa transações agrupadas
+        transactionsViewModel.transactionSectionsByAccount.observe(this, sections -> {
+            if (sections != null) {
+                transactionsAdapter.updateSections(sections, () -> onSectionsCommitted(sections));
+                updateEmptyState(sections.isEmpty());
             }
         });
     }
@@ -246,12 +290,10 @@ public class TransactionsActivity extends AppCompatActivity {
     /**
      * Callback para edição de transação
      */
-    private void onTransactionEdit(br.com.tecpontes.appfinanceiro.data.local.entity.Transaction transaction) {
+    private void onTransactionEdit(TransactionRowModel transaction) {
         Log.d(TAG, "Editando transação: " + transaction.getId());
-        transactionsViewModel.selectTransaction(transaction);
-
-        // TODO: Mostrar diálogo de edição
-        Toast.makeText(this, "Editar: " + transaction.getCategory(), Toast.LENGTH_SHORT).show();
+        // Entidade completa é carregada sob demanda e entregue via selectedTransaction
+        transactionsViewModel.loadTransactionForEdit(transaction.getId());
     }
 
     /**
@@ -271,6 +313,58 @@ public class TransactionsActivity extends AppCompatActivity {
             .show();
     }
 
+    /**
+     * Chamado quando as seções foram aplicadas no adapter (posições do índice válidas)
+     */
+    private void onSectionsCommitted(TransactionSections sections) {
+        if (binding == null) {
+            return;
+        }
+
+        renderedSections = sections;
+        if (!sections.getMonthLabels().equals(renderedMonthLabels)) {
+            renderedMonthLabels = sections.getMonthLabels();
+            updateMonthIndex(renderedMonthLabels);
+        }
+    }
+
+    /**
+     * Recria o índice de meses (apenas quando os meses mudam)
+     */
+    private void updateMonthIndex(Map<Integer, String> monthLabels) {
+        binding.monthIndexContainer.removeAllViews();
+        binding.monthIndexScrollView.setVisibility(monthLabels.size() > 1 ? View.VISIBLE : View.GONE);
+
+        int padding = Math.round(8 * getResources().getDisplayMetrics().density);
+        for (Map.Entry<Integer, String> month : monthLabels.entrySet()) {
+            int monthKey = month.getKey();
+
+            TextView monthView = new TextView(this);
+            monthView.setText(month.getValue());
+            monthView.setTextColor(ContextCompat.getColor(this, R.color.primary_purple));
+            monthView.setBackgroundResource(R.drawable.glass_button_background);
+            monthView.setPadding(padding * 2, padding, padding * 2, padding);
+            monthView.setOnClickListener(v -> scrollToMonth(monthKey));
+
+            LinearLayout.LayoutParams params = new LinearLayout.LayoutParams(
+                    LinearLayout.LayoutParams.WRAP_CONTENT,
+                    LinearLayout.LayoutParams.WRAP_CONTENT);
+            params.setMarginEnd(padding);
+            binding.monthIndexContainer.addView(monthView, params);
+        }
+    }
+
+    /**
+     * Rola direto para o cabeçalho do mês (busca pela chave do mês, sem percorrer a lista)
+     */
+    private void scrollToMonth(int monthKey) {
+        int position = renderedSections.positionForMonth(monthKey);
+        if (position != RecyclerView.NO_POSITION) {
+            binding.transactionsRecyclerView.stopScroll();
+            layoutManager.scrollToPositionWithOffset(position, 0);
+        }
+    }
+
     /**
      * Atualiza estado vazio da lista
      */
@@ -279,6 +373,18 @@ public class TransactionsActivity extends AppCompatActivity {
         binding.emptyStateTextView.setVisibility(isEmpty ? View.VISIBLE : View.GONE);
     }
 
+    @Override
+    protected void onResume() {
+        super.onResume();
+        frameMetricsTracker.start();
+    }
+
+    @Override
+    protected void onPause() {
+        super.onPause();
+        frameMetricsTracker.stop();
+    }
+
     @Override
     protected void onDestroy() {
         super.onDestroy();
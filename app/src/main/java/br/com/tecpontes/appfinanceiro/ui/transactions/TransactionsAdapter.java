@@ -6,56 +6,153 @@ import android.view.ViewGroup;
 import android.widget.ImageButton;
 import android.widget.TextView;
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 import br.com.tecpontes.appfinanceiro.R;
-import br.com.tecpontes.appfinanceiro.data.local.entity.Transaction;
-import java.text.NumberFormat;
-import java.text.SimpleDateFormat;
-import java.util.List;
-import java.util.Locale;
 
 /**
  * Adapter para RecyclerView de transações na tela de transações
+ *
+ * Exibe as transações agrupadas (cabeçalhos de mês e dia com subtotais). O diff entre
+ * listas é calculado em background pelo ListAdapter; apenas as linhas alteradas são rebindadas.
  */
-public class TransactionsAdapter extends RecyclerView.Adapter<TransactionsAdapter.ViewHolder> {
+public class TransactionsAdapter extends ListAdapter<TransactionListEntry, RecyclerView.ViewHolder>
+        implements StickyHeaderDecoration.StickyHeaderProvider {
+
+    private static final DiffUtil.ItemCallback<TransactionListEntry> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<TransactionListEntry>() {
+                @Override
+                public boolean areItemsTheSame(@NonNull TransactionListEntry oldItem,
+                                               @NonNull TransactionListEntry newItem) {
+                    return oldItem.getKey().equals(newItem.getKey());
+                }
+
+                @Override
+                public boolean areContentsTheSame(@NonNull TransactionListEntry oldItem,
+                                                  @NonNull TransactionListEntry newItem) {
+                    return oldItem.equals(newItem);
+                }
+            };
 
-    private List<Transaction> transactions;
     private final OnTransactionEditListener editListener;
     private final OnTransactionDeleteListener deleteListener;
 
-    public TransactionsAdapter(List<Transaction> transactions,
-                              OnTransactionEditListener editListener,
+    // Cabeçalhos fixos desenhados pelo StickyHeaderDecoration (um por tipo)
+    private HeaderViewHolder stickyMonthHeader;
+    private HeaderViewHolder stickyDayHeader;
+
+    public TransactionsAdapter(OnTransactionEditListener editListener,
                               OnTransactionDeleteListener deleteListener) {
-        this.transactions = transactions;
+        super(DIFF_CALLBACK);
+        setHasStableIds(true);
         this.editListener = editListener;
         this.deleteListener = deleteListener;
     }
 
+    @Override
+    public int getItemViewType(int position) {
+        return getItem(position).getType();
+    }
+
     @NonNull
     @Override
-    public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
-        View view = LayoutInflater.from(parent.getContext())
-                .inflate(R.layout.item_transaction, parent, false);
-        return new ViewHolder(view);
+    public RecyclerView.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        if (viewType == TransactionListEntry.TYPE_TRANSACTION) {
+            View view = LayoutInflater.from(parent.getContext())
+                    .inflate(R.layout.item_transaction, parent, false);
+            return new ViewHolder(view);
+        }
+        return createHeaderViewHolder(parent, viewType);
     }
 
     @Override
-    public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        Transaction transaction = transactions.get(position);
-        holder.bind(transaction, editListener, deleteListener);
+    public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position) {
+        TransactionListEntry entry = getItem(position);
+        if (holder instanceof ViewHolder) {
+            ((ViewHolder) holder).bind(entry.getRow(), editListener, deleteListener);
+        } else {
+            ((HeaderViewHolder) holder).bind(entry);
+        }
     }
 
     @Override
-    public int getItemCount() {
-        return transactions.size();
+    public long getItemId(int position) {
+        return TransactionItemDiffCallback.stableId(getItem(position).getKey());
+    }
+
+    @Override
+    public boolean isHeader(int position) {
+        return position >= 0 && position < getItemCount() && getItem(position).isHeader();
+    }
+
+    @Override
+    public int getHeaderPositionForItem(int itemPosition) {
+        for (int position = itemPosition; position >= 0; position--) {
+            if (getItem(position).isHeader()) {
+                return position;
+            }
+        }
+        return RecyclerView.NO_POSITION;
+    }
+
+    @NonNull
+    @Override
+    public View getHeaderView(@NonNull RecyclerView parent, int headerPosition) {
+        TransactionListEntry entry = getItem(headerPosition);
+        HeaderViewHolder holder;
+        if (entry.getType() == TransactionListEntry.TYPE_MONTH_HEADER) {
+            if (stickyMonthHeader == null) {
+                stickyMonthHeader = createHeaderViewHolder(parent, entry.getType());
+            }
+            holder = stickyMonthHeader;
+        } else {
+            if (stickyDayHeader == null) {
+                stickyDayHeader = createHeaderViewHolder(parent, entry.getType());
+            }
+            holder = stickyDayHeader;
+        }
+        holder.bind(entry);
+        return holder.itemView;
+    }
+
+    @NonNull
+    private static HeaderViewHolder createHeaderViewHolder(@NonNull ViewGroup parent, int viewType) {
+        int layout = viewType == TransactionListEntry.TYPE_MONTH_HEADER
+                ? R.layout.item_transaction_month_header
+                : R.layout.item_transaction_day_header;
+        View view = LayoutInflater.from(parent.getContext()).inflate(layout, parent, false);
+        return new HeaderViewHolder(view);
     }
 
     /**
-     * Atualiza lista de transações
+     * Atualiza seções de transações
+     *
+     * @param onCommitted executado quando a nova lista estiver aplicada (posições válidas)
      */
-    public void updateTransactions(List<Transaction> newTransactions) {
-        this.transactions = newTransactions;
-        notifyDataSetChanged();
+    public void updateSections(TransactionSections sections, Runnable onCommitted) {
+        submitList(sections.getEntries(), onCommitted);
+    }
+
+    /**
+     * ViewHolder para cabeçalhos de mês e dia
+     */
+    public static class HeaderViewHolder extends RecyclerView.ViewHolder {
+
+        private final TextView titleTextView;
+        private final TextView subtotalTextView;
+
+        public HeaderViewHolder(@NonNull View itemView) {
+            super(itemView);
+            titleTextView = itemView.findViewById(R.id.headerTitleTextView);
+            subtotalTextView = itemView.findViewById(R.id.headerSubtotalTextView);
+        }
+
+        public void bind(TransactionListEntry header) {
+            titleTextView.setText(header.getTitle());
+            subtotalTextView.setText(header.getFormattedSubtotal());
+            subtotalTextView.setTextColor(header.getSubtotalColor());
+        }
     }
 
     /**
@@ -80,32 +177,17 @@ public class TransactionsAdapter extends RecyclerView.Adapter<TransactionsAdapte
             deleteButton = itemView.findViewById(R.id.deleteButton);
         }
 
-        public void bind(Transaction transaction,
+        public void bind(TransactionRowModel transaction,
                         OnTransactionEditListener editListener,
                         OnTransactionDeleteListener deleteListener) {
-            // Categoria
+            // Campos já formatados pelo TransactionRowMapper
             categoryTextView.setText(transaction.getCategory());
-
-            // Valor formatado
-            NumberFormat currencyFormat = NumberFormat.getCurrencyInstance(new Locale("pt", "BR"));
-            String formattedAmount = currencyFormat.format(transaction.getAmount());
-
-            // Cor baseada no tipo (verde para receita, vermelho para despesa)
-            if ("income".equals(transaction.getType())) {
-                amountTextView.setTextColor(itemView.getContext().getColor(android.R.color.holo_green_dark));
-                amountTextView.setText("+" + formattedAmount);
-            } else {
-                amountTextView.setTextColor(itemView.getContext().getColor(android.R.color.holo_red_dark));
-                amountTextView.setText("-" + formattedAmount);
-            }
-
-            // Data formatada
-            SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy", new Locale("pt", "BR"));
-            String formattedDate = dateFormat.format(new java.util.Date(transaction.getDate()));
-            dateTextView.setText(formattedDate);
+            amountTextView.setText(transaction.getFormattedAmount());
+            amountTextView.setTextColor(transaction.getAmountColor());
+            dateTextView.setText(transaction.getFormattedDate());
 
             // Nota (se houver)
-            if (transaction.getNote() != null && !transaction.getNote().trim().isEmpty()) {
+            if (transaction.getNote() != null) {
                 noteTextView.setText(transaction.getNote());
                 noteTextView.setVisibility(View.VISIBLE);
             } else {
@@ -131,7 +213,7 @@ public class TransactionsAdapter extends RecyclerView.Adapter<TransactionsAdapte
      * Interfaces para callbacks
      */
     public interface OnTransactionEditListener {
-        void onTransactionEdit(Transaction transaction);
+        void onTransactionEdit(TransactionRowModel transaction);
     }
 
     public interface OnTransactionDeleteListener {
@@ -0,0 +1,249 @@
+package br.com.tecpontes.appfinanceiro.utils;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import dagger.hilt.android.qualifiers.ApplicationContext;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Armazena histogramas de duração de frame por tela e estado da UI (ex.: "TransactionsActivity|scrolling").
+ *
+ * Cada histograma usa buckets de 1ms até 250ms (mais um bucket de estouro), o que permite calcular
+ * percentis sem guardar os frames individuais. Os histogramas são persistidos em SharedPreferences.
+ *
+ * Frames cujas métricas o sistema descartou (listener atrasado) não têm duração: entram no total
+ * e na contagem de jank, mas não nos percentis.
+ */
+@Singleton
+public class FrameMetricsStore {
+
+    private static final String TAG = "FrameMetricsStore";
+
+    private static final String PREF_NAME = "frame_metrics";
+    private static final String KEY_PREFIX_HISTOGRAM = "h:";
+    private static final String KEY_PREFIX_JANK = "j:";
+    private static final String KEY_PREFIX_DROPPED = "d:";
+
+    // Buckets de 1ms; o último acumula frames com 250ms ou mais
+    private static final int BUCKET_COUNT = 251;
+
+    private final SharedPreferences preferences;
+    private final Map<String, Histogram> histograms = new HashMap<>();
+    private boolean loaded = false;
+    private boolean dirty = false;
+
+    @Inject
+    public FrameMetricsStore(@ApplicationContext Context context) {
+        this.preferences = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+    }
+
+    /**
+     * Registra um frame
+     *
+     * @param durationNanos duração total do frame
+     * @param janky         se o frame excedeu o orçamento de tempo do display
+     */
+    public synchronized void record(@NonNull String screen, @NonNull String state, long durationNanos, boolean janky) {
+        Histogram histogram = histogram(screen, state);
+
+        int bucket = (int) Math.min(BUCKET_COUNT - 1, durationNanos / 1_000_000L);
+        histogram.buckets[bucket]++;
+        if (janky) {
+            histogram.jankyFrames++;
+        }
+        dirty = true;
+    }
+
+    /**
+     * Registra frames cujas métricas foram descartadas (dropCountSinceLastInvocation); contados como jank
+     */
+    public synchronized void recordDropped(@NonNull String screen, @NonNull String state, int count) {
+        Histogram histogram = histogram(screen, state);
+        histogram.droppedFrames += count;
+        histogram.jankyFrames += count;
+        dirty = true;
+    }
+
+    /**
+     * Persiste os histogramas alterados (chamar fora da thread principal ou ao pausar a tela)
+     */
+    public synchronized void flush() {
+        if (!dirty) {
+            return;
+        }
+
+        SharedPreferences.Editor editor = preferences.edit();
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            editor.putString(KEY_PREFIX_HISTOGRAM + entry.getKey(), encode(entry.getValue().buckets));
+            editor.putLong(KEY_PREFIX_JANK + entry.getKey(), entry.getValue().jankyFrames);
+            editor.putLong(KEY_PREFIX_DROPPED + entry.getKey(), entry.getValue().droppedFrames);
+        }
+        editor.apply();
+        dirty = false;
+        Log.d(TAG, "Métricas de frame salvas: " + histograms.size() + " histogramas");
+    }
+
+    /**
+     * Resumo por tela/estado, ordenado pela chave
+     */
+    @NonNull
+    public synchronized List<Summary> getSummaries() {
+        ensureLoaded();
+
+        List<Summary> summaries = new ArrayList<>();
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(histograms).entrySet()) {
+            Histogram histogram = entry.getValue();
+            long total = histogram.total() + histogram.droppedFrames;
+            if (total == 0) {
+                continue;
+            }
+            summaries.add(new Summary(entry.getKey(), total, histogram.jankyFrames, histogram.droppedFrames,
+                    histogram.percentile(0.50), histogram.percentile(0.90),
+                    histogram.percentile(0.95), histogram.percentile(0.99)));
+        }
+        return summaries;
+    }
+
+    /**
+     * Remove todas as métricas
+     */
+    public synchronized void clear() {
+        histograms.clear();
+        dirty = false;
+        preferences.edit().clear().apply();
+    }
+
+    @NonNull
+    private Histogram histogram(@NonNull String screen, @NonNull String state) {
+        ensureLoaded();
+
+        String key = screen + "|" + state;
+        Histogram histogram = histograms.get(key);
+        if (histogram == null) {
+            histogram = new Histogram();
+            histograms.put(key, histogram);
+        }
+        return histogram;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+
+        for (Map.Entry<String, ?> entry : preferences.getAll().entrySet()) {
+            if (!entry.getKey().startsWith(KEY_PREFIX_HISTOGRAM) || !(entry.getValue() instanceof String)) {
+                continue;
+            }
+            String key = entry.getKey().substring(KEY_PREFIX_HISTOGRAM.length());
+            Histogram histogram = new Histogram();
+            decode((String) entry.getValue(), histogram.buckets);
+            histogram.jankyFrames = preferences.getLong(KEY_PREFIX_JANK + key, 0);
+            histogram.droppedFrames = preferences.getLong(KEY_PREFIX_DROPPED + key, 0);
+            histograms.put(key, histogram);
+        }
+    }
+
+    // Formato compacto: apenas buckets não vazios como "bucket:contagem" separados por vírgula
+    @NonNull
+    private static String encode(@NonNull long[] buckets) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < buckets.length; i++) {
+            if (buckets[i] == 0) {
+                continue;
+            }
+            if (builder.length() > 0) {
+                builder.append(',');
+            }
+            builder.append(i).append(':').append(buckets[i]);
+        }
+        return builder.toString();
+    }
+
+    private static void decode(@NonNull String value, @NonNull long[] buckets) {
+        if (value.isEmpty()) {
+            return;
+        }
+        try {
+            for (String pair : value.split(",")) {
+                int separator = pair.indexOf(':');
+                int bucket = Integer.parseInt(pair.substring(0, separator));
+                if (bucket >= 0 && bucket < buckets.length) {
+                    buckets[bucket] = Long.parseLong(pair.substring(separator + 1));
+                }
+            }
+        } catch (RuntimeException e) {
+            Log.w(TAG, "Histograma inválido descartado: " + e.getMessage());
+        }
+    }
+
+    private static final class Histogram {
+
+        final long[] buckets = new long[BUCKET_COUNT];
+        long jankyFrames;
+        long droppedFrames;
+
+        long total() {
+            long total = 0;
+            for (long count : buckets) {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * Limite superior (ms) do bucket que contém o percentil
+         */
+        int percentile(double fraction) {
+            long target = (long) Math.ceil(total() * fraction);
+            long accumulated = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                accumulated += buckets[i];
+                if (accumulated >= target) {
+                    return i + 1;
+                }
+            }
+            return BUCKET_COUNT;
+        }
+    }
+
+    /**
+     * Percentis de duração de frame (ms) de uma tela/estado
+     */
+    public static final class Summary {
+
+        public final String key;
+        public final long frames;
+        public final long jankyFrames;
+        // Frames sem métricas (incluídos em frames e jankyFrames, fora dos percentis)
+        public final long droppedFrames;
+        public final int p50;
+        public final int p90;
+        public final int p95;
+        public final int p99;
+
+        Summary(String key, long frames, long jankyFrames, long droppedFrames, int p50, int p90, int p95, int p99) {
+            this.key = key;
+            this.frames = frames;
+            this.jankyFrames = jankyFrames;
+            this.droppedFrames = droppedFrames;
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p95 = p95;
+            this.p99 = p99;
+        }
+
+        public double getJankPercent() {
+            return frames == 0 ? 0 : jankyFrames * 100.0 / frames;
+        }
+    }
+}
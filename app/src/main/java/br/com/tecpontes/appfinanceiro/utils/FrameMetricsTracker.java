@@ -0,0 +1,161 @@
+package br.com.tecpontes.appfinanceiro.utils;
+
+import android.app.Activity;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.util.Log;
+import android.view.Display;
+import android.view.FrameMetrics;
+import android.view.Window;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.TreeSet;
+
+/**
+ * Coleta a duração de cada frame de uma Activity (Window.OnFrameMetricsAvailableListener)
+ * e registra no FrameMetricsStore com o estado atual da UI.
+ *
+ * O estado é a combinação das tags ativas (ex.: "scrolling+syncing") ou "idle". As métricas chegam
+ * atrasadas na thread de métricas, então cada frame recebe o estado vigente no seu INTENDED_VSYNC_TIMESTAMP,
+ * a partir das transições registradas por setTag (não o estado do momento da entrega).
+ * Uso: start() em onResume, stop() em onPause.
+ */
+public class FrameMetricsTracker {
+
+    private static final String TAG = "FrameMetricsTracker";
+
+    public static final String STATE_IDLE = "idle";
+    public static final String STATE_SCROLLING = "scrolling";
+    public static final String STATE_SYNCING = "syncing";
+    public static final String STATE_IMPORTING = "importing";
+    public static final String STATE_REFRESHING = "refreshing";
+
+    // Thread compartilhada para receber as métricas fora da thread principal
+    private static HandlerThread metricsThread;
+
+    private final Activity activity;
+    private final String screen;
+    private final FrameMetricsStore store;
+
+    private final TreeSet<String> activeTags = new TreeSet<>();
+
+    // Transições de estado em ordem (System.nanoTime, mesma base do INTENDED_VSYNC_TIMESTAMP);
+    // a primeira é a vigente no último frame entregue. Protegida por si mesma.
+    private final ArrayDeque<StateChange> stateChanges = new ArrayDeque<>();
+    private volatile long frameBudgetNanos = 16_666_667L;
+
+    @Nullable
+    private Window.OnFrameMetricsAvailableListener listener;
+
+    public FrameMetricsTracker(@NonNull Activity activity, @NonNull FrameMetricsStore store) {
+        this.activity = activity;
+        this.screen = activity.getClass().getSimpleName();
+        this.store = store;
+        stateChanges.add(new StateChange(Long.MIN_VALUE, STATE_IDLE));
+    }
+
+    /**
+     * Ativa ou desativa uma tag de estado (chamar na thread principal)
+     */
+    public void setTag(@NonNull String tag, boolean active) {
+        boolean changed = active ? activeTags.add(tag) : activeTags.remove(tag);
+        if (changed) {
+            String state = activeTags.isEmpty() ? STATE_IDLE : String.join("+", activeTags);
+            synchronized (stateChanges) {
+                stateChanges.addLast(new StateChange(System.nanoTime(), state));
+            }
+        }
+    }
+
+    /**
+     * Começa a coletar os frames da janela da Activity
+     */
+    public void start() {
+        if (listener != null) {
+            return;
+        }
+
+        Display display = activity.getDisplay();
+        if (display != null && display.getRefreshRate() > 0) {
+            frameBudgetNanos = (long) (1_000_000_000L / display.getRefreshRate());
+        }
+
+        // Transições acumuladas enquanto a coleta estava parada: vale só a última
+        synchronized (stateChanges) {
+            while (stateChanges.size() > 1) {
+                stateChanges.removeFirst();
+            }
+        }
+
+        listener = (window, frameMetrics, dropCountSinceLastInvocation) -> {
+            if (frameMetrics.getMetric(FrameMetrics.FIRST_DRAW_FRAME) == 1) {
+                return; // o primeiro frame inclui inflação de layout e é medido pela inicialização
+            }
+            String state = stateAt(frameMetrics.getMetric(FrameMetrics.INTENDED_VSYNC_TIMESTAMP));
+            if (dropCountSinceLastInvocation > 0) {
+                Log.w(TAG, dropCountSinceLastInvocation + " frames sem métricas em " + screen + " (" + state + ")");
+                store.recordDropped(screen, state, dropCountSinceLastInvocation);
+            }
+            long duration = frameMetrics.getMetric(FrameMetrics.TOTAL_DURATION);
+            store.record(screen, state, duration, duration > frameBudgetNanos);
+        };
+        activity.getWindow().addOnFrameMetricsAvailableListener(listener, getMetricsHandler());
+        Log.d(TAG, "Coletando métricas de frame: " + screen);
+    }
+
+    /**
+     * Para a coleta e persiste os histogramas
+     */
+    public void stop() {
+        if (listener == null) {
+            return;
+        }
+
+        try {
+            activity.getWindow().removeOnFrameMetricsAvailableListener(listener);
+        } catch (IllegalArgumentException e) {
+            Log.w(TAG, "Listener de métricas já removido");
+        }
+        listener = null;
+        getMetricsHandler().post(store::flush);
+    }
+
+    /**
+     * Estado vigente no vsync do frame; descarta as transições anteriores a ele
+     * (os frames são entregues em ordem)
+     */
+    @NonNull
+    private String stateAt(long vsyncNanos) {
+        synchronized (stateChanges) {
+            while (stateChanges.size() > 1) {
+                StateChange current = stateChanges.removeFirst();
+                if (stateChanges.getFirst().timestamp > vsyncNanos) {
+                    stateChanges.addFirst(current);
+                    break;
+                }
+            }
+            return stateChanges.getFirst().state;
+        }
+    }
+
+    @NonNull
+    private static synchronized Handler getMetricsHandler() {
+        if (metricsThread == null) {
+            metricsThread = new HandlerThread("FrameMetrics");
+            metricsThread.start();
+        }
+        return new Handler(metricsThread.getLooper());
+    }
+
+    private static final class StateChange {
+
+        final long timestamp;
+        final String state;
+
+        StateChange(long timestamp, String state) {
+            this.timestamp = timestamp;
+            this.state = state;
+        }
+    }
+}
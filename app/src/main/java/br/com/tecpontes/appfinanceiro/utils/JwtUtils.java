@@ -0,0 +1,42 @@
+package br.com.tecpontes.appfinanceiro.utils;
+
+import android.util.Base64;
+import android.util.Log;
+import androidx.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Leitura das claims de um JWT (sem validar a assinatura, que é papel do servidor)
+ */
+public final class JwtUtils {
+
+    private static final String TAG = "JwtUtils";
+
+    private JwtUtils() {
+    }
+
+    /**
+     * Claim exp (segundos desde a época), ou -1 se ausente ou ilegível
+     */
+    public static long getExpiresAtSeconds(@Nullable String token) {
+        if (token == null) {
+            return -1;
+        }
+
+        String[] parts = token.split("\\.");
+        if (parts.length < 2) {
+            return -1;
+        }
+
+        try {
+            byte[] payload = Base64.decode(parts[1], Base64.URL_SAFE | Base64.NO_WRAP | Base64.NO_PADDING);
+            JSONObject claims = new JSONObject(new String(payload, StandardCharsets.UTF_8));
+            return claims.optLong("exp", -1);
+        } catch (IllegalArgumentException | JSONException e) {
+            Log.w(TAG, "Não foi possível ler a claim exp do token", e);
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.tecpontes.appfinanceiro.utils;
+
+import android.app.Activity;
+import android.os.Build;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+import android.view.View;
+import android.view.ViewTreeObserver;
+import androidx.annotation.NonNull;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Mede o tempo de inicialização a frio: do início do processo até o primeiro frame
+ * e até o primeiro conteúdo relevante (reportFullyDrawn) da Activity de entrada.
+ */
+public final class StartupTimer {
+
+    private static final String TAG = "StartupTimer";
+
+    private static final AtomicBoolean firstFrameRecorded = new AtomicBoolean(false);
+    private static final AtomicBoolean fullyDrawnRecorded = new AtomicBoolean(false);
+
+    private static volatile long firstFrameMs = -1;
+    private static volatile long fullyDrawnMs = -1;
+
+    private StartupTimer() {
+    }
+
+    /**
+     * Registra o tempo até o primeiro frame desenhado da Activity (apenas uma vez por processo)
+     */
+    public static void trackFirstFrame(@NonNull Activity activity) {
+        if (firstFrameRecorded.get()) {
+            return;
+        }
+
+        View decorView = activity.getWindow().getDecorView();
+        decorView.getViewTreeObserver().addOnDrawListener(new ViewTreeObserver.OnDrawListener() {
+            @Override
+            public void onDraw() {
+                // O listener não pode ser removido durante o dispatch
+                decorView.post(() -> decorView.getViewTreeObserver().removeOnDrawListener(this));
+
+                if (firstFrameRecorded.compareAndSet(false, true)) {
+                    firstFrameMs = elapsedSinceProcessStart();
+                    Log.i(TAG, "Primeiro frame em " + firstFrameMs + "ms desde o início do processo");
+                }
+            }
+        });
+    }
+
+    /**
+     * Registra que a Activity exibe conteúdo relevante (dados em cache ou do banco)
+     */
+    public static void reportFullyDrawn(@NonNull Activity activity) {
+        if (!fullyDrawnRecorded.compareAndSet(false, true)) {
+            return;
+        }
+
+        fullyDrawnMs = elapsedSinceProcessStart();
+        activity.reportFullyDrawn();
+        Log.i(TAG, "Conteúdo exibido em " + fullyDrawnMs + "ms desde o início do processo");
+    }
+
+    /**
+     * Tempo até o primeiro frame, ou -1 se ainda não medido
+     */
+    public static long getFirstFrameMs() {
+        return firstFrameMs;
+    }
+
+    /**
+     * Tempo até o conteúdo relevante, ou -1 se ainda não medido
+     */
+    public static long getFullyDrawnMs() {
+        return fullyDrawnMs;
+    }
+
+    private static long elapsedSinceProcessStart() {
+        long processStart = Build.VERSION.SDK_INT >= Build.VERSION_CODES.TIRAMISU
+                ? Process.getStartRequestedElapsedRealtime()
+                : Process.getStartElapsedRealtime();
+        return SystemClock.elapsedRealtime() - processStart;
+    }
+}
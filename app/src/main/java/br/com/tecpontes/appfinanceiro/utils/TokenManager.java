@@ -2,38 +2,115 @@ package br.com.tecpontes.appfinanceiro.utils;
 
 import android.content.Context;
 import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.security.crypto.EncryptedSharedPreferences;
+import androidx.security.crypto.MasterKey;
 import dagger.hilt.android.qualifiers.ApplicationContext;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 /**
- * Gerencia o armazenamento e recuperação do token JWT
- * TODO: Substituir por EncryptedSharedPreferences em produção
+ * Gerencia o armazenamento e recuperação do token JWT.
+ *
+ * As credenciais ficam em um snapshot imutável em memória (campo volatile), lido sem I/O
+ * a cada requisição; a persistência usa EncryptedSharedPreferences e é feita em background.
+ * O arquivo criptografado (MasterKey/Keystore) é aberto e lido no executor logo na criação;
+ * quem consultar as credenciais antes disso aguarda o fim da leitura. A main thread não deve
+ * aguardar: usa isLoadedNow() ou whenLoaded() antes de consultar.
+ * Interessados (camada de rede, telas) são avisados via OnCredentialsChangedListener.
  */
 @Singleton
 public class TokenManager {
 
-    private static final String PREF_NAME = "app_financeiro_prefs";
+    private static final String TAG = "TokenManager";
+
+    private static final String PREF_NAME = "app_financeiro_secure_prefs";
+    // Usado apenas se o Keystore falhar: nunca o mesmo arquivo do armazenamento criptografado
+    private static final String FALLBACK_PREF_NAME = "app_financeiro_fallback_prefs";
+    // Arquivo antigo, sem criptografia (migrado na primeira execução)
+    private static final String LEGACY_PREF_NAME = "app_financeiro_prefs";
     private static final String KEY_TOKEN = "jwt_token";
+    private static final String KEY_REFRESH_TOKEN = "refresh_token";
     private static final String KEY_USER_EMAIL = "user_email";
 
-    private final SharedPreferences preferences;
+    /**
+     * Aviso de alteração das credenciais (login, renovação ou logout).
+     * Chamado na thread que fez a alteração, que pode ser uma thread de rede.
+     */
+    public interface OnCredentialsChangedListener {
+        void onCredentialsChanged(@Nullable String token);
+    }
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final CopyOnWriteArrayList<OnCredentialsChangedListener> listeners = new CopyOnWriteArrayList<>();
+    private final CountDownLatch loaded = new CountDownLatch(1);
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    // Aguardando a leitura inicial; protegida por si mesma
+    private final List<Runnable> loadedCallbacks = new ArrayList<>();
+
+    // Acessado apenas no executor
+    private SharedPreferences preferences;
+
+    private volatile Credentials credentials = Credentials.EMPTY;
 
     @Inject
     public TokenManager(@ApplicationContext Context context) {
-        this.preferences = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+        executor.execute(() -> {
+            try {
+                preferences = openPreferences(context);
+                credentials = loadCredentials(context);
+            } finally {
+                loaded.countDown();
+                dispatchLoaded();
+            }
+        });
+    }
+
+    /**
+     * Indica, sem bloquear, se a leitura inicial das credenciais já terminou
+     */
+    public boolean isLoadedNow() {
+        return loaded.getCount() == 0;
+    }
+
+    /**
+     * Executa callback na main thread quando a leitura inicial terminar (na hora, se já terminou
+     * e a chamada veio da main thread); a partir daí as consultas não bloqueiam
+     */
+    public void whenLoaded(@NonNull Runnable callback) {
+        synchronized (loadedCallbacks) {
+            if (!isLoadedNow()) {
+                loadedCallbacks.add(callback);
+                return;
+            }
+        }
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            callback.run();
+        } else {
+            mainHandler.post(callback);
+        }
     }
 
     /**
      * Salva o token JWT
      */
-    public void saveToken(@NonNull String token) {
-        preferences.edit()
-                .putString(KEY_TOKEN, token)
-                .apply();
-        android.util.Log.d("TokenManager", "Token salvo com sucesso");
+    public synchronized void saveToken(@NonNull String token) {
+        Credentials current = current();
+        update(new Credentials(token, current.refreshToken, current.userEmail));
+        persist(editor -> editor.putString(KEY_TOKEN, token));
+        Log.d(TAG, "Token salvo com sucesso");
     }
 
     /**
@@ -41,17 +118,49 @@ public class TokenManager {
      */
     @Nullable
     public String getToken() {
-        return preferences.getString(KEY_TOKEN, null);
+        return current().token;
+    }
+
+    /**
+     * Claim exp do token atual (segundos desde a época), ou -1 se desconhecida
+     */
+    public long getTokenExpiresAtSeconds() {
+        return current().expiresAtSeconds;
+    }
+
+    /**
+     * Verifica se o token atual expira nos próximos marginSeconds
+     */
+    public boolean isTokenExpiringWithin(long marginSeconds) {
+        long expiresAt = current().expiresAtSeconds;
+        return expiresAt >= 0 && expiresAt - System.currentTimeMillis() / 1000L <= marginSeconds;
+    }
+
+    /**
+     * Salva o refresh token (ou remove, se o servidor não enviou um)
+     */
+    public synchronized void saveRefreshToken(@Nullable String refreshToken) {
+        Credentials current = current();
+        update(new Credentials(current.token, refreshToken, current.userEmail));
+        persist(editor -> editor.putString(KEY_REFRESH_TOKEN, refreshToken));
+    }
+
+    /**
+     * Recupera o refresh token
+     */
+    @Nullable
+    public String getRefreshToken() {
+        return current().refreshToken;
     }
 
     /**
      * Salva o email do usuário
      */
-    public void saveUserEmail(@NonNull String email) {
-        preferences.edit()
-                .putString(KEY_USER_EMAIL, email)
-                .apply();
-        android.util.Log.d("TokenManager", "Email do usuário salvo: " + email);
+    public synchronized void saveUserEmail(@NonNull String email) {
+        Credentials current = current();
+        update(new Credentials(current.token, current.refreshToken, email));
+        persist(editor -> editor.putString(KEY_USER_EMAIL, email));
+        Log.d(TAG, "Email do usuário salvo: " + email);
     }
 
     /**
@@ -59,35 +168,194 @@ public class TokenManager {
      */
     @Nullable
     public String getUserEmail() {
-        return preferences.getString(KEY_USER_EMAIL, null);
+        return current().userEmail;
     }
 
     /**
      * Verifica se o usuário está logado
      */
     public boolean isLoggedIn() {
-        return getToken() != null && !getToken().isEmpty();
+        String token = current().token;
+        return token != null && !token.isEmpty();
     }
 
     /**
      * Remove o token e dados do usuário (logout)
      */
-    public void clearToken() {
-        preferences.edit()
+    public synchronized void clearToken() {
+        awaitLoaded();
+        update(Credentials.EMPTY);
+        persist(editor -> editor
                 .remove(KEY_TOKEN)
-                .remove(KEY_USER_EMAIL)
-                .apply();
-        android.util.Log.d("TokenManager", "Token e dados do usuário removidos");
+                .remove(KEY_REFRESH_TOKEN)
+                .remove(KEY_USER_EMAIL));
+        Log.d(TAG, "Token e dados do usuário removidos");
+    }
+
+    public void addListener(@NonNull OnCredentialsChangedListener listener) {
+        listeners.addIfAbsent(listener);
+    }
+
+    public void removeListener(@NonNull OnCredentialsChangedListener listener) {
+        listeners.remove(listener);
     }
 
     /**
      * Obtém informações do usuário para debug
      */
     public String getDebugInfo() {
+        Credentials current = current();
         return "TokenManager{" +
-                "hasToken=" + (getToken() != null) +
-                ", tokenLength=" + (getToken() != null ? getToken().length() : 0) +
-                ", userEmail=" + getUserEmail() +
+                "hasToken=" + (current.token != null) +
+                ", tokenLength=" + (current.token != null ? current.token.length() : 0) +
+                ", expiresAt=" + current.expiresAtSeconds +
+                ", hasRefreshToken=" + (current.refreshToken != null) +
+                ", userEmail=" + current.userEmail +
                 '}';
     }
+
+    /**
+     * Snapshot atual, aguardando a leitura inicial do armazenamento se ainda não terminou
+     */
+    @NonNull
+    private Credentials current() {
+        awaitLoaded();
+        return credentials;
+    }
+
+    private void awaitLoaded() {
+        if (loaded.getCount() == 0) {
+            return;
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                loaded.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatchLoaded() {
+        List<Runnable> callbacks;
+        synchronized (loadedCallbacks) {
+            callbacks = new ArrayList<>(loadedCallbacks);
+            loadedCallbacks.clear();
+        }
+        for (Runnable callback : callbacks) {
+            mainHandler.post(callback);
+        }
+    }
+
+    /**
+     * Troca o snapshot e avisa os listeners se o token mudou
+     */
+    private void update(@NonNull Credentials updated) {
+        Credentials previous = credentials;
+        credentials = updated;
+
+        boolean tokenChanged = previous.token == null
+                ? updated.token != null
+                : !previous.token.equals(updated.token);
+        if (tokenChanged) {
+            for (OnCredentialsChangedListener listener : listeners) {
+                listener.onCredentialsChanged(updated.token);
+            }
+        }
+    }
+
+    private interface Edit {
+        void apply(SharedPreferences.Editor editor);
+    }
+
+    /**
+     * Grava em background, na ordem das alterações (a criptografia não roda na thread chamadora)
+     */
+    private void persist(@NonNull Edit edit) {
+        executor.execute(() -> {
+            SharedPreferences.Editor editor = preferences.edit();
+            edit.apply(editor);
+            if (!editor.commit()) {
+                Log.w(TAG, "Falha ao persistir credenciais");
+            }
+        });
+    }
+
+    @NonNull
+    private static SharedPreferences openPreferences(@NonNull Context context) {
+        try {
+            MasterKey masterKey = new MasterKey.Builder(context)
+                    .setKeyScheme(MasterKey.KeyScheme.AES256_GCM)
+                    .build();
+            return EncryptedSharedPreferences.create(
+                    context,
+                    PREF_NAME,
+                    masterKey,
+                    EncryptedSharedPreferences.PrefKeyEncryptionScheme.AES256_SIV,
+                    EncryptedSharedPreferences.PrefValueEncryptionScheme.AES256_GCM
+            );
+        } catch (GeneralSecurityException | IOException e) {
+            // Keystore indisponível/corrompido: mantém o app utilizável sem criptografia
+            Log.e(TAG, "Falha ao abrir EncryptedSharedPreferences — usando armazenamento padrão", e);
+            return context.getSharedPreferences(FALLBACK_PREF_NAME, Context.MODE_PRIVATE);
+        }
+    }
+
+    /**
+     * Lê as credenciais uma única vez (no executor); se só existirem no arquivo antigo, migra
+     */
+    @NonNull
+    private Credentials loadCredentials(@NonNull Context context) {
+        String token = preferences.getString(KEY_TOKEN, null);
+        if (token != null) {
+            return new Credentials(token,
+                    preferences.getString(KEY_REFRESH_TOKEN, null),
+                    preferences.getString(KEY_USER_EMAIL, null));
+        }
+
+        SharedPreferences legacy = context.getSharedPreferences(LEGACY_PREF_NAME, Context.MODE_PRIVATE);
+        String legacyToken = legacy.getString(KEY_TOKEN, null);
+        if (legacyToken == null) {
+            return Credentials.EMPTY;
+        }
+
+        Credentials migrated = new Credentials(legacyToken,
+                legacy.getString(KEY_REFRESH_TOKEN, null),
+                legacy.getString(KEY_USER_EMAIL, null));
+        persist(editor -> editor
+                .putString(KEY_TOKEN, migrated.token)
+                .putString(KEY_REFRESH_TOKEN, migrated.refreshToken)
+                .putString(KEY_USER_EMAIL, migrated.userEmail));
+        executor.execute(() -> legacy.edit().clear().commit());
+        Log.d(TAG, "Credenciais migradas para armazenamento criptografado");
+        return migrated;
+    }
+
+    /**
+     * Snapshot imutável das credenciais, com a claim exp já extraída
+     */
+    private static final class Credentials {
+
+        static final Credentials EMPTY = new Credentials(null, null, null);
+
+        @Nullable
+        final String token;
+        @Nullable
+        final String refreshToken;
+        @Nullable
+        final String userEmail;
+        final long expiresAtSeconds;
+
+        Credentials(@Nullable String token, @Nullable String refreshToken, @Nullable String userEmail) {
+            this.token = token;
+            this.refreshToken = refreshToken;
+            this.userEmail = userEmail;
+            this.expiresAtSeconds = JwtUtils.getExpiresAtSeconds(token);
+        }
+    }
 }
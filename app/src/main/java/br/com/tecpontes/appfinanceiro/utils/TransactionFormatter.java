@@ -0,0 +1,52 @@
+package br.com.tecpontes.appfinanceiro.utils;
+
+import androidx.annotation.NonNull;
+import java.text.NumberFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Formatadores de valor e data das transações, seguros para uso em qualquer thread.
+ *
+ * NumberFormat não é thread-safe, então cada thread mantém sua instância;
+ * DateTimeFormatter é imutável e compartilhado.
+ */
+public final class TransactionFormatter {
+
+    private static final Locale LOCALE_PT_BR = new Locale("pt", "BR");
+
+    private static final ThreadLocal<NumberFormat> CURRENCY_FORMAT =
+            ThreadLocal.withInitial(() -> NumberFormat.getCurrencyInstance(LOCALE_PT_BR));
+
+    private static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("dd/MM/yyyy", LOCALE_PT_BR);
+
+    private TransactionFormatter() {
+    }
+
+    /**
+     * Formata o valor em reais (ex.: "R$ 1.234,56")
+     */
+    @NonNull
+    public static String formatCurrency(double amount) {
+        return CURRENCY_FORMAT.get().format(amount);
+    }
+
+    /**
+     * Formata o valor com o sinal do tipo da transação ("+" receita, "-" despesa)
+     */
+    @NonNull
+    public static String formatSignedAmount(double amount, boolean income) {
+        return (income ? "+" : "-") + formatCurrency(amount);
+    }
+
+    /**
+     * Formata a data (timestamp em milissegundos) no fuso do dispositivo
+     */
+    @NonNull
+    public static String formatDate(long timestamp) {
+        return DATE_FORMAT.format(Instant.ofEpochMilli(timestamp).atZone(ZoneId.systemDefault()));
+    }
+}
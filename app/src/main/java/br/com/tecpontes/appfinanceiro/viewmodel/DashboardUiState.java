@@ -0,0 +1,116 @@
+package br.com.tecpontes.appfinanceiro.viewmodel;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import br.com.tecpontes.appfinanceiro.model.DashboardDto;
+import br.com.tecpontes.appfinanceiro.ui.transactions.TransactionRowModel;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Estado imutável e completo da tela do dashboard, emitido de uma só vez pelo DashboardViewModel
+ */
+public final class DashboardUiState {
+
+    private final boolean loading;
+
+    @Nullable
+    private final String error;
+
+    private final double totalBalance;
+
+    private final int accountsCount;
+
+    @NonNull
+    private final List<TransactionRowModel> recentTransactions;
+
+    @Nullable
+    private final DashboardDto dashboardData;
+
+    // Horário em que os dados do dashboard foram obtidos da API (0 = nunca)
+    private final long lastUpdated;
+
+    public DashboardUiState(boolean loading, @Nullable String error, double totalBalance, int accountsCount,
+                            @NonNull List<TransactionRowModel> recentTransactions,
+                            @Nullable DashboardDto dashboardData, long lastUpdated) {
+        this.loading = loading;
+        this.error = error;
+        this.totalBalance = totalBalance;
+        this.accountsCount = accountsCount;
+        this.recentTransactions = Collections.unmodifiableList(recentTransactions);
+        this.dashboardData = dashboardData;
+        this.lastUpdated = lastUpdated;
+    }
+
+    public boolean isLoading() {
+        return loading;
+    }
+
+    @Nullable
+    public String getError() {
+        return error;
+    }
+
+    public double getTotalBalance() {
+        return totalBalance;
+    }
+
+    public int getAccountsCount() {
+        return accountsCount;
+    }
+
+    @NonNull
+    public List<TransactionRowModel> getRecentTransactions() {
+        return recentTransactions;
+    }
+
+    @Nullable
+    public DashboardDto getDashboardData() {
+        return dashboardData;
+    }
+
+    public long getLastUpdated() {
+        return lastUpdated;
+    }
+
+    /**
+     * Indica se há conteúdo (em cache ou do banco) para exibir sem bloquear a tela
+     */
+    public boolean hasContent() {
+        return lastUpdated > 0 || accountsCount > 0 || !recentTransactions.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DashboardUiState)) return false;
+        DashboardUiState that = (DashboardUiState) o;
+        return loading == that.loading &&
+                Double.compare(that.totalBalance, totalBalance) == 0 &&
+                accountsCount == that.accountsCount &&
+                lastUpdated == that.lastUpdated &&
+                Objects.equals(error, that.error) &&
+                recentTransactions.equals(that.recentTransactions) &&
+                dashboardData == that.dashboardData;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(loading, error, totalBalance, accountsCount, recentTransactions,
+                System.identityHashCode(dashboardData), lastUpdated);
+    }
+
+    @Override
+    public String toString() {
+        return "DashboardUiState{" +
+                "loading=" + loading +
+                ", error='" + error + '\'' +
+                ", totalBalance=" + totalBalance +
+                ", accountsCount=" + accountsCount +
+                ", recentTransactionsCount=" + recentTransactions.size() +
+                ", hasDashboardData=" + (dashboardData != null) +
+                ", lastUpdated=" + lastUpdated +
+                '}';
+    }
+}
@@ -1,60 +1,82 @@
 package br.com.tecpontes.appfinanceiro.viewmodel;
 
 import android.util.Log;
+import android.view.Choreographer;
 import androidx.annotation.NonNull;
 import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
 import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.Transformations;
 import androidx.lifecycle.ViewModel;
+import br.com.tecpontes.appfinanceiro.data.local.DashboardSnapshotStore;
 import br.com.tecpontes.appfinanceiro.data.local.entity.Account;
-import br.com.tecpontes.appfinanceiro.data.local.entity.Transaction;
 import br.com.tecpontes.appfinanceiro.data.repository.AccountRepository;
 import br.com.tecpontes.appfinanceiro.data.repository.DashboardRepository;
+import br.com.tecpontes.appfinanceiro.data.repository.RequestHandle;
 import br.com.tecpontes.appfinanceiro.data.repository.TransactionRepository;
 import br.com.tecpontes.appfinanceiro.model.DashboardDto;
+import br.com.tecpontes.appfinanceiro.ui.transactions.TransactionRowMapper;
+import br.com.tecpontes.appfinanceiro.ui.transactions.TransactionRowModel;
 import dagger.hilt.android.lifecycle.HiltViewModel;
+import java.util.Collections;
 import java.util.List;
 import javax.inject.Inject;
 
 /**
  * ViewModel para tela do dashboard
+ *
+ * As fontes (contas, transações recentes, saldo, dados da API, loading e erro) são combinadas
+ * em um único DashboardUiState, emitido no máximo uma vez por frame e apenas quando muda.
+ * O último snapshot da API é exibido imediatamente e revalidado em background.
  */
 @HiltViewModel
 public class DashboardViewModel extends ViewModel {
 
     private static final String TAG = "DashboardViewModel";
 
+    // Durante sync/escritas em lote o estado é emitido no máximo a cada 250ms (alinhado a frame)
+    private static final long BULK_THROTTLE_MS = 250;
+
     private final DashboardRepository dashboardRepository;
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
 
-    // LiveData para estados da UI
+    // Fontes do estado da UI
     private final MutableLiveData<Boolean> _loading = new MutableLiveData<>(false);
-    public final LiveData<Boolean> loading = _loading;
-
     private final MutableLiveData<String> _error = new MutableLiveData<>();
-    public final LiveData<String> error = _error;
+    private final MutableLiveData<DashboardDto> _dashboardData = new MutableLiveData<>();
+    private final MutableLiveData<Long> _lastUpdated = new MutableLiveData<>(0L);
 
-    private final MutableLiveData<Boolean> _refreshSuccess = new MutableLiveData<>();
-    public final LiveData<Boolean> refreshSuccess = _refreshSuccess;
+    // Dados locais (queries Room ativas apenas enquanto o estado for observado)
+    private final LiveData<List<Account>> accounts;
+    private final LiveData<List<TransactionRowModel>> recentTransactions;
+    private final LiveData<Double> totalBalance;
 
-    // LiveData para dados do dashboard
-    private final MutableLiveData<DashboardDto> _dashboardData = new MutableLiveData<>();
-    public final LiveData<DashboardDto> dashboardData = _dashboardData;
+    // Estado único da tela
+    private final MediatorLiveData<DashboardUiState> _uiState = new MediatorLiveData<>();
+    public final LiveData<DashboardUiState> uiState = _uiState;
 
-    private final MutableLiveData<List<Account>> _accounts = new MutableLiveData<>();
-    public final LiveData<List<Account>> accounts = _accounts;
+    // Evento de sucesso da atualização (one-shot, fora do estado)
+    private final MutableLiveData<Boolean> _refreshSuccess = new MutableLiveData<>();
+    public final LiveData<Boolean> refreshSuccess = _refreshSuccess;
 
-    private final MutableLiveData<List<Transaction>> _recentTransactions = new MutableLiveData<>();
-    public final LiveData<List<Transaction>> recentTransactions = _recentTransactions;
+    // Operações de rede em andamento, canceladas quando a tela é destruída
+    private RequestHandle dashboardHandle;
+    private RequestHandle accountsSyncHandle;
+    private RequestHandle transactionsSyncHandle;
 
-    private final MutableLiveData<Double> _totalBalance = new MutableLiveData<>();
-    public final LiveData<Double> totalBalance = _totalBalance;
+    private boolean emitScheduled = false;
+    private final Choreographer.FrameCallback emitFrameCallback = frameTimeNanos -> {
+        emitScheduled = false;
+        emitState();
+    };
 
     @Inject
     public DashboardViewModel(
             DashboardRepository dashboardRepository,
             AccountRepository accountRepository,
-            TransactionRepository transactionRepository
+            TransactionRepository transactionRepository,
+            TransactionRowMapper rowMapper
     ) {
         this.dashboardRepository = dashboardRepository;
         this.accountRepository = accountRepository;
@@ -62,35 +84,85 @@ public class DashboardViewModel extends ViewModel {
 
         Log.d(TAG, "DashboardViewModel inicializado");
 
-        // Observa dados locais
-        observeLocalData();
+        // Dados locais do banco, observados pela Activity com lifecycle
+        this.accounts = accountRepository.getAllAccounts();
+        this.recentTransactions = rowMapper.map(transactionRepository.getRecentTransactionListItems());
+        this.totalBalance = Transformations.map(accountRepository.getTotalBalance(),
+                balance -> balance != null ? balance : 0.0);
+
+        // Conteúdo em cache disponível já no primeiro estado
+        DashboardSnapshotStore.Snapshot snapshot = dashboardRepository.getCachedDashboard();
+        if (snapshot != null) {
+            _dashboardData.setValue(snapshot.getDashboard());
+            _lastUpdated.setValue(snapshot.getSavedAt());
+            Log.d(TAG, "Snapshot do dashboard carregado de " + snapshot.getSavedAt());
+        }
+
+        // Qualquer fonte alterada agenda uma única emissão no próximo frame
+        _uiState.addSource(accounts, value -> scheduleEmit());
+        _uiState.addSource(recentTransactions, value -> scheduleEmit());
+        _uiState.addSource(totalBalance, value -> scheduleEmit());
+        _uiState.addSource(_dashboardData, value -> scheduleEmit());
+        _uiState.addSource(_lastUpdated, value -> scheduleEmit());
+        _uiState.addSource(_loading, value -> scheduleEmit());
+        _uiState.addSource(_error, value -> scheduleEmit());
     }
 
     /**
-     * Observa dados locais do banco
+     * Agenda a emissão do estado alinhada ao próximo frame, agrupando alterações
+     * que chegam no mesmo intervalo. Chamado na main thread.
      */
-    private void observeLocalData() {
-        // Observa contas
-        accountRepository.getAllAccounts().observeForever(accounts -> {
-            _accounts.setValue(accounts);
-            Log.d(TAG, "Contas atualizadas: " + (accounts != null ? accounts.size() : 0));
-        });
-
-        // Observa transações recentes
-        transactionRepository.getRecentTransactions().observeForever(transactions -> {
-            _recentTransactions.setValue(transactions);
-            Log.d(TAG, "Transações recentes atualizadas: " + (transactions != null ? transactions.size() : 0));
-        });
+    private void scheduleEmit() {
+        if (emitScheduled) {
+            return;
+        }
+        emitScheduled = true;
+
+        if (Boolean.TRUE.equals(_loading.getValue()) && _uiState.getValue() != null) {
+            Choreographer.getInstance().postFrameCallbackDelayed(emitFrameCallback, BULK_THROTTLE_MS);
+        } else {
+            Choreographer.getInstance().postFrameCallback(emitFrameCallback);
+        }
+    }
 
-        // Observa saldo total
-        accountRepository.getTotalBalance().observeForever(balance -> {
-            _totalBalance.setValue(balance != null ? balance : 0.0);
-            Log.d(TAG, "Saldo total atualizado: " + balance);
-        });
+    /**
+     * Monta o estado a partir das fontes e emite apenas se for diferente do atual
+     */
+    private void emitState() {
+        List<Account> accountList = accounts.getValue();
+        List<TransactionRowModel> recent = recentTransactions.getValue();
+        Double balance = totalBalance.getValue();
+        DashboardDto dashboard = _dashboardData.getValue();
+        Long lastUpdated = _lastUpdated.getValue();
+
+        double stateBalance = balance != null ? balance : 0.0;
+        int stateAccountsCount = accountList != null ? accountList.size() : 0;
+
+        // Sem contas locais ainda: usa os totais do snapshot/API
+        if (stateAccountsCount == 0 && dashboard != null) {
+            stateBalance = dashboard.getTotalBalance();
+            stateAccountsCount = dashboard.getAccountsCount();
+        }
+
+        DashboardUiState state = new DashboardUiState(
+                Boolean.TRUE.equals(_loading.getValue()),
+                _error.getValue(),
+                stateBalance,
+                stateAccountsCount,
+                recent != null ? recent : Collections.emptyList(),
+                dashboard,
+                lastUpdated != null ? lastUpdated : 0L
+        );
+
+        if (state.equals(_uiState.getValue())) {
+            return;
+        }
+        _uiState.setValue(state);
+        Log.d(TAG, "Estado emitido: " + state);
     }
 
     /**
-     * Carrega dados do dashboard
+     * Revalida os dados do dashboard na API (o conteúdo em cache continua visível)
      */
     public void loadDashboardData() {
         Log.d(TAG, "Carregando dados do dashboard");
@@ -98,11 +170,14 @@ public class DashboardViewModel extends ViewModel {
         _loading.setValue(true);
         _error.setValue(null);
 
-        dashboardRepository.getDashboardData(new DashboardRepository.DashboardCallback() {
+        // Um novo carregamento substitui o anterior
+        RequestHandle.cancel(dashboardHandle);
+        dashboardHandle = dashboardRepository.getDashboardData(new DashboardRepository.DashboardCallback() {
             @Override
-            public void onSuccess(DashboardDto dashboardData) {
+            public void onSuccess(DashboardDto dashboardData, long fetchedAt) {
                 _loading.postValue(false);
                 _dashboardData.postValue(dashboardData);
+                _lastUpdated.postValue(fetchedAt);
                 Log.d(TAG, "Dados do dashboard carregados com sucesso");
             }
 
@@ -148,7 +223,8 @@ public class DashboardViewModel extends ViewModel {
         _loading.setValue(true);
         _error.setValue(null);
 
-        accountRepository.syncAccounts(new AccountRepository.SyncCallback() {
+        RequestHandle.cancel(accountsSyncHandle);
+        accountsSyncHandle = accountRepository.syncAccounts(new AccountRepository.SyncCallback() {
             @Override
             public void onSuccess(int count) {
                 _loading.postValue(false);
@@ -174,7 +250,8 @@ public class DashboardViewModel extends ViewModel {
         _loading.setValue(true);
         _error.setValue(null);
 
-        transactionRepository.syncTransactions(accountId, new TransactionRepository.SyncCallback() {
+        RequestHandle.cancel(transactionsSyncHandle);
+        transactionsSyncHandle = transactionRepository.syncTransactions(accountId, new TransactionRepository.SyncCallback() {
             @Override
             public void onSuccess(int count) {
                 _loading.postValue(false);
@@ -207,6 +284,15 @@ public class DashboardViewModel extends ViewModel {
         _refreshSuccess.setValue(false);
     }
 
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        Choreographer.getInstance().removeFrameCallback(emitFrameCallback);
+        RequestHandle.cancel(dashboardHandle);
+        RequestHandle.cancel(accountsSyncHandle);
+        RequestHandle.cancel(transactionsSyncHandle);
+    }
+
     /**
      * Obtém informações de debug
      */
@@ -214,9 +300,9 @@ public class DashboardViewModel extends ViewModel {
         return "DashboardViewModel{" +
                 "loading=" + _loading.getValue() +
                 ", hasError=" + (_error.getValue() != null) +
-                ", accountsCount=" + (_accounts.getValue() != null ? _accounts.getValue().size() : 0) +
-                ", transactionsCount=" + (_recentTransactions.getValue() != null ? _recentTransactions.getValue().size() : 0) +
-                ", totalBalance=" + _totalBalance.getValue() +
+                ", accountsCount=" + (accounts.getValue() != null ? accounts.getValue().size() : 0) +
+                ", transactionsCount=" + (recentTransactions.getValue() != null ? recentTransactions.getValue().size() : 0) +
+                ", totalBalance=" + totalBalance.getValue() +
                 '}';
     }
 }
@@ -5,10 +5,15 @@ import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.Transformations;
 import androidx.lifecycle.ViewModel;
 import br.com.tecpontes.appfinanceiro.data.local.entity.Transaction;
+import br.com.tecpontes.appfinanceiro.data.local.model.TransactionListItem;
+import br.com.tecpontes.appfinanceiro.data.repository.RequestHandle;
 import br.com.tecpontes.appfinanceiro.data.repository.TransactionRepository;
 import br.com.tecpontes.appfinanceiro.model.TransactionDto;
+import br.com.tecpontes.appfinanceiro.ui.transactions.TransactionRowMapper;
+import br.com.tecpontes.appfinanceiro.ui.transactions.TransactionSections;
 import dagger.hilt.android.lifecycle.HiltViewModel;
 import java.util.List;
 import javax.inject.Inject;
@@ -30,6 +35,13 @@ public class TransactionsViewModel extends ViewModel {
     private final MutableLiveData<String> _error = new MutableLiveData<>();
     public final LiveData<String> error = _error;
 
+    // Operações em andamento (usadas para marcar as métricas de frame)
+    private final MutableLiveData<Boolean> _syncing = new MutableLiveData<>(false);
+    public final LiveData<Boolean> syncing = _syncing;
+
+    private final MutableLiveData<Boolean> _importing = new MutableLiveData<>(false);
+    public final LiveData<Boolean> importing = _importing;
+
     private final MutableLiveData<Boolean> _syncSuccess = new MutableLiveData<>();
     public final LiveData<Boolean> syncSuccess = _syncSuccess;
 
@@ -39,55 +51,56 @@ public class TransactionsViewModel extends ViewModel {
     private final MutableLiveData<Boolean> _importSuccess = new MutableLiveData<>();
     public final LiveData<Boolean> importSuccess = _importSuccess;
 
-    // LiveData para dados
-    private final MutableLiveData<List<Transaction>> _transactions = new MutableLiveData<>();
-    public final LiveData<List<Transaction>> transactions = _transactions;
+    // LiveData para dados (queries Room ativas apenas enquanto houver observadores da UI)
+    public final LiveData<List<TransactionListItem>> transactions;
 
-    private final MutableLiveData<List<Transaction>> _transactionsByAccount = new MutableLiveData<>();
-    public final LiveData<List<Transaction>> transactionsByAccount = _transactionsByAccount;
+    // Conta selecionada; trocar o valor desfaz a query anterior via switchMap
+    private final MutableLiveData<String> _selectedAccountId = new MutableLiveData<>();
+    public final LiveData<List<TransactionListItem>> transactionsByAccount;
+
+    // Linhas da conta selecionada já formatadas e agrupadas por mês/dia em background
+    public final LiveData<TransactionSections> transactionSectionsByAccount;
 
     private final MutableLiveData<Transaction> _selectedTransaction = new MutableLiveData<>();
     public final LiveData<Transaction> selectedTransaction = _selectedTransaction;
 
-    // Estado atual do filtro
-    private String currentAccountId = null;
+    // Operações de rede em andamento, canceladas quando a tela é destruída
+    private RequestHandle syncHandle;
+    private RequestHandle importHandle;
 
     @Inject
-    public TransactionsViewModel(TransactionRepository transactionRepository) {
+    public TransactionsViewModel(TransactionRepository transactionRepository, TransactionRowMapper rowMapper) {
         this.transactionRepository = transactionRepository;
         Log.d(TAG, "TransactionsViewModel inicializado");
 
-        // Observa todas as transações
-        observeAllTransactions();
-    }
-
-    /**
-     * Observa todas as transações
-     */
-    private void observeAllTransactions() {
-        transactionRepository.getAllTransactions().observeForever(transactions -> {
-            _transactions.setValue(transactions);
-            Log.d(TAG, "Todas as transações atualizadas: " + (transactions != null ? transactions.size() : 0));
+        this.transactions = transactionRepository.getAllTransactionListItems();
+        this.transactionsByAccount = Transformations.switchMap(_selectedAccountId, accountId -> {
+            Log.d(TAG, "Trocando query para conta: " + accountId);
+            return transactionRepository.getTransactionListItemsByAccount(accountId);
         });
+        this.transactionSectionsByAccount = rowMapper.mapSections(transactionsByAccount);
     }
 
     /**
      * Carrega transações por conta
+     *
+     * A query Room da conta permanece ativa e se atualiza sozinha; chamar novamente com a
+     * mesma conta não cria outra query.
      */
     public void loadTransactionsByAccount(@NonNull String accountId) {
-        Log.d(TAG, "Carregando transações para conta: " + accountId);
-        currentAccountId = accountId;
+        if (accountId.equals(_selectedAccountId.getValue())) {
+            return;
+        }
 
-        transactionRepository.getTransactionsByAccount(accountId).observeForever(transactions -> {
-            _transactionsByAccount.setValue(transactions);
-            Log.d(TAG, "Transações da conta atualizadas: " + (transactions != null ? transactions.size() : 0));
-        });
+        Log.d(TAG, "Carregando transações para conta: " + accountId);
+        _selectedAccountId.setValue(accountId);
     }
 
     /**
      * Sincroniza transações da API
      */
     public void syncTransactions() {
+        String currentAccountId = _selectedAccountId.getValue();
         if (currentAccountId == null) {
             Log.w(TAG, "Tentativa de sincronização sem conta selecionada");
             _error.setValue("Selecione uma conta primeiro");
@@ -97,12 +110,16 @@ public class TransactionsViewModel extends ViewModel {
         Log.d(TAG, "Sincronizando transações para conta: " + currentAccountId);
 
         _loading.setValue(true);
+        _syncing.setValue(true);
         _error.setValue(null);
 
-        transactionRepository.syncTransactions(currentAccountId, new TransactionRepository.SyncCallback() {
+        // Um novo sync substitui o anterior
+        RequestHandle.cancel(syncHandle);
+        syncHandle = transactionRepository.syncTransactions(currentAccountId, new TransactionRepository.SyncCallback() {
             @Override
             public void onSuccess(int count) {
                 _loading.postValue(false);
+                _syncing.postValue(false);
                 _syncSuccess.postValue(true);
                 Log.d(TAG, "Transações sincronizadas com sucesso: " + count);
             }
@@ -110,6 +127,7 @@ public class TransactionsViewModel extends ViewModel {
             @Override
             public void onError(String error) {
                 _loading.postValue(false);
+                _syncing.postValue(false);
                 _error.postValue(error);
                 Log.d(TAG, "Erro na sincronização: " + error);
             }
@@ -149,12 +167,15 @@ public class TransactionsViewModel extends ViewModel {
         Log.d(TAG, "Importando arquivo OFX: " + filePath);
 
         _loading.setValue(true);
+        _importing.setValue(true);
         _error.setValue(null);
 
-        transactionRepository.importOfx(fileUri, filePath, new TransactionRepository.ImportCallback() {
+        RequestHandle.cancel(importHandle);
+        importHandle = transactionRepository.importOfx(fileUri, filePath, new TransactionRepository.ImportCallback() {
             @Override
             public void onSuccess(int count) {
                 _loading.postValue(false);
+                _importing.postValue(false);
                 _importSuccess.postValue(true);
                 Log.d(TAG, "OFX importado com sucesso: " + count + " transações");
             }
@@ -162,6 +183,7 @@ public class TransactionsViewModel extends ViewModel {
             @Override
             public void onError(String error) {
                 _loading.postValue(false);
+                _importing.postValue(false);
                 _error.postValue(error);
                 Log.d(TAG, "Erro na importação OFX: " + error);
             }
@@ -181,11 +203,8 @@ public class TransactionsViewModel extends ViewModel {
             @Override
             public void onSuccess() {
                 _loading.postValue(false);
+                // A query Room ativa reflete a remoção automaticamente
                 Log.d(TAG, "Transação removida com sucesso");
-                // Recarrega dados após remoção
-                if (currentAccountId != null) {
-                    loadTransactionsByAccount(currentAccountId);
-                }
             }
 
             @Override
@@ -205,6 +224,27 @@ public class TransactionsViewModel extends ViewModel {
         _selectedTransaction.setValue(transaction);
     }
 
+    /**
+     * Carrega a transação completa e a seleciona para edição
+     */
+    public void loadTransactionForEdit(@NonNull String transactionId) {
+        Log.d(TAG, "Carregando transação para edição: " + transactionId);
+
+        transactionRepository.loadTransaction(transactionId, new TransactionRepository.LoadCallback() {
+            @Override
+            public void onSuccess(Transaction transaction) {
+                _selectedTransaction.postValue(transaction);
+                Log.d(TAG, "Transação carregada para edição: " + transaction.getId());
+            }
+
+            @Override
+            public void onError(String error) {
+                _error.postValue(error);
+                Log.d(TAG, "Erro ao carregar transação: " + error);
+            }
+        });
+    }
+
     /**
      * Limpa seleção de transação
      */
@@ -231,6 +271,15 @@ public class TransactionsViewModel extends ViewModel {
         _importSuccess.setValue(false);
     }
 
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        // Tela encerrada: interrompe downloads e gravações que ninguém vai exibir
+        // (uma importação já aplicada no servidor ainda é gravada localmente)
+        RequestHandle.cancel(syncHandle);
+        RequestHandle.cancel(importHandle);
+    }
+
     /**
      * Obtém informações de debug
      */
@@ -238,9 +287,9 @@ public class TransactionsViewModel extends ViewModel {
         return "TransactionsViewModel{" +
                 "loading=" + _loading.getValue() +
                 ", hasError=" + (_error.getValue() != null) +
-                ", currentAccountId=" + currentAccountId +
-                ", allTransactionsCount=" + (_transactions.getValue() != null ? _transactions.getValue().size() : 0) +
-                ", accountTransactionsCount=" + (_transactionsByAccount.getValue() != null ? _transactionsByAccount.getValue().size() : 0) +
+                ", currentAccountId=" + _selectedAccountId.getValue() +
+                ", allTransactionsCount=" + (transactions.getValue() != null ? transactions.getValue().size() : 0) +
+                ", accountTransactionsCount=" + (transactionsByAccount.getValue() != null ? transactionsByAccount.getValue().size() : 0) +
                 ", selectedTransaction=" + (_selectedTransaction.getValue() != null ? _selectedTransaction.getValue().getId() : "none") +
                 '}';
     }
@@ -249,6 +298,6 @@ public class TransactionsViewModel extends ViewModel {
      * Obtém ID da conta atualmente selecionada
      */
     public String getCurrentAccountId() {
-        return currentAccountId;
+        return _selectedAccountId.getValue();
     }
 }
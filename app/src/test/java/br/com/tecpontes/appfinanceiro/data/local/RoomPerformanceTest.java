@@ -0,0 +1,404 @@
+package br.com.tecpontes.appfinanceiro.data.local;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import android.app.Application;
+import android.content.Context;
+import android.database.Cursor;
+import androidx.arch.core.executor.testing.InstantTaskExecutorRule;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.Observer;
+import androidx.room.Room;
+import androidx.test.core.app.ApplicationProvider;
+import br.com.tecpontes.appfinanceiro.data.local.dao.AccountDao;
+import br.com.tecpontes.appfinanceiro.data.local.dao.TransactionDao;
+import br.com.tecpontes.appfinanceiro.data.local.entity.Account;
+import br.com.tecpontes.appfinanceiro.data.repository.TransactionMapper;
+import br.com.tecpontes.appfinanceiro.model.AccountDto;
+import br.com.tecpontes.appfinanceiro.model.TransactionDto;
+import br.com.tecpontes.appfinanceiro.testing.PerfBudget;
+import br.com.tecpontes.appfinanceiro.testing.SyntheticDataset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.ParameterizedRobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+/**
+ * Vazão de escrita e latência de consultas do AppDatabase real (Room + SQLite do Robolectric)
+ * com 1k/100k/1M transações geradas pelo SyntheticDataset.
+ *
+ * Os tamanhos e limites vêm do PerfBudget (-Pperf.room.sizes, -Pperf.slack, -Pperf.&lt;medida&gt;.maxMs).
+ * Os executores do Room são síncronos, então o custo de reexecutar as consultas observadas
+ * após uma escrita entra no tempo medido da própria escrita.
+ */
+@RunWith(ParameterizedRobolectricTestRunner.class)
+@Config(sdk = 34, application = Application.class)
+public class RoomPerformanceTest {
+
+    // Mesmo lote de gravação do TransactionRepository
+    private static final int WRITE_BATCH_SIZE = 500;
+    private static final int SEED_CHUNK = 10_000;
+    private static final int PAGE_SIZE = 1_000;
+    private static final int CREATE_RUNS = 50;
+    private static final long RANGE_MS = TimeUnit.DAYS.toMillis(30);
+
+    @ParameterizedRobolectricTestRunner.Parameters(name = "{0} transações")
+    public static List<Object[]> sizes() {
+        List<Object[]> sizes = new ArrayList<>();
+        for (int size : PerfBudget.roomSizes()) {
+            sizes.add(new Object[]{size});
+        }
+        return sizes;
+    }
+
+    @Rule
+    public InstantTaskExecutorRule instantTaskExecutorRule = new InstantTaskExecutorRule();
+
+    private final int size;
+
+    private Context context;
+    private String databaseName;
+    private SyntheticDataset dataset;
+    private AppDatabase database;
+    private AccountDao accountDao;
+    private TransactionDao transactionDao;
+    private int runs;
+    private int created;
+
+    public RoomPerformanceTest(int size) {
+        this.size = size;
+    }
+
+    @Before
+    public void setUp() {
+        context = ApplicationProvider.getApplicationContext();
+        databaseName = "perf_" + size + ".db";
+        dataset = SyntheticDataset.builder()
+                .seed(11)
+                .accounts(8)
+                .transactions(size)
+                .build();
+
+        database = Room.databaseBuilder(context, AppDatabase.class, databaseName)
+                .addMigrations(AppDatabase.MIGRATION_1_2, AppDatabase.MIGRATION_2_3, AppDatabase.MIGRATION_3_4)
+                .allowMainThreadQueries()
+                .setQueryExecutor(Runnable::run)
+                .setTransactionExecutor(Runnable::run)
+                .build();
+        accountDao = database.accountDao();
+        transactionDao = database.transactionDao();
+        runs = size >= 1_000_000 ? 3 : 7;
+    }
+
+    @After
+    public void tearDown() {
+        database.close();
+        context.deleteDatabase(databaseName);
+    }
+
+    @Test
+    public void bulkLoadThroughput() {
+        long nanos = seed();
+
+        System.out.println(String.format(Locale.US, "PERF room.bulkLoad rows/s=%.0f",
+                size / (nanos / 1_000_000_000.0)));
+        PerfBudget.check("room.bulkLoad", nanos, 200, 40, size);
+        assertEquals(size, (int) await(transactionDao.getTransactionsCount()));
+    }
+
+    @Test
+    public void syncPageUpsert() {
+        seed();
+
+        // Página do delta sync sobre linhas existentes, com ~5% de exclusões remotas
+        List<TransactionDto> page = new ArrayList<>();
+        int pageSize = Math.min(PAGE_SIZE, size);
+        for (int i = 0; i < pageSize; i++) {
+            TransactionDto dto = dataset.transaction((int) ((long) i * size / pageSize));
+            dto.setDeleted(i % 20 == 0);
+            page.add(dto);
+        }
+
+        long nanos = PerfBudget.median(2, runs, () -> transactionDao.insertAllInBatches(
+                TransactionMapper.toSyncedEntities(page, Collections.emptySet(), System.currentTimeMillis()),
+                WRITE_BATCH_SIZE, () -> false));
+        PerfBudget.check("room.syncPage", nanos, 150, 0.2, size);
+    }
+
+    @Test
+    public void importPageInsert() {
+        seed();
+
+        // Cada execução importa transações novas, como um arquivo OFX
+        List<List<TransactionDto>> pages = new ArrayList<>();
+        for (int run = 0; run < runs + 2; run++) {
+            List<TransactionDto> page = new ArrayList<>(PAGE_SIZE);
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                TransactionDto dto = dataset.transaction(i % size);
+                dto.setId(String.format(Locale.US, "imp-%02d-%05d", run, i));
+                page.add(dto);
+            }
+            pages.add(page);
+        }
+
+        int[] next = {0};
+        long nanos = PerfBudget.median(2, runs, () -> transactionDao.insertAllInBatches(
+                TransactionMapper.toEntities(pages.get(next[0]++)), WRITE_BATCH_SIZE, () -> false));
+        PerfBudget.check("room.importPage", nanos, 150, 0.2, size);
+    }
+
+    @Test
+    public void createLatency() {
+        seed();
+
+        long nanos = PerfBudget.median(5, CREATE_RUNS, this::insertCreated);
+        PerfBudget.check("room.create", nanos, 15, 0.01, size);
+    }
+
+    @Test
+    public void queryLatency() {
+        seed();
+
+        String accountId = dataset.accountId(0);
+        String transactionId = dataset.transaction(size / 2).getId();
+        String category = dataset.transaction(0).getCategory();
+        long end = dataset.dateOf(size - 1);
+        long start = end - RANGE_MS;
+        List<String> someIds = new ArrayList<>();
+        for (int i = 0; i < Math.min(100, size); i++) {
+            someIds.add(dataset.transaction(i).getId());
+        }
+
+        // TransactionDao
+        measure("transactions.getAllTransactions", 10, 8, () -> await(transactionDao.getAllTransactions()));
+        measure("transactions.getTransactionsByAccount", 10, 3,
+                () -> await(transactionDao.getTransactionsByAccount(accountId)));
+        measure("transactions.getTransactionById", 5, 0.01,
+                () -> await(transactionDao.getTransactionById(transactionId)));
+        measure("transactions.getTransactionByIdSync", 5, 0.01,
+                () -> transactionDao.getTransactionByIdSync(transactionId));
+        measure("transactions.getTransactionsByAccountAndDateRange", 10, 0.5,
+                () -> await(transactionDao.getTransactionsByAccountAndDateRange(accountId, start, end)));
+        measure("transactions.getTransactionsByType", 10, 8,
+                () -> await(transactionDao.getTransactionsByType("expense")));
+        measure("transactions.getTransactionsByCategory", 10, 4,
+                () -> await(transactionDao.getTransactionsByCategory(category)));
+        measure("transactions.getTotalIncome", 10, 0.5,
+                () -> await(transactionDao.getTotalIncome(accountId, start, end)));
+        measure("transactions.getTotalExpenses", 10, 0.5,
+                () -> await(transactionDao.getTotalExpenses(accountId, start, end)));
+        measure("transactions.getTransactionsCount", 10, 0.5, () -> await(transactionDao.getTransactionsCount()));
+        measure("transactions.getTransactionsCountByAccount", 10, 0.3,
+                () -> await(transactionDao.getTransactionsCountByAccount(accountId)));
+        measure("transactions.getAllTransactionListItems", 10, 5,
+                () -> await(transactionDao.getAllTransactionListItems()));
+        measure("transactions.getTransactionListItemsByAccount", 10, 2,
+                () -> await(transactionDao.getTransactionListItemsByAccount(accountId)));
+        measure("transactions.getTransactionListItemsByAccountAndDateRange", 10, 0.5,
+                () -> await(transactionDao.getTransactionListItemsByAccountAndDateRange(accountId, start, end)));
+        measure("transactions.getTransactionsNeedingSync", 10, 0.5, () -> transactionDao.getTransactionsNeedingSync(1));
+        measure("transactions.getChangesCursor", 5, 0, () -> transactionDao.getChangesCursor(accountId));
+        measure("transactions.getPendingTombstoneIds", 5, 0.3, () -> transactionDao.getPendingTombstoneIds(accountId));
+        measure("transactions.getDeletedIds", 5, 0.01, () -> transactionDao.getDeletedIds(someIds));
+        measure("transactions.getRecentTransactions", 5, 0.05, () -> await(transactionDao.getRecentTransactions()));
+        measure("transactions.getRecentTransactionListItems", 5, 0.05,
+                () -> await(transactionDao.getRecentTransactionListItems()));
+        measure("transactions.getCategorySummary", 10, 0.5,
+                () -> await(transactionDao.getCategorySummary(accountId, start, end)));
+
+        // AccountDao
+        measure("accounts.getAllAccounts", 5, 0, () -> await(accountDao.getAllAccounts()));
+        measure("accounts.getAccountById", 5, 0, () -> await(accountDao.getAccountById(accountId)));
+        measure("accounts.getAccountsByBalance", 5, 0, () -> await(accountDao.getAccountsByBalance()));
+        measure("accounts.getTotalBalance", 5, 0, () -> await(accountDao.getTotalBalance()));
+        measure("accounts.getAllAccountIds", 5, 0, () -> accountDao.getAllAccountIds());
+        measure("accounts.getAccountsCount", 5, 0, () -> await(accountDao.getAccountsCount()));
+        measure("accounts.getAccountsNeedingSync", 5, 0, () -> accountDao.getAccountsNeedingSync(1));
+    }
+
+    @Test
+    public void invalidationFanOut() {
+        seed();
+
+        long withoutObservers = PerfBudget.median(3, runs, this::insertCreated);
+
+        // Consultas que as telas de dashboard e transações mantêm observadas
+        String accountId = dataset.accountId(0);
+        long end = dataset.dateOf(size - 1);
+        long start = end - RANGE_MS;
+        List<LiveData<?>> observed = new ArrayList<>();
+        observed.add(transactionDao.getAllTransactionListItems());
+        observed.add(transactionDao.getTransactionListItemsByAccount(accountId));
+        observed.add(transactionDao.getRecentTransactionListItems());
+        observed.add(transactionDao.getTransactionsCount());
+        observed.add(transactionDao.getTotalIncome(accountId, start, end));
+        observed.add(transactionDao.getTotalExpenses(accountId, start, end));
+        observed.add(transactionDao.getCategorySummary(accountId, start, end));
+        observed.add(accountDao.getAllAccounts());
+
+        int[] notifications = {0};
+        Observer<Object> observer = value -> notifications[0]++;
+        for (LiveData<?> liveData : observed) {
+            observeForever(liveData, observer);
+        }
+        notifications[0] = 0;
+
+        long withObservers;
+        try {
+            withObservers = PerfBudget.median(3, runs, this::insertCreated);
+        } finally {
+            for (LiveData<?> liveData : observed) {
+                removeObserver(liveData, observer);
+            }
+        }
+
+        System.out.println(String.format(Locale.US,
+                "PERF room.invalidation observers=%d notifications=%d withoutMs=%.3f withMs=%.3f",
+                observed.size(), notifications[0], withoutObservers / 1_000_000.0, withObservers / 1_000_000.0));
+        assertTrue("Nenhum observer notificado", notifications[0] > 0);
+        PerfBudget.check("room.invalidation", withObservers, 30, 12, size);
+    }
+
+    @Test
+    public void hotQueriesUseIndexes() {
+        String accountId = dataset.accountId(0);
+
+        // O SQL verificado é o que o próprio TransactionDao executa, capturado pelo QueryCallback de
+        // uma segunda instância sobre o mesmo arquivo (as medidas dos outros testes não pagam o callback)
+        List<CapturedQuery> captured = new ArrayList<>();
+        AppDatabase capturing = Room.databaseBuilder(context, AppDatabase.class, databaseName)
+                .allowMainThreadQueries()
+                .setQueryExecutor(Runnable::run)
+                .setTransactionExecutor(Runnable::run)
+                .setQueryCallback((sql, bindArgs) -> {
+                    if (sql.contains("FROM transactions")) {
+                        captured.add(new CapturedQuery(sql, bindArgs.toArray()));
+                    }
+                }, Runnable::run)
+                .build();
+        try {
+            // Consultas usadas pelas listas, dashboard e sync
+            TransactionDao dao = capturing.transactionDao();
+            await(dao.getAllTransactionListItems());
+            await(dao.getTransactionListItemsByAccount(accountId));
+            await(dao.getTransactionListItemsByAccountAndDateRange(accountId, 0, 1));
+            await(dao.getRecentTransactionListItems());
+            await(dao.getTotalIncome(accountId, 0, 1));
+            await(dao.getTotalExpenses(accountId, 0, 1));
+            await(dao.getTransactionsCountByAccount(accountId));
+            dao.getPendingTombstoneIds(accountId);
+            dao.getTransactionByIdSync("txn-0000000");
+        } finally {
+            capturing.close();
+        }
+
+        assertTrue("Consultas capturadas: " + captured.size(), captured.size() >= 9);
+        for (CapturedQuery query : captured) {
+            assertIndexed(query.sql, query.args);
+        }
+    }
+
+    /**
+     * Carrega contas e transações em blocos (sem manter o dataset inteiro em memória)
+     * e retorna o tempo total de gravação
+     */
+    private long seed() {
+        List<Account> accounts = new ArrayList<>();
+        for (AccountDto dto : dataset.accounts()) {
+            accounts.add(new Account(dto.getId(), dto.getName(), dto.getBalance(),
+                    dto.getCurrency(), dto.getDescription()));
+        }
+        accountDao.insertAll(accounts);
+
+        long nanos = 0;
+        for (int start = 0; start < size; start += SEED_CHUNK) {
+            int end = Math.min(start + SEED_CHUNK, size);
+            List<TransactionDto> chunk = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                chunk.add(dataset.transaction(i));
+            }
+
+            long chunkStart = System.nanoTime();
+            transactionDao.insertAllInBatches(TransactionMapper.toEntities(chunk), WRITE_BATCH_SIZE, () -> false);
+            nanos += System.nanoTime() - chunkStart;
+        }
+        return nanos;
+    }
+
+    /**
+     * Inserção isolada, como no createTransaction
+     */
+    private void insertCreated() {
+        TransactionDto dto = dataset.transaction(created % size);
+        dto.setId(String.format(Locale.US, "new-%05d", created++));
+        transactionDao.insert(TransactionMapper.toEntity(dto));
+    }
+
+    private void measure(String measure, double fixedMs, double perThousandMs, Runnable query) {
+        PerfBudget.check("room." + measure, PerfBudget.median(2, runs, query), fixedMs, perThousandMs, size);
+    }
+
+    private void assertIndexed(String sql, Object... args) {
+        List<String> plan = new ArrayList<>();
+        try (Cursor cursor = database.getOpenHelper().getReadableDatabase()
+                .query("EXPLAIN QUERY PLAN " + sql, args)) {
+            int detail = cursor.getColumnIndexOrThrow("detail");
+            while (cursor.moveToNext()) {
+                plan.add(cursor.getString(detail));
+            }
+        }
+
+        for (String step : plan) {
+            boolean fullScan = step.startsWith("SCAN") && step.contains("transactions") && !step.contains("INDEX");
+            if (fullScan || step.contains("TEMP B-TREE")) {
+                fail("Consulta sem índice adequado: " + sql + "\nPlano: " + plan);
+            }
+        }
+    }
+
+    /**
+     * Valor atual do LiveData (as consultas rodam de forma síncrona ao ganhar um observer)
+     */
+    private static <T> T await(LiveData<T> liveData) {
+        AtomicReference<T> value = new AtomicReference<>();
+        Observer<T> observer = value::set;
+        liveData.observeForever(observer);
+        liveData.removeObserver(observer);
+        return value.get();
+    }
+
+    /**
+     * SQL e argumentos de uma execução do DAO
+     */
+    private static final class CapturedQuery {
+
+        final String sql;
+        final Object[] args;
+
+        CapturedQuery(String sql, Object[] args) {
+            this.sql = sql;
+            this.args = args;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void observeForever(LiveData<?> liveData, Observer<Object> observer) {
+        ((LiveData<Object>) liveData).observeForever(observer);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void removeObserver(LiveData<?> liveData, Observer<Object> observer) {
+        ((LiveData<Object>) liveData).removeObserver(observer);
+    }
+}
@@ -0,0 +1,145 @@
+package br.com.tecpontes.appfinanceiro.data.local;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.app.Application;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+/**
+ * SlowQueryLog (normalização do SQL, ring buffer e relatório das piores consultas)
+ * e o formato dos argumentos do TimingOpenHelperFactory.ArgShape
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34, application = Application.class)
+public class SlowQueryLogTest {
+
+    private final SlowQueryLog log = new SlowQueryLog();
+
+    @Test
+    public void normalizeCollapsesInListsAndTrims() {
+        assertEquals("SELECT * FROM transactions WHERE id IN (?…)",
+                SlowQueryLog.normalize("  SELECT * FROM transactions WHERE id IN (?, ?,?)\n"));
+        assertEquals("DELETE FROM transactions WHERE id IN (?…) AND accountId IN (?…)",
+                SlowQueryLog.normalize("DELETE FROM transactions WHERE id IN ( ? ) AND accountId IN (?,?)"));
+        assertEquals("SELECT * FROM transactions WHERE accountId = ? AND date >= ?",
+                SlowQueryLog.normalize("SELECT * FROM transactions WHERE accountId = ? AND date >= ?"));
+    }
+
+    @Test
+    public void inListsOfDifferentSizesAreGrouped() {
+        record("SELECT * FROM transactions WHERE id IN (?)", 60, false);
+        record("SELECT * FROM transactions WHERE id IN (?, ?, ?)", 70, false);
+
+        List<SlowQueryLog.QuerySummary> top = log.getTopQueries(10);
+        assertEquals(1, top.size());
+        assertEquals(2, top.get(0).occurrences);
+    }
+
+    @Test
+    public void argShapeUsesRunLengths() {
+        assertEquals("()", TimingOpenHelperFactory.ArgShape.of((Object[]) null));
+        assertEquals("()", TimingOpenHelperFactory.ArgShape.of(new Object[0]));
+        assertEquals("TEXT, INTEGER×3, REAL, NULL, BLOB, TEXT",
+                TimingOpenHelperFactory.ArgShape.of(new Object[]{
+                        "a", 1L, 2, true, 3.5, null, new byte[]{1}, "b"}));
+
+        // Mais argumentos que a capacidade inicial
+        Object[] ids = new Object[20];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = "id-" + i;
+        }
+        assertEquals("TEXT×20", TimingOpenHelperFactory.ArgShape.of(ids));
+    }
+
+    @Test
+    public void argShapeFromBindings() {
+        TimingOpenHelperFactory.ArgShape shape = new TimingOpenHelperFactory.ArgShape();
+        shape.bindString(1, "a");
+        shape.bindLong(2, 1);
+        shape.bindLong(3, 2);
+        shape.bindDouble(4, 1.5);
+        shape.bindBlob(5, new byte[0]);
+        shape.bindNull(6);
+        assertEquals("TEXT, INTEGER×2, REAL, BLOB, NULL", shape.toString());
+
+        shape.clearBindings();
+        assertEquals("()", shape.toString());
+    }
+
+    @Test
+    public void ringBufferKeepsOnlyTheMostRecentEvents() {
+        int total = SlowQueryLog.CAPACITY + 10;
+        for (int i = 0; i < total; i++) {
+            record("SELECT " + i, SlowQueryLog.SLOW_QUERY_MS + i, false);
+        }
+
+        List<SlowQueryLog.QuerySummary> top = log.getTopQueries(Integer.MAX_VALUE);
+        assertEquals(SlowQueryLog.CAPACITY, top.size());
+        List<String> sqls = new ArrayList<>();
+        for (SlowQueryLog.QuerySummary summary : top) {
+            sqls.add(summary.sql);
+        }
+        // Os 10 primeiros foram sobrescritos; o mais recente continua
+        for (int i = 0; i < 10; i++) {
+            assertFalse(sqls.contains("SELECT " + i));
+        }
+        assertTrue(sqls.contains("SELECT 10"));
+        assertEquals("SELECT " + (total - 1), top.get(0).sql);
+
+        log.clear();
+        assertTrue(log.getTopQueries(10).isEmpty());
+        assertEquals(0, log.getExecutionCount());
+    }
+
+    @Test
+    public void topQueriesAreOrderedByMaxDurationAndLimited() {
+        record("SELECT a", 60, false);
+        record("SELECT b", 120, false);
+        record("SELECT c", 80, false);
+        record("SELECT d", 55, false);
+
+        List<SlowQueryLog.QuerySummary> top = log.getTopQueries(2);
+
+        assertEquals(2, top.size());
+        assertEquals("SELECT b", top.get(0).sql);
+        assertEquals("SELECT c", top.get(1).sql);
+    }
+
+    @Test
+    public void summaryAggregatesEventsOfTheSameSql() {
+        log.record("SELECT * FROM transactions WHERE accountId = ?", "TEXT", 10, 60_000_000L, false);
+        log.record("SELECT * FROM transactions WHERE accountId = ?", "NULL", 500, 90_000_000L, true);
+        log.record("SELECT * FROM transactions WHERE accountId = ?", "TEXT", 20, 3_000_000L, true);
+
+        List<SlowQueryLog.QuerySummary> top = log.getTopQueries(10);
+
+        assertEquals(1, top.size());
+        SlowQueryLog.QuerySummary summary = top.get(0);
+        assertEquals(3, summary.occurrences);
+        assertEquals(2, summary.mainThreadOccurrences);
+        assertEquals(90, summary.maxMs);
+        assertEquals(153, summary.totalMs);
+        assertEquals(51, summary.getAverageMs());
+        assertEquals(500, summary.maxRows);
+        // Formato dos argumentos da execução mais lenta
+        assertEquals("NULL", summary.argShape);
+    }
+
+    @Test
+    public void shouldRecordSlowOrMainThreadQueries() {
+        assertTrue(SlowQueryLog.shouldRecord(SlowQueryLog.SLOW_QUERY_MS * 1_000_000L, false));
+        assertTrue(SlowQueryLog.shouldRecord(0, true));
+        assertFalse(SlowQueryLog.shouldRecord(SlowQueryLog.SLOW_QUERY_MS * 1_000_000L - 1, false));
+    }
+
+    private void record(String sql, long durationMs, boolean mainThread) {
+        log.record(sql, "()", 1, durationMs * 1_000_000L, mainThread);
+    }
+}
@@ -0,0 +1,172 @@
+package br.com.tecpontes.appfinanceiro.data.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.app.Application;
+import android.content.Context;
+import android.database.Cursor;
+import androidx.room.Room;
+import androidx.test.core.app.ApplicationProvider;
+import br.com.tecpontes.appfinanceiro.data.local.AppDatabase;
+import br.com.tecpontes.appfinanceiro.data.local.DashboardSnapshotStore;
+import br.com.tecpontes.appfinanceiro.data.local.SyncTelemetryLog;
+import br.com.tecpontes.appfinanceiro.data.local.dao.TransactionDao;
+import br.com.tecpontes.appfinanceiro.data.local.entity.Account;
+import br.com.tecpontes.appfinanceiro.model.AccountDto;
+import br.com.tecpontes.appfinanceiro.model.DashboardDto;
+import br.com.tecpontes.appfinanceiro.network.ApiService;
+import br.com.tecpontes.appfinanceiro.network.json.GsonFactory;
+import br.com.tecpontes.appfinanceiro.testing.FakeApiServer;
+import br.com.tecpontes.appfinanceiro.testing.SyntheticDataset;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import okhttp3.OkHttpClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+/**
+ * Dashboard + delta sync contra o FakeApiServer, com os repositories e o AppDatabase reais:
+ * as transações recentes gravadas pelo dashboard não podem adiantar o cursor do sync
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34, application = Application.class)
+public class DashboardSyncTest {
+
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private FakeApiServer server;
+    private SyntheticDataset dataset;
+    private AppDatabase database;
+    private TransactionDao transactionDao;
+    private DashboardRepository dashboardRepository;
+    private TransactionRepository transactionRepository;
+
+    @Before
+    public void setUp() throws IOException {
+        Context context = ApplicationProvider.getApplicationContext();
+        dataset = SyntheticDataset.builder()
+                .seed(3)
+                .accounts(2)
+                .transactions(2_000)
+                .build();
+        server = new FakeApiServer(dataset).requireAuth(false).start();
+
+        ApiService apiService = new Retrofit.Builder()
+                .baseUrl(server.baseUrl())
+                .client(new OkHttpClient())
+                .addConverterFactory(GsonConverterFactory.create(GsonFactory.create()))
+                // Callbacks na thread do OkHttp: o teste não processa o looper principal
+                .callbackExecutor(Runnable::run)
+                .build()
+                .create(ApiService.class);
+
+        database = Room.inMemoryDatabaseBuilder(context, AppDatabase.class)
+                .allowMainThreadQueries()
+                .build();
+        transactionDao = database.transactionDao();
+
+        // Contas já sincronizadas (as transações têm foreign key para elas)
+        List<Account> accounts = new ArrayList<>();
+        for (AccountDto dto : dataset.accounts()) {
+            accounts.add(new Account(dto.getId(), dto.getName(), dto.getBalance(), dto.getCurrency(),
+                    dto.getDescription()));
+        }
+        database.accountDao().insertAll(accounts);
+
+        TransactionWindowCache windowCache = new TransactionWindowCache();
+        SyncTelemetryLog telemetryLog = new SyncTelemetryLog(database.syncTelemetryDao());
+        dashboardRepository = new DashboardRepository(() -> apiService, database.accountDao(), transactionDao,
+                new DashboardSnapshotStore(context), windowCache, telemetryLog);
+        transactionRepository = new TransactionRepository(() -> apiService, transactionDao, windowCache,
+                telemetryLog);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        database.close();
+        server.close();
+    }
+
+    @Test
+    public void dashboardLoadDoesNotSkipOlderHistory() throws InterruptedException {
+        String accountId = dataset.accountId(0);
+        List<Integer> serverRows = dataset.indexes(accountId, Long.MIN_VALUE, Long.MAX_VALUE);
+
+        loadDashboard();
+        int recentRows = countRows(accountId);
+        assertTrue("recentes gravadas: " + recentRows, recentRows > 0 && recentRows < serverRows.size());
+        assertNull(transactionDao.getChangesCursor(accountId));
+
+        assertEquals(serverRows.size(), sync(accountId));
+        assertEquals(serverRows.size(), countRows(accountId));
+        assertNotNull(transactionDao.getTransactionByIdSync(dataset.transaction(serverRows.get(0)).getId()));
+
+        // O cursor é o maior updatedAt do servidor: o próximo sync não traz nada
+        long lastUpdatedAt = dataset.transaction(serverRows.get(serverRows.size() - 1)).getUpdatedAt();
+        assertEquals(Long.valueOf(lastUpdatedAt), transactionDao.getChangesCursor(accountId));
+        assertEquals(0, sync(accountId));
+    }
+
+    private void loadDashboard() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<String> error = new AtomicReference<>();
+        dashboardRepository.getDashboardData(new DashboardRepository.DashboardCallback() {
+            @Override
+            public void onSuccess(DashboardDto dashboardData, long fetchedAt) {
+                done.countDown();
+            }
+
+            @Override
+            public void onError(String message) {
+                error.set(message);
+                done.countDown();
+            }
+        });
+        assertTrue("dashboard não respondeu", done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertNull(error.get());
+    }
+
+    private int sync(String accountId) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicInteger count = new AtomicInteger(-1);
+        AtomicReference<String> error = new AtomicReference<>();
+        transactionRepository.syncTransactions(accountId, new TransactionRepository.SyncCallback() {
+            @Override
+            public void onSuccess(int synced) {
+                count.set(synced);
+                done.countDown();
+            }
+
+            @Override
+            public void onError(String message) {
+                error.set(message);
+                done.countDown();
+            }
+        });
+        assertTrue("sync não respondeu", done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertNull(error.get());
+        return count.get();
+    }
+
+    private int countRows(String accountId) {
+        try (Cursor cursor = database.query("SELECT COUNT(*) FROM transactions WHERE accountId = ? AND deleted = 0",
+                new Object[]{accountId})) {
+            cursor.moveToFirst();
+            return cursor.getInt(0);
+        }
+    }
+}
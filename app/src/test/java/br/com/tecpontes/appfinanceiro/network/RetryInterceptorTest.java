@@ -0,0 +1,217 @@
+package br.com.tecpontes.appfinanceiro.network;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import android.app.Application;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowSystemClock;
+
+/**
+ * RetryInterceptor + CircuitBreaker contra um MockWebServer: retries, Retry-After, métodos
+ * não idempotentes e as transições do circuito (o relógio do Robolectric controla o OPEN_DURATION_MS)
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34, application = Application.class)
+public class RetryInterceptorTest {
+
+    private static final String GET_ENDPOINT = "GET /x";
+    private static final String POST_ENDPOINT = "POST /x";
+
+    private MockWebServer server;
+    private CircuitBreaker circuitBreaker;
+    private NetworkMetrics networkMetrics;
+    private OkHttpClient client;
+
+    // Faz a próxima chamada falhar com RuntimeException depois de passar pelo RetryInterceptor
+    private final AtomicBoolean throwOnNextCall = new AtomicBoolean();
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+
+        circuitBreaker = new CircuitBreaker();
+        networkMetrics = new NetworkMetrics();
+        client = new OkHttpClient.Builder()
+                .addInterceptor(new RetryInterceptor(circuitBreaker, networkMetrics))
+                .addInterceptor(chain -> {
+                    if (throwOnNextCall.getAndSet(false)) {
+                        throw new IllegalStateException("falha inesperada");
+                    }
+                    return chain.proceed(chain.request());
+                })
+                // Sem retries silenciosos do próprio OkHttp: as tentativas contadas são só as do interceptor
+                .retryOnConnectionFailure(false)
+                .build();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void idempotentCallIsRetriedUpToMaxAttempts() throws IOException {
+        for (int i = 0; i < RetryInterceptor.MAX_ATTEMPTS; i++) {
+            server.enqueue(new MockResponse().setResponseCode(503));
+        }
+
+        try (Response response = get()) {
+            assertEquals(503, response.code());
+        }
+
+        assertEquals(RetryInterceptor.MAX_ATTEMPTS, server.getRequestCount());
+        assertEquals(RetryInterceptor.MAX_ATTEMPTS - 1, networkMetrics.getRetryCount(GET_ENDPOINT));
+        // Uma chamada lógica conta uma falha só, não uma por tentativa
+        assertEquals("[" + GET_ENDPOINT + ": CLOSED (falhas seguidas: 1)]", circuitBreaker.describe().toString());
+    }
+
+    @Test
+    public void retryRecoversFromNetworkFailure() throws IOException {
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START));
+        server.enqueue(new MockResponse().setResponseCode(502));
+        server.enqueue(new MockResponse().setBody("ok"));
+
+        try (Response response = get()) {
+            assertEquals(200, response.code());
+            assertEquals("ok", response.body().string());
+        }
+
+        assertEquals(3, server.getRequestCount());
+        assertEquals(2, networkMetrics.getRetryCount(GET_ENDPOINT));
+        assertEquals("[" + GET_ENDPOINT + ": CLOSED (falhas seguidas: 0)]", circuitBreaker.describe().toString());
+    }
+
+    @Test
+    public void retryAfterIsHonored() throws IOException {
+        server.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "1"));
+        server.enqueue(new MockResponse().setBody("ok"));
+
+        long start = System.nanoTime();
+        try (Response response = get()) {
+            assertEquals(200, response.code());
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(2, server.getRequestCount());
+        assertTrue("esperou " + elapsedMs + "ms", elapsedMs >= 1_000);
+    }
+
+    @Test
+    public void nonIdempotentCallIsNotRetried() throws IOException {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setBody("não deveria ser usada"));
+
+        try (Response response = post()) {
+            assertEquals(503, response.code());
+        }
+
+        assertEquals(1, server.getRequestCount());
+        assertEquals(0, networkMetrics.getRetryCount(POST_ENDPOINT));
+    }
+
+    @Test
+    public void circuitOpensThenHalfOpensAndCloses() throws IOException {
+        openCircuit();
+        int requestsBefore = server.getRequestCount();
+
+        // Aberto: falha na hora, sem ir à rede
+        expectCircuitOpen();
+        assertEquals(requestsBefore, server.getRequestCount());
+        assertEquals(1, networkMetrics.getCircuitRejectionCount(POST_ENDPOINT));
+
+        // Meio-aberto: a chamada de teste passa e fecha o circuito
+        ShadowSystemClock.advanceBy(Duration.ofMillis(CircuitBreaker.OPEN_DURATION_MS));
+        server.enqueue(new MockResponse().setBody("ok"));
+        try (Response response = post()) {
+            assertEquals(200, response.code());
+        }
+        assertFalse(circuitBreaker.isOpen(POST_ENDPOINT));
+
+        server.enqueue(new MockResponse().setBody("ok"));
+        try (Response response = post()) {
+            assertEquals(200, response.code());
+        }
+    }
+
+    @Test
+    public void failedTrialReopensCircuit() throws IOException {
+        openCircuit();
+
+        ShadowSystemClock.advanceBy(Duration.ofMillis(CircuitBreaker.OPEN_DURATION_MS));
+        server.enqueue(new MockResponse().setResponseCode(503));
+        try (Response response = post()) {
+            assertEquals(503, response.code());
+        }
+
+        assertTrue(circuitBreaker.isOpen(POST_ENDPOINT));
+        expectCircuitOpen();
+    }
+
+    @Test
+    public void runtimeExceptionDuringTrialReleasesIt() throws IOException {
+        openCircuit();
+        ShadowSystemClock.advanceBy(Duration.ofMillis(CircuitBreaker.OPEN_DURATION_MS));
+
+        throwOnNextCall.set(true);
+        try {
+            post().close();
+            fail("a chamada de teste deveria falhar");
+        } catch (IllegalStateException expected) {
+            // A chamada de teste terminou sem resultado
+        }
+
+        // A próxima chamada vira a nova chamada de teste, em vez de ser rejeitada para sempre
+        server.enqueue(new MockResponse().setBody("ok"));
+        try (Response response = post()) {
+            assertEquals(200, response.code());
+        }
+        assertFalse(circuitBreaker.isOpen(POST_ENDPOINT));
+    }
+
+    private void openCircuit() throws IOException {
+        for (int i = 0; i < CircuitBreaker.FAILURE_THRESHOLD; i++) {
+            server.enqueue(new MockResponse().setResponseCode(503));
+            post().close();
+        }
+        assertTrue(circuitBreaker.isOpen(POST_ENDPOINT));
+    }
+
+    private void expectCircuitOpen() throws IOException {
+        try {
+            post().close();
+            fail("o circuito deveria estar aberto");
+        } catch (CircuitOpenException expected) {
+            assertEquals(POST_ENDPOINT, expected.getEndpoint());
+        }
+    }
+
+    private Response get() throws IOException {
+        return client.newCall(new Request.Builder().url(server.url("/x")).build()).execute();
+    }
+
+    private Response post() throws IOException {
+        RequestBody body = RequestBody.create("{}", MediaType.get("application/json"));
+        return client.newCall(new Request.Builder().url(server.url("/x")).post(body).build()).execute();
+    }
+}
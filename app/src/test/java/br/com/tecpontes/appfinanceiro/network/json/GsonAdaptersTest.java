@@ -0,0 +1,212 @@
+package br.com.tecpontes.appfinanceiro.network.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import br.com.tecpontes.appfinanceiro.model.AccountDto;
+import br.com.tecpontes.appfinanceiro.model.AuthResponse;
+import br.com.tecpontes.appfinanceiro.model.DashboardDto;
+import br.com.tecpontes.appfinanceiro.model.TransactionDto;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.util.Arrays;
+import org.junit.Test;
+
+/**
+ * Ida e volta dos TypeAdapters de streaming registrados no GsonFactory
+ */
+public class GsonAdaptersTest {
+
+    private final Gson gson = GsonFactory.create();
+
+    @Test
+    public void transactionRoundTripKeepsAllFields() {
+        TransactionDto original = new TransactionDto("t-1", "a-1", -1234.56, 1_700_000_000_000L,
+                "Mercado", "Compra do mês", "EXPENSE");
+        original.setDeleted(true);
+        original.setDeletedAt(1_700_000_100_000L);
+        original.setUpdatedAt(1_700_000_200_000L);
+
+        TransactionDto copy = gson.fromJson(gson.toJson(original), TransactionDto.class);
+
+        assertEquals("t-1", copy.getId());
+        assertEquals("a-1", copy.getAccountId());
+        assertEquals(-1234.56, copy.getAmount(), 0);
+        assertEquals(1_700_000_000_000L, copy.getDate());
+        assertEquals("Mercado", copy.getCategory());
+        assertEquals("Compra do mês", copy.getNote());
+        assertEquals("EXPENSE", copy.getType());
+        assertTrue(copy.isDeleted());
+        assertEquals(1_700_000_100_000L, copy.getDeletedAt());
+        assertEquals(1_700_000_200_000L, copy.getUpdatedAt());
+    }
+
+    @Test
+    public void transactionNullAndMissingFieldsUseDefaults() {
+        TransactionDto nulls = gson.fromJson("{\"id\":\"t-1\",\"accountId\":null,\"amount\":null,\"date\":null,"
+                + "\"note\":null,\"deleted\":null,\"deletedAt\":null,\"updatedAt\":null}", TransactionDto.class);
+        assertEquals("t-1", nulls.getId());
+        assertNull(nulls.getAccountId());
+        assertEquals(0, nulls.getAmount(), 0);
+        assertEquals(0, nulls.getDate());
+        assertNull(nulls.getNote());
+        assertFalse(nulls.isDeleted());
+        assertEquals(0, nulls.getDeletedAt());
+        assertEquals(0, nulls.getUpdatedAt());
+
+        TransactionDto missing = gson.fromJson("{\"id\":\"t-2\"}", TransactionDto.class);
+        assertEquals("t-2", missing.getId());
+        assertNull(missing.getCategory());
+        assertNull(missing.getType());
+        assertEquals(0, missing.getAmount(), 0);
+        assertFalse(missing.isDeleted());
+        assertEquals(0, missing.getUpdatedAt());
+
+        assertNull(gson.fromJson("null", TransactionDto.class));
+    }
+
+    @Test
+    public void transactionNullFieldsAreOmittedOnWrite() {
+        TransactionDto dto = new TransactionDto("t-1", "a-1", 10, 1L, "Outros", null, "INCOME");
+
+        JsonObject json = JsonParser.parseString(gson.toJson(dto)).getAsJsonObject();
+
+        assertFalse(json.has("note"));
+        assertEquals("INCOME", json.get("type").getAsString());
+    }
+
+    @Test
+    public void unknownFieldsAreSkipped() {
+        TransactionDto dto = gson.fromJson("{\"extra\":{\"a\":[1,2,{\"b\":null}]},\"id\":\"t-1\","
+                + "\"tags\":[\"x\",\"y\"],\"amount\":5,\"version\":3,\"type\":\"INCOME\"}", TransactionDto.class);
+
+        assertEquals("t-1", dto.getId());
+        assertEquals(5, dto.getAmount(), 0);
+        assertEquals("INCOME", dto.getType());
+
+        AuthResponse auth = gson.fromJson("{\"token\":\"abc\",\"expiresIn\":3600,"
+                + "\"user\":{\"id\":\"u-1\",\"roles\":[\"admin\"],\"email\":\"a@b.c\"}}", AuthResponse.class);
+        assertEquals("abc", auth.getToken());
+        assertEquals("u-1", auth.getUser().getId());
+        assertEquals("a@b.c", auth.getUser().getEmail());
+    }
+
+    @Test
+    public void amountsAreReadWithoutRounding() {
+        assertEquals(2.345, amountOf("2.345"), 0);
+        assertEquals(-2.345, amountOf("-2.345"), 0);
+        assertEquals(0.1, amountOf("0.1"), 0);
+        assertEquals(0.125, amountOf("0.125"), 0);
+        assertEquals(12_345_678.905, amountOf("12345678.905"), 0);
+        assertEquals(99.99, amountOf("\"99.99\""), 0);
+        assertEquals(1000, amountOf("1e3"), 0);
+        assertEquals(0, amountOf("\"\""), 0);
+    }
+
+    @Test
+    public void amountsAreWrittenWithoutRounding() {
+        TransactionDto dto = new TransactionDto("t-1", "a-1", 0.1, 0, "Outros", null, "INCOME");
+        assertTrue(gson.toJson(dto), gson.toJson(dto).contains("\"amount\":0.1,"));
+
+        dto.setAmount(12_345_678.91);
+        assertTrue(gson.toJson(dto), gson.toJson(dto).contains("\"amount\":1.234567891E7"));
+
+        dto.setAmount(0.125);
+        assertTrue(gson.toJson(dto), gson.toJson(dto).contains("\"amount\":0.125"));
+    }
+
+    @Test
+    public void threeDecimalAmountsRoundTripUnchanged() {
+        TransactionDto original = new TransactionDto("t-1", "a-1", 1234.567, 1L, "Outros", null, "EXPENSE");
+        assertEquals(1234.567, gson.fromJson(gson.toJson(original), TransactionDto.class).getAmount(), 0);
+
+        TransactionDto fromServer = gson.fromJson("{\"id\":\"t-2\",\"amount\":-0.125}", TransactionDto.class);
+        assertEquals(-0.125, fromServer.getAmount(), 0);
+        assertTrue(gson.toJson(fromServer), gson.toJson(fromServer).contains("\"amount\":-0.125"));
+
+        AccountDto account = new AccountDto("a-1", "Cripto", 0.001, "BTC", null);
+        assertEquals(0.001, gson.fromJson(gson.toJson(account), AccountDto.class).getBalance(), 0);
+    }
+
+    @Test
+    public void invalidAmountFails() {
+        try {
+            new TransactionDtoAdapter().fromJson("{\"amount\":\"abc\"}");
+            fail("valor inválido aceito");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("abc"));
+        }
+    }
+
+    @Test
+    public void accountRoundTrip() {
+        AccountDto original = new AccountDto("a-1", "Conta corrente", 1_000_000.05, "BRL", null);
+
+        AccountDto copy = gson.fromJson(gson.toJson(original), AccountDto.class);
+
+        assertEquals("a-1", copy.getId());
+        assertEquals("Conta corrente", copy.getName());
+        assertEquals(1_000_000.05, copy.getBalance(), 0);
+        assertEquals("BRL", copy.getCurrency());
+        assertNull(copy.getDescription());
+    }
+
+    @Test
+    public void dashboardRoundTripIncludesRecentTransactions() {
+        TransactionDto recent = new TransactionDto("t-1", "a-1", 42.5, 1L, "Salário", null, "INCOME");
+        recent.setUpdatedAt(9L);
+        DashboardDto original = new DashboardDto(100.01, 50.5, 20.25, 3, Arrays.asList(recent), "BRL");
+
+        DashboardDto copy = gson.fromJson(gson.toJson(original), DashboardDto.class);
+
+        assertEquals(100.01, copy.getTotalBalance(), 0);
+        assertEquals(50.5, copy.getMonthlyIncome(), 0);
+        assertEquals(20.25, copy.getMonthlyExpenses(), 0);
+        assertEquals(3, copy.getAccountsCount());
+        assertEquals("BRL", copy.getCurrency());
+        assertEquals(1, copy.getRecentTransactions().size());
+        assertEquals("t-1", copy.getRecentTransactions().get(0).getId());
+        assertEquals(42.5, copy.getRecentTransactions().get(0).getAmount(), 0);
+        assertEquals(9L, copy.getRecentTransactions().get(0).getUpdatedAt());
+
+        DashboardDto empty = gson.fromJson("{\"recentTransactions\":null,\"accountsCount\":null}", DashboardDto.class);
+        assertNull(empty.getRecentTransactions());
+        assertEquals(0, empty.getAccountsCount());
+    }
+
+    @Test
+    public void authResponseRoundTripKeepsRefreshToken() {
+        AuthResponse original = new AuthResponse("access", "refresh",
+                new AuthResponse.UserDto("u-1", "a@b.c", "Ana"));
+
+        AuthResponse copy = gson.fromJson(gson.toJson(original), AuthResponse.class);
+
+        assertEquals("access", copy.getToken());
+        assertEquals("refresh", copy.getRefreshToken());
+        assertNotNull(copy.getUser());
+        assertEquals("u-1", copy.getUser().getId());
+        assertEquals("a@b.c", copy.getUser().getEmail());
+        assertEquals("Ana", copy.getUser().getName());
+    }
+
+    @Test
+    public void authResponseWithoutRefreshToken() {
+        AuthResponse missing = gson.fromJson("{\"token\":\"access\",\"user\":null}", AuthResponse.class);
+        assertEquals("access", missing.getToken());
+        assertNull(missing.getRefreshToken());
+        assertNull(missing.getUser());
+
+        AuthResponse nulls = gson.fromJson("{\"token\":\"access\",\"refreshToken\":null}", AuthResponse.class);
+        assertNull(nulls.getRefreshToken());
+    }
+
+    private double amountOf(String jsonValue) {
+        return gson.fromJson("{\"amount\":" + jsonValue + "}", TransactionDto.class).getAmount();
+    }
+}
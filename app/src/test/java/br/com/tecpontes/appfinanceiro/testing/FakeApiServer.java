@@ -0,0 +1,403 @@
+package br.com.tecpontes.appfinanceiro.testing;
+
+import br.com.tecpontes.appfinanceiro.model.AccountDto;
+import br.com.tecpontes.appfinanceiro.model.AuthRequest;
+import br.com.tecpontes.appfinanceiro.model.AuthResponse;
+import br.com.tecpontes.appfinanceiro.model.DashboardDto;
+import br.com.tecpontes.appfinanceiro.model.TransactionDto;
+import br.com.tecpontes.appfinanceiro.network.json.GsonFactory;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.HttpUrl;
+
+/**
+ * Backend falso em processo (HttpServer do JDK) com todos os endpoints do ApiService,
+ * servindo um SyntheticDataset. Usado pelos testes de desempenho de sync, importação e dashboard.
+ *
+ * Os corpos são escritos com os mesmos TypeAdapters do app (GsonFactory), então o formato
+ * no fio é idêntico ao que o app decodifica. As respostas saem em chunked transfer encoding
+ * e as transações são geradas enquanto o corpo é escrito: o heap do teste não cresce com o
+ * tamanho do dataset. Latência e banda podem ser configuradas para simular redes lentas.
+ */
+public final class FakeApiServer implements Closeable {
+
+    public static final String PASSWORD = "senha123";
+
+    private static final long TOKEN_TTL_SECONDS = 3600;
+    private static final int RECENT_TRANSACTIONS = 5;
+    // Fatia de tempo da limitação de banda
+    private static final long THROTTLE_PERIOD_MS = 100;
+
+    private final SyntheticDataset dataset;
+    private final Gson gson = GsonFactory.create();
+    private final TypeAdapter<TransactionDto> transactionAdapter = gson.getAdapter(TransactionDto.class);
+    private final AtomicInteger idSequence = new AtomicInteger();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private HttpServer server;
+
+    private volatile long latencyMs;
+    private volatile long bytesPerSecond;
+    private volatile boolean requireAuth = true;
+    private volatile int importSize = 100;
+
+    public FakeApiServer(SyntheticDataset dataset) {
+        this.dataset = dataset;
+    }
+
+    public FakeApiServer start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        // Uma thread por requisição: dashboard e contas chegam em paralelo
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        return this;
+    }
+
+    /**
+     * URL base para o Retrofit (equivalente a http://10.0.2.2:5000/)
+     */
+    public HttpUrl baseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return new HttpUrl.Builder()
+                .scheme("http")
+                .host(address.getAddress().getHostAddress())
+                .port(address.getPort())
+                .build();
+    }
+
+    public SyntheticDataset getDataset() {
+        return dataset;
+    }
+
+    /**
+     * Atraso antes dos headers de cada resposta
+     */
+    public FakeApiServer latency(long delay, TimeUnit unit) {
+        this.latencyMs = unit.toMillis(delay);
+        return this;
+    }
+
+    /**
+     * Limita a banda de download do corpo (0 = sem limite)
+     */
+    public FakeApiServer bandwidth(long bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+        return this;
+    }
+
+    /**
+     * Exige "Authorization: Bearer ..." fora de /auth (padrão: true)
+     */
+    public FakeApiServer requireAuth(boolean requireAuth) {
+        this.requireAuth = requireAuth;
+        return this;
+    }
+
+    /**
+     * Quantidade de transações devolvidas por import/ofx
+     */
+    public FakeApiServer importSize(int importSize) {
+        this.importSize = importSize;
+        return this;
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (server != null) {
+            server.stop(0);
+        }
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            route(exchange);
+        } catch (IOException e) {
+            // Cliente desconectou no meio da resposta (ex.: chamada cancelada)
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        HttpUrl url = baseUrl().resolve(exchange.getRequestURI().toString());
+        String method = exchange.getRequestMethod();
+        String path = url != null ? url.encodedPath() : "";
+
+        if (path.startsWith("/auth/")) {
+            if ("POST".equals(method)) {
+                auth(path, exchange);
+            } else {
+                status(exchange, 405);
+            }
+            return;
+        }
+
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (requireAuth && (authorization == null || !authorization.startsWith("Bearer "))) {
+            status(exchange, 401);
+            return;
+        }
+
+        if (path.equals("/accounts")) {
+            if ("GET".equals(method)) {
+                TypeAdapter<AccountDto> accountAdapter = gson.getAdapter(AccountDto.class);
+                json(exchange, writer -> {
+                    writer.beginArray();
+                    for (AccountDto account : dataset.accounts()) {
+                        accountAdapter.write(writer, account);
+                    }
+                    writer.endArray();
+                });
+                return;
+            }
+            if ("POST".equals(method)) {
+                AccountDto account = gson.fromJson(readBody(exchange), AccountDto.class);
+                account.setId("acc-new-" + idSequence.incrementAndGet());
+                json(exchange, writer -> gson.getAdapter(AccountDto.class).write(writer, account));
+                return;
+            }
+        } else if (path.equals("/transactions")) {
+            if ("GET".equals(method)) {
+                long from = parseLong(url.queryParameter("from"), Long.MIN_VALUE);
+                long to = parseLong(url.queryParameter("to"), Long.MAX_VALUE);
+                long after = from == Long.MIN_VALUE ? Long.MIN_VALUE : from - 1;
+                transactions(exchange, dataset.indexes(url.queryParameter("accountId"), after, to));
+                return;
+            }
+            if ("POST".equals(method)) {
+                TransactionDto transaction = gson.fromJson(readBody(exchange), TransactionDto.class);
+                transaction.setId("txn-new-" + idSequence.incrementAndGet());
+                json(exchange, writer -> transactionAdapter.write(writer, transaction));
+                return;
+            }
+        } else if (path.equals("/transactions/changes") && "GET".equals(method)) {
+            // updatedAt > since (no dataset, updatedAt é a data da transação)
+            long since = parseLong(url.queryParameter("since"), Long.MIN_VALUE);
+            transactions(exchange, dataset.indexes(url.queryParameter("accountId"), since, Long.MAX_VALUE));
+            return;
+        } else if (path.startsWith("/transactions/") && "DELETE".equals(method)) {
+            status(exchange, 204);
+            return;
+        } else if (path.equals("/dashboard") && "GET".equals(method)) {
+            DashboardDto dashboard = dashboard();
+            json(exchange, writer -> gson.getAdapter(DashboardDto.class).write(writer, dashboard));
+            return;
+        } else if (path.equals("/import/ofx") && "POST".equals(method)) {
+            // O arquivo enviado não é interpretado
+            readBody(exchange);
+            importOfx(exchange);
+            return;
+        }
+        status(exchange, 404);
+    }
+
+    private void auth(String path, HttpExchange exchange) throws IOException {
+        String email = "usuario@teste.com";
+        if (!path.equals("/auth/refresh")) {
+            AuthRequest credentials = gson.fromJson(readBody(exchange), AuthRequest.class);
+            if (path.equals("/auth/login") && !PASSWORD.equals(credentials.getPassword())) {
+                status(exchange, 401);
+                return;
+            }
+            email = credentials.getEmail();
+        }
+
+        AuthResponse response = new AuthResponse(token(email), UUID.randomUUID().toString(),
+                new AuthResponse.UserDto("user-1", email, "Usuário Teste"));
+        json(exchange, writer -> gson.getAdapter(AuthResponse.class).write(writer, response));
+    }
+
+    private DashboardDto dashboard() {
+        double total = 0;
+        for (double balance : dataset.balances()) {
+            total += balance;
+        }
+
+        // Receitas/despesas dos últimos 30 dias do dataset
+        int last = dataset.getTransactionsCount() - 1;
+        long monthStart = dataset.dateOf(last) - 30L * 24 * 60 * 60 * 1000;
+        double income = 0;
+        double expenses = 0;
+        List<TransactionDto> recent = new ArrayList<>(RECENT_TRANSACTIONS);
+        for (int i = last; i >= 0 && dataset.dateOf(i) > monthStart; i--) {
+            TransactionDto dto = dataset.transaction(i);
+            if ("income".equals(dto.getType())) {
+                income += dto.getAmount();
+            } else {
+                expenses += dto.getAmount();
+            }
+            if (recent.size() < RECENT_TRANSACTIONS) {
+                recent.add(dto);
+            }
+        }
+        return new DashboardDto(total, income, expenses, dataset.getAccountsCount(), recent, "BRL");
+    }
+
+    private void importOfx(HttpExchange exchange) throws IOException {
+        // Transações "novas" após o fim do dataset, na primeira conta
+        long after = dataset.dateOf(dataset.getTransactionsCount() - 1);
+        int batch = idSequence.incrementAndGet();
+        int count = importSize;
+        json(exchange, writer -> {
+            writer.beginArray();
+            for (int i = 0; i < count; i++) {
+                transactionAdapter.write(writer, new TransactionDto(String.format("ofx-%d-%06d", batch, i),
+                        dataset.accountId(0), 10 + i % 90, after + (i + 1) * 60_000L, "Importado", "OFX", "expense"));
+            }
+            writer.endArray();
+        });
+    }
+
+    /**
+     * Gera cada transação enquanto o corpo é escrito, sem materializar a lista nem o corpo
+     */
+    private void transactions(HttpExchange exchange, SyntheticDataset.IndexRange indexes) throws IOException {
+        json(exchange, writer -> {
+            writer.beginArray();
+            for (int i = 0; i < indexes.size(); i++) {
+                transactionAdapter.write(writer, dataset.transaction(indexes.getInt(i)));
+            }
+            writer.endArray();
+        });
+    }
+
+    private interface BodyWriter {
+        void write(JsonWriter writer) throws IOException;
+    }
+
+    /**
+     * Envia os headers (após a latência configurada) e escreve o corpo em chunks, direto no socket
+     */
+    private void json(HttpExchange exchange, BodyWriter bodyWriter) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        delayHeaders();
+        // Tamanho 0: chunked transfer encoding
+        exchange.sendResponseHeaders(200, 0);
+
+        OutputStream body = exchange.getResponseBody();
+        long rate = bytesPerSecond;
+        if (rate > 0) {
+            body = new ThrottledOutputStream(body, Math.max(1, rate * THROTTLE_PERIOD_MS / 1000));
+        }
+        try (Writer out = new OutputStreamWriter(body, StandardCharsets.UTF_8);
+             JsonWriter writer = new JsonWriter(out)) {
+            bodyWriter.write(writer);
+        }
+    }
+
+    private void status(HttpExchange exchange, int code) throws IOException {
+        delayHeaders();
+        // Tamanho -1: sem corpo
+        exchange.sendResponseHeaders(code, -1);
+    }
+
+    private void delayHeaders() throws IOException {
+        long delay = latencyMs;
+        if (delay > 0) {
+            sleep(delay);
+        }
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void sleep(long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Servidor encerrado");
+        }
+    }
+
+    /**
+     * Libera no máximo bytesPerPeriod a cada THROTTLE_PERIOD_MS (banda limitada)
+     */
+    private static final class ThrottledOutputStream extends FilterOutputStream {
+
+        private final long bytesPerPeriod;
+        private long sentInPeriod;
+
+        ThrottledOutputStream(OutputStream out, long bytesPerPeriod) {
+            super(out);
+            this.bytesPerPeriod = bytesPerPeriod;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (sentInPeriod == bytesPerPeriod) {
+                    out.flush();
+                    sleep(THROTTLE_PERIOD_MS);
+                    sentInPeriod = 0;
+                }
+                int chunk = (int) Math.min(len, bytesPerPeriod - sentInPeriod);
+                out.write(b, off, chunk);
+                sentInPeriod += chunk;
+                off += chunk;
+                len -= chunk;
+            }
+        }
+    }
+
+    /**
+     * JWT não assinado com a claim exp (suficiente para o JwtUtils do app)
+     */
+    static String token(String subject) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        long exp = System.currentTimeMillis() / 1000L + TOKEN_TTL_SECONDS;
+        String header = encoder.encodeToString("{\"alg\":\"none\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(("{\"sub\":\"" + subject + "\",\"exp\":" + exp + "}")
+                .getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".";
+    }
+
+    private static long parseLong(String value, long fallback) {
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package br.com.tecpontes.appfinanceiro.testing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import br.com.tecpontes.appfinanceiro.model.AccountDto;
+import br.com.tecpontes.appfinanceiro.model.AuthRequest;
+import br.com.tecpontes.appfinanceiro.model.AuthResponse;
+import br.com.tecpontes.appfinanceiro.model.DashboardDto;
+import br.com.tecpontes.appfinanceiro.model.TransactionDto;
+import br.com.tecpontes.appfinanceiro.network.ApiService;
+import br.com.tecpontes.appfinanceiro.network.json.GsonFactory;
+import br.com.tecpontes.appfinanceiro.network.json.TransactionDtoAdapter;
+import com.google.gson.stream.JsonReader;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+/**
+ * Valida o backend falso contra o ApiService real (mesmo Retrofit/Gson do app)
+ */
+public class FakeApiServerTest {
+
+    private FakeApiServer server;
+    private ApiService apiService;
+    private String token;
+
+    @Before
+    public void setUp() throws IOException {
+        SyntheticDataset dataset = SyntheticDataset.builder()
+                .seed(7)
+                .accounts(4)
+                .transactions(10_000)
+                .build();
+        server = new FakeApiServer(dataset).start();
+
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(chain -> chain.proceed(token == null
+                        ? chain.request()
+                        : chain.request().newBuilder().header("Authorization", "Bearer " + token).build()))
+                .build();
+        apiService = new Retrofit.Builder()
+                .baseUrl(server.baseUrl())
+                .client(client)
+                .addConverterFactory(GsonConverterFactory.create(GsonFactory.create()))
+                .build()
+                .create(ApiService.class);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.close();
+    }
+
+    @Test
+    public void datasetIsDeterministic() {
+        SyntheticDataset first = SyntheticDataset.builder().seed(99).transactions(1_000).build();
+        SyntheticDataset second = SyntheticDataset.builder().seed(99).transactions(1_000).build();
+
+        for (int i = 0; i < first.getTransactionsCount(); i += 97) {
+            TransactionDto a = first.transaction(i);
+            TransactionDto b = second.transaction(i);
+            assertEquals(a.getId(), b.getId());
+            assertEquals(a.getAmount(), b.getAmount(), 0.0);
+            assertEquals(a.getCategory(), b.getCategory());
+            assertEquals(a.getDate(), b.getDate());
+        }
+    }
+
+    @Test
+    public void protectedEndpointsRequireLogin() throws IOException {
+        assertEquals(401, apiService.getAccounts().execute().code());
+
+        login();
+
+        Response<List<AccountDto>> accounts = apiService.getAccounts().execute();
+        assertTrue(accounts.isSuccessful());
+        assertEquals(4, accounts.body().size());
+    }
+
+    @Test
+    public void changesAreFilteredByAccountAndSince() throws IOException {
+        login();
+        SyntheticDataset dataset = server.getDataset();
+        String accountId = dataset.accountId(1);
+
+        List<TransactionDto> all = apiService.getTransactionChanges(accountId, null).execute().body();
+        assertNotNull(all);
+        assertEquals(2_500, all.size());
+        for (TransactionDto dto : all) {
+            assertEquals(accountId, dto.getAccountId());
+        }
+
+        long since = dataset.dateOf(8_000);
+        List<TransactionDto> delta = apiService.getTransactionChanges(accountId, since).execute().body();
+        assertNotNull(delta);
+        assertEquals(dataset.indexes(accountId, since, Long.MAX_VALUE).size(), delta.size());
+        assertTrue(delta.get(0).getDate() > since);
+    }
+
+    @Test
+    public void dashboardAndImportUseTheDataset() throws IOException {
+        login();
+        server.importSize(250);
+
+        DashboardDto dashboard = apiService.getDashboard().execute().body();
+        assertNotNull(dashboard);
+        assertEquals(4, dashboard.getAccountsCount());
+        assertEquals(5, dashboard.getRecentTransactions().size());
+
+        MultipartBody.Part file = MultipartBody.Part.createFormData("file", "extrato.ofx",
+                RequestBody.create("<OFX></OFX>", MediaType.parse("application/octet-stream")));
+        List<TransactionDto> imported = apiService.importOfx(file).execute().body();
+        assertNotNull(imported);
+        assertEquals(250, imported.size());
+    }
+
+    @Test
+    public void latencyIsApplied() throws IOException {
+        login();
+        server.latency(200, TimeUnit.MILLISECONDS);
+
+        long start = System.nanoTime();
+        apiService.getDashboard().execute();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue("elapsed=" + elapsedMs, elapsedMs >= 200);
+    }
+
+    @Test
+    public void largeListsAreStreamed() throws IOException {
+        SyntheticDataset large = SyntheticDataset.builder()
+                .accounts(1)
+                .transactions(SyntheticDataset.MAX_TRANSACTIONS)
+                .build();
+        try (FakeApiServer largeServer = new FakeApiServer(large).requireAuth(false).start()) {
+            Request request = new Request.Builder()
+                    .url(largeServer.baseUrl().resolve("transactions/changes?accountId=" + large.accountId(0)))
+                    .build();
+
+            // Lê só a primeira transação: o restante do corpo é gerado sob demanda e descartado
+            try (okhttp3.Response response = new OkHttpClient().newCall(request).execute();
+                 JsonReader reader = new JsonReader(response.body().charStream())) {
+                assertEquals("chunked", response.header("Transfer-Encoding"));
+                reader.beginArray();
+                TransactionDto first = new TransactionDtoAdapter().read(reader);
+                assertEquals(large.transaction(0).getId(), first.getId());
+            }
+        }
+    }
+
+    private void login() throws IOException {
+        AuthResponse response = apiService.login(new AuthRequest("usuario@teste.com", FakeApiServer.PASSWORD))
+                .execute()
+                .body();
+        assertNotNull(response);
+        assertNotNull(response.getRefreshToken());
+        token = response.getToken();
+    }
+}
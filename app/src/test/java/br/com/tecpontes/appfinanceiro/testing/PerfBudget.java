@@ -0,0 +1,83 @@
+package br.com.tecpontes.appfinanceiro.testing;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Limites das suítes de desempenho, configuráveis por propriedades de sistema
+ * (o Gradle repassa as propriedades -Pperf.* para a JVM dos testes):
+ *
+ * - perf.room.sizes: tamanhos da tabela de transações (padrão "1000,100000")
+ * - perf.slack: multiplicador aplicado a todos os limites (padrão 1.0; aumentar em máquinas lentas)
+ * - perf.enforce: true falha o teste quando uma medida passa do limite (padrão false: só registra,
+ *   para o testDebugUnitTest comum não depender da velocidade da máquina)
+ * - perf.&lt;medida&gt;.maxMs: substitui o limite de uma medida específica
+ *
+ * Cada medida é registrada na saída padrão como "PERF medida=... ms=... limitMs=...".
+ */
+public final class PerfBudget {
+
+    private static final String DEFAULT_SIZES = "1000,100000";
+
+    private PerfBudget() {
+    }
+
+    /**
+     * Tamanhos configurados em perf.room.sizes, limitados ao máximo do SyntheticDataset
+     */
+    public static int[] roomSizes() {
+        return Arrays.stream(System.getProperty("perf.room.sizes", DEFAULT_SIZES).split(","))
+                .map(String::trim)
+                .filter(size -> !size.isEmpty())
+                .mapToInt(Integer::parseInt)
+                .map(size -> Math.max(1, Math.min(size, SyntheticDataset.MAX_TRANSACTIONS)))
+                .toArray();
+    }
+
+    /**
+     * Limite da medida: fixedMs + perThousandMs por 1.000 linhas, vezes perf.slack,
+     * ou o valor de perf.&lt;medida&gt;.maxMs se definido
+     */
+    public static double limitMs(String measure, double fixedMs, double perThousandMs, int rows) {
+        String override = System.getProperty("perf." + measure + ".maxMs");
+        if (override != null) {
+            return Double.parseDouble(override);
+        }
+        double slack = Double.parseDouble(System.getProperty("perf.slack", "1.0"));
+        return (fixedMs + perThousandMs * rows / 1000.0) * slack;
+    }
+
+    /**
+     * Registra a medida e falha se ultrapassar o limite
+     */
+    public static void check(String measure, long nanos, double fixedMs, double perThousandMs, int rows) {
+        double measuredMs = nanos / 1_000_000.0;
+        double limitMs = limitMs(measure, fixedMs, perThousandMs, rows);
+        System.out.println(String.format(Locale.US, "PERF %s rows=%d ms=%.3f limitMs=%.1f",
+                measure, rows, measuredMs, limitMs));
+
+        if (Boolean.parseBoolean(System.getProperty("perf.enforce", "false"))) {
+            assertTrue(String.format(Locale.US, "%s: %.3f ms (limite %.1f ms, %d linhas)",
+                    measure, measuredMs, limitMs, rows), measuredMs <= limitMs);
+        }
+    }
+
+    /**
+     * Mediana (ns) de runs execuções, depois de warmup execuções descartadas
+     */
+    public static long median(int warmup, int runs, Runnable action) {
+        for (int i = 0; i < warmup; i++) {
+            action.run();
+        }
+        long[] samples = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            action.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[runs / 2];
+    }
+}
@@ -0,0 +1,262 @@
+package br.com.tecpontes.appfinanceiro.testing;
+
+import br.com.tecpontes.appfinanceiro.model.AccountDto;
+import br.com.tecpontes.appfinanceiro.model.TransactionDto;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Gerador determinístico de contas e transações para testes de carga.
+ *
+ * Cada transação é derivada apenas de (seed, índice), sem guardar a lista em memória:
+ * 1M de transações custam o mesmo que 10 até serem serializadas. Os índices seguem
+ * a ordem cronológica (datas crescentes) e a conta é índice % accountsCount.
+ */
+public final class SyntheticDataset {
+
+    public static final int MAX_TRANSACTIONS = 1_000_000;
+
+    private static final String[] EXPENSE_CATEGORIES = {
+            "Alimentação", "Transporte", "Moradia", "Saúde", "Lazer", "Educação", "Mercado", "Assinaturas"
+    };
+    private static final String[] INCOME_CATEGORIES = {"Salário", "Freelance", "Rendimentos", "Reembolso"};
+    private static final String[] NOTES = {"Pix", "Cartão de crédito", "Débito automático", "Boleto"};
+
+    private final long seed;
+    private final int accountsCount;
+    private final int transactionsCount;
+    private final long startDate;
+    private final long stepMs;
+
+    private double[] balances;
+
+    private SyntheticDataset(Builder builder) {
+        this.seed = builder.seed;
+        this.accountsCount = builder.accountsCount;
+        this.transactionsCount = builder.transactionsCount;
+        this.startDate = builder.startDate;
+        this.stepMs = transactionsCount > 1 ? Math.max(1, builder.spanMs / transactionsCount) : 0;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getAccountsCount() {
+        return accountsCount;
+    }
+
+    public int getTransactionsCount() {
+        return transactionsCount;
+    }
+
+    public String accountId(int accountIndex) {
+        return String.format("acc-%04d", accountIndex);
+    }
+
+    /**
+     * Índice da conta a partir do id gerado, ou -1 se o id não pertence ao dataset
+     */
+    public int accountIndex(String accountId) {
+        if (accountId == null || !accountId.startsWith("acc-")) {
+            return -1;
+        }
+        try {
+            int index = Integer.parseInt(accountId.substring(4));
+            return index >= 0 && index < accountsCount ? index : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    public List<AccountDto> accounts() {
+        double[] totals = balances();
+        List<AccountDto> accounts = new ArrayList<>(accountsCount);
+        for (int i = 0; i < accountsCount; i++) {
+            accounts.add(new AccountDto(accountId(i), "Conta " + (i + 1), totals[i], "BRL",
+                    i % 2 == 0 ? "Conta corrente" : null));
+        }
+        return accounts;
+    }
+
+    /**
+     * Transação de índice [0, transactionsCount), sempre igual para o mesmo seed.
+     * O updatedAt do servidor é a própria data (cada transação é alterada uma vez, ao ser criada).
+     */
+    public TransactionDto transaction(int index) {
+        long hash = mix(seed ^ (index * 0x9E3779B97F4A7C15L));
+        boolean income = (hash & 0xFF) < 77; // ~30% receitas
+        String[] categories = income ? INCOME_CATEGORIES : EXPENSE_CATEGORIES;
+        long cents = income
+                ? 50_000 + Math.floorMod(hash >>> 8, 800_000L)
+                : 500 + Math.floorMod(hash >>> 8, 60_000L);
+
+        TransactionDto dto = new TransactionDto(
+                String.format("txn-%07d", index),
+                accountId(index % accountsCount),
+                cents / 100.0,
+                dateOf(index),
+                categories[(int) Math.floorMod(hash >>> 32, (long) categories.length)],
+                index % 3 == 0 ? null : NOTES[(int) Math.floorMod(hash >>> 40, (long) NOTES.length)],
+                income ? "income" : "expense"
+        );
+        dto.setUpdatedAt(dateOf(index));
+        return dto;
+    }
+
+    public long dateOf(int index) {
+        return startDate + index * stepMs;
+    }
+
+    /**
+     * Primeiro índice com data maior que timestamp (as datas são crescentes)
+     */
+    public int firstIndexAfter(long timestamp) {
+        if (timestamp < startDate) {
+            return 0;
+        }
+        if (stepMs == 0) {
+            return transactionsCount;
+        }
+        long index = (timestamp - startDate) / stepMs + 1;
+        return (int) Math.min(index, transactionsCount);
+    }
+
+    /**
+     * Índices das transações da conta (ou de todas, se accountId for null) com data em (after, until].
+     *
+     * Como os índices de uma conta formam uma progressão aritmética, o resultado é uma visão
+     * calculada (início, passo, fim), sem lista materializada: percorrer 1M de índices não aloca nada.
+     */
+    public IndexRange indexes(String accountId, long after, long until) {
+        int accountIndex = accountId != null ? accountIndex(accountId) : -1;
+        if (accountId != null && accountIndex < 0) {
+            return IndexRange.EMPTY;
+        }
+
+        int first = firstIndexAfter(after);
+        if (accountIndex >= 0) {
+            // Avança até o primeiro índice da conta e pula de accountsCount em accountsCount
+            first += Math.floorMod(accountIndex - first, accountsCount);
+        }
+        int step = accountIndex >= 0 ? accountsCount : 1;
+        // Primeiro índice com data após until (as datas são crescentes)
+        int end = until == Long.MAX_VALUE ? transactionsCount : firstIndexAfter(until);
+        return new IndexRange(first, step, end);
+    }
+
+    /**
+     * Saldo de cada conta (receitas - despesas), calculado uma vez
+     */
+    public synchronized double[] balances() {
+        if (balances == null) {
+            long[] cents = new long[accountsCount];
+            for (int i = 0; i < transactionsCount; i++) {
+                TransactionDto dto = transaction(i);
+                long value = Math.round(dto.getAmount() * 100);
+                cents[i % accountsCount] += "income".equals(dto.getType()) ? value : -value;
+            }
+            balances = new double[accountsCount];
+            for (int i = 0; i < accountsCount; i++) {
+                balances[i] = cents[i] / 100.0;
+            }
+        }
+        return balances.clone();
+    }
+
+    /**
+     * Índices first, first + step, ... menores que end
+     */
+    public static final class IndexRange extends AbstractList<Integer> implements RandomAccess {
+
+        static final IndexRange EMPTY = new IndexRange(0, 1, 0);
+
+        private final int first;
+        private final int step;
+        private final int size;
+
+        IndexRange(int first, int step, int end) {
+            this.first = first;
+            this.step = step;
+            this.size = first < end ? (end - first + step - 1) / step : 0;
+        }
+
+        /**
+         * Índice na posição, sem boxing
+         */
+        public int getInt(int position) {
+            if (position < 0 || position >= size) {
+                throw new IndexOutOfBoundsException("posição " + position + " de " + size);
+            }
+            return first + position * step;
+        }
+
+        @Override
+        public Integer get(int position) {
+            return getInt(position);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    // SplitMix64: espalha bem os bits de (seed, índice)
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static final class Builder {
+
+        private long seed = 42L;
+        private int accountsCount = 3;
+        private int transactionsCount = 1_000;
+        // 2024-01-01T00:00:00Z
+        private long startDate = 1_704_067_200_000L;
+        private long spanMs = 365L * 24 * 60 * 60 * 1000;
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder accounts(int accountsCount) {
+            if (accountsCount < 1) {
+                throw new IllegalArgumentException("accountsCount deve ser >= 1");
+            }
+            this.accountsCount = accountsCount;
+            return this;
+        }
+
+        public Builder transactions(int transactionsCount) {
+            if (transactionsCount < 1 || transactionsCount > MAX_TRANSACTIONS) {
+                throw new IllegalArgumentException("transactionsCount deve estar entre 1 e " + MAX_TRANSACTIONS);
+            }
+            this.transactionsCount = transactionsCount;
+            return this;
+        }
+
+        public Builder startDate(long startDate) {
+            this.startDate = startDate;
+            return this;
+        }
+
+        public Builder span(long spanMs) {
+            this.spanMs = spanMs;
+            return this;
+        }
+
+        public SyntheticDataset build() {
+            return new SyntheticDataset(this);
+        }
+    }
+}
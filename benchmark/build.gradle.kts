@@ -0,0 +1,39 @@
+plugins {
+    `java-library`
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_17
+    targetCompatibility = JavaVersion.VERSION_17
+}
+
+// Compila apenas as classes puras de JVM do app (sem dependências do Android SDK)
+sourceSets {
+    main {
+        java {
+            srcDir("../app/src/main/java")
+            include(
+                "br/com/tecpontes/appfinanceiro/model/**",
+                "br/com/tecpontes/appfinanceiro/network/json/**",
+                "br/com/tecpontes/appfinanceiro/data/local/entity/**",
+                "br/com/tecpontes/appfinanceiro/data/repository/TransactionMapper.java",
+                "br/com/tecpontes/appfinanceiro/utils/TransactionFormatter.java"
+            )
+        }
+    }
+}
+
+dependencies {
+    implementation(libs.gson)
+    implementation(libs.androidx.annotation)
+    // Apenas as anotações de @Entity (as entidades Room são compiladas sem o runtime)
+    implementation(libs.androidx.room.common)
+}
+
+jmh {
+    warmupIterations.set(2)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")
+}
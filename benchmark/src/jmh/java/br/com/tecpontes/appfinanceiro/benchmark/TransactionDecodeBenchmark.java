@@ -0,0 +1,85 @@
+package br.com.tecpontes.appfinanceiro.benchmark;
+
+import br.com.tecpontes.appfinanceiro.model.TransactionDto;
+import br.com.tecpontes.appfinanceiro.network.json.GsonFactory;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compara a decodificação de arrays grandes de transações pelo Gson reflexivo
+ * (configuração antiga do NetworkModule) com os TypeAdapters de streaming do GsonFactory
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TransactionDecodeBenchmark {
+
+    private static final Type TRANSACTION_LIST_TYPE = new TypeToken<List<TransactionDto>>() {}.getType();
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private String json;
+    private Gson reflectiveGson;
+    private Gson adapterGson;
+
+    @Setup
+    public void setUp() {
+        json = buildTransactionsJson(size);
+        reflectiveGson = new GsonBuilder().setLenient().create();
+        adapterGson = GsonFactory.create();
+    }
+
+    @Benchmark
+    public List<TransactionDto> reflective() {
+        return reflectiveGson.fromJson(new StringReader(json), TRANSACTION_LIST_TYPE);
+    }
+
+    @Benchmark
+    public List<TransactionDto> typeAdapter() {
+        return adapterGson.fromJson(new StringReader(json), TRANSACTION_LIST_TYPE);
+    }
+
+    /**
+     * Gera um array JSON determinístico no formato da API
+     */
+    static String buildTransactionsJson(int size) {
+        Random random = new Random(42);
+        String[] categories = {"Alimentação", "Transporte", "Moradia", "Lazer", "Salário", "Saúde"};
+        long baseDate = 1_700_000_000_000L;
+
+        StringBuilder builder = new StringBuilder(size * 220);
+        builder.append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            boolean income = random.nextInt(5) == 0;
+            builder.append("{\"id\":\"tx-").append(i)
+                    .append("\",\"accountId\":\"account-").append(i % 4)
+                    .append("\",\"amount\":").append(String.format(Locale.US, "%.2f", random.nextInt(500_000) / 100.0))
+                    .append(",\"date\":").append(baseDate - i * 3_600_000L)
+                    .append(",\"category\":\"").append(categories[random.nextInt(categories.length)])
+                    .append("\",\"note\":").append(random.nextBoolean() ? "\"Nota da transação " + i + "\"" : "null")
+                    .append(",\"type\":\"").append(income ? "income" : "expense")
+                    .append("\",\"deleted\":false,\"deletedAt\":0}");
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.tecpontes.appfinanceiro.benchmark;
+
+import br.com.tecpontes.appfinanceiro.utils.TransactionFormatter;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Mede a formatação de valor e data das linhas da lista de transações (TransactionFormatter)
+ * contra a versão antiga do TransactionsAdapter, que criava NumberFormat/SimpleDateFormat por linha
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionFormattingBenchmark {
+
+    private static final Locale LOCALE_PT_BR = new Locale("pt", "BR");
+
+    @Param({"100", "1000", "10000"})
+    public int rows;
+
+    private double[] amounts;
+    private long[] dates;
+    private boolean[] incomes;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        amounts = new double[rows];
+        dates = new long[rows];
+        incomes = new boolean[rows];
+        for (int i = 0; i < rows; i++) {
+            amounts[i] = random.nextInt(500_000) / 100.0;
+            dates[i] = 1_700_000_000_000L - i * 3_600_000L;
+            incomes[i] = random.nextInt(5) == 0;
+        }
+    }
+
+    @Benchmark
+    public void transactionFormatter(Blackhole blackhole) {
+        for (int i = 0; i < rows; i++) {
+            blackhole.consume(TransactionFormatter.formatSignedAmount(amounts[i], incomes[i]));
+            blackhole.consume(TransactionFormatter.formatDate(dates[i]));
+        }
+    }
+
+    @Benchmark
+    public void formatterPerRow(Blackhole blackhole) {
+        for (int i = 0; i < rows; i++) {
+            NumberFormat currencyFormat = NumberFormat.getCurrencyInstance(LOCALE_PT_BR);
+            blackhole.consume((incomes[i] ? "+" : "-") + currencyFormat.format(amounts[i]));
+            SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy", LOCALE_PT_BR);
+            blackhole.consume(dateFormat.format(new Date(dates[i])));
+        }
+    }
+}
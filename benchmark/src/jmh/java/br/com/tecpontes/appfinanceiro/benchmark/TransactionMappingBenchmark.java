@@ -0,0 +1,78 @@
+package br.com.tecpontes.appfinanceiro.benchmark;
+
+import br.com.tecpontes.appfinanceiro.data.local.entity.Transaction;
+import br.com.tecpontes.appfinanceiro.data.repository.TransactionMapper;
+import br.com.tecpontes.appfinanceiro.model.TransactionDto;
+import br.com.tecpontes.appfinanceiro.network.json.GsonFactory;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Mede a conversão DTO → entidade Room feita pelo TransactionRepository (TransactionMapper)
+ * e o caminho completo de uma página do delta sync: decodificação com o Gson do app + conversão
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TransactionMappingBenchmark {
+
+    private static final Type TRANSACTION_LIST_TYPE = new TypeToken<List<TransactionDto>>() {}.getType();
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private String json;
+    private Gson gson;
+    private List<TransactionDto> dtos;
+    private Set<String> pendingDeletes;
+    private long now;
+
+    @Setup
+    public void setUp() {
+        json = TransactionDecodeBenchmark.buildTransactionsJson(size);
+        gson = GsonFactory.create();
+        dtos = gson.fromJson(json, TRANSACTION_LIST_TYPE);
+        now = System.currentTimeMillis();
+
+        // ~1% de exclusões remotas e ~1% de exclusões locais pendentes
+        pendingDeletes = new HashSet<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            if (i % 100 == 0) {
+                dtos.get(i).setDeleted(true);
+            } else if (i % 100 == 50) {
+                pendingDeletes.add(dtos.get(i).getId());
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Transaction> toEntities() {
+        return TransactionMapper.toEntities(dtos);
+    }
+
+    @Benchmark
+    public List<Transaction> toSyncedEntities() {
+        return TransactionMapper.toSyncedEntities(dtos, pendingDeletes, now);
+    }
+
+    @Benchmark
+    public List<Transaction> decodeAndMap() {
+        List<TransactionDto> decoded = gson.fromJson(new StringReader(json), TRANSACTION_LIST_TYPE);
+        return TransactionMapper.toSyncedEntities(decoded, Collections.emptySet(), now);
+    }
+}
@@ -5,4 +5,5 @@ plugins {
     alias(libs.plugins.kotlin.kapt) apply false
     alias(libs.plugins.kotlin.compose) apply false
     alias(libs.plugins.hilt) apply false
+    alias(libs.plugins.jmh) apply false
 }
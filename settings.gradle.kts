@@ -21,3 +21,4 @@ dependencyResolutionManagement {
 
 rootProject.name = "appfinanceiro"
 include(":app")
+include(":benchmark")